@@ -1,8 +1,20 @@
 package ro.dede.bidbridge.engine.adapters;
 
-// Adapter-specific config and identity passed to adapter invocations.
+import java.net.URI;
+
+// Adapter-specific config and identity passed to adapter invocations, plus payloads shared within the auction.
+// endpointUri is the pre-parsed config endpoint when the registry resolved it; null otherwise.
 public record AdapterContext(
         String bidder,
-        AdapterProperties.AdapterConfig config
+        AdapterProperties.AdapterConfig config,
+        AuctionPayloads payloads,
+        URI endpointUri
 ) {
+    public AdapterContext(String bidder, AdapterProperties.AdapterConfig config) {
+        this(bidder, config, new AuctionPayloads());
+    }
+
+    public AdapterContext(String bidder, AdapterProperties.AdapterConfig config, AuctionPayloads payloads) {
+        this(bidder, config, payloads, null);
+    }
 }
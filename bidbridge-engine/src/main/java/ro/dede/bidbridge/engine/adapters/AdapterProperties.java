@@ -21,6 +21,14 @@ public class AdapterProperties {
         private Double bidProbability;
         private Double fixedPrice;
         private String admTemplate;
+        private boolean http2 = false;
+        // Contractual request cap; null or <= 0 means unlimited.
+        private Integer maxQps;
+        private ConnectionPoolConfig connectionPool = new ConnectionPoolConfig();
+        private CompressionConfig compression = new CompressionConfig();
+        private AdaptiveTimeoutConfig adaptiveTimeout = new AdaptiveTimeoutConfig();
+        private CircuitBreakerConfig circuitBreaker = new CircuitBreakerConfig();
+        private ThrottlingConfig throttling = new ThrottlingConfig();
 
         public boolean isEnabled() {
             return enabled;
@@ -69,5 +77,333 @@ public class AdapterProperties {
         public void setAdmTemplate(String admTemplate) {
             this.admTemplate = admTemplate;
         }
+
+        public boolean isHttp2() {
+            return http2;
+        }
+
+        public void setHttp2(boolean http2) {
+            this.http2 = http2;
+        }
+
+        public Integer getMaxQps() {
+            return maxQps;
+        }
+
+        public void setMaxQps(Integer maxQps) {
+            this.maxQps = maxQps;
+        }
+
+        public ConnectionPoolConfig getConnectionPool() {
+            return connectionPool;
+        }
+
+        public void setConnectionPool(ConnectionPoolConfig connectionPool) {
+            this.connectionPool = connectionPool;
+        }
+
+        public CompressionConfig getCompression() {
+            return compression;
+        }
+
+        public void setCompression(CompressionConfig compression) {
+            this.compression = compression;
+        }
+
+        public AdaptiveTimeoutConfig getAdaptiveTimeout() {
+            return adaptiveTimeout;
+        }
+
+        public void setAdaptiveTimeout(AdaptiveTimeoutConfig adaptiveTimeout) {
+            this.adaptiveTimeout = adaptiveTimeout;
+        }
+
+        public CircuitBreakerConfig getCircuitBreaker() {
+            return circuitBreaker;
+        }
+
+        public void setCircuitBreaker(CircuitBreakerConfig circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        public ThrottlingConfig getThrottling() {
+            return throttling;
+        }
+
+        public void setThrottling(ThrottlingConfig throttling) {
+            this.throttling = throttling;
+        }
+    }
+
+    // Samples calls by the adapter's recent bid rate for similar traffic; explorationRate is the minimum call share.
+    public static class ThrottlingConfig {
+        private boolean enabled = false;
+        private double targetBidRate = 0.2;
+        private double explorationRate = 0.05;
+        private int minSamples = 100;
+        private long windowMs = 300_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getTargetBidRate() {
+            return targetBidRate;
+        }
+
+        public void setTargetBidRate(double targetBidRate) {
+            this.targetBidRate = targetBidRate;
+        }
+
+        public double getExplorationRate() {
+            return explorationRate;
+        }
+
+        public void setExplorationRate(double explorationRate) {
+            this.explorationRate = explorationRate;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        public long getWindowMs() {
+            return windowMs;
+        }
+
+        public void setWindowMs(long windowMs) {
+            this.windowMs = windowMs;
+        }
+    }
+
+    // Opens on a rolling timeout/error rate, skips the adapter while open, then probes with a fraction of traffic.
+    public static class CircuitBreakerConfig {
+        private boolean enabled = false;
+        private double failureRateThreshold = 0.5;
+        private int minCalls = 20;
+        private long windowMs = 10_000;
+        private long openMs = 5_000;
+        private double halfOpenProbeFraction = 0.1;
+        private int halfOpenSuccesses = 5;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public int getMinCalls() {
+            return minCalls;
+        }
+
+        public void setMinCalls(int minCalls) {
+            this.minCalls = minCalls;
+        }
+
+        public long getWindowMs() {
+            return windowMs;
+        }
+
+        public void setWindowMs(long windowMs) {
+            this.windowMs = windowMs;
+        }
+
+        public long getOpenMs() {
+            return openMs;
+        }
+
+        public void setOpenMs(long openMs) {
+            this.openMs = openMs;
+        }
+
+        public double getHalfOpenProbeFraction() {
+            return halfOpenProbeFraction;
+        }
+
+        public void setHalfOpenProbeFraction(double halfOpenProbeFraction) {
+            this.halfOpenProbeFraction = halfOpenProbeFraction;
+        }
+
+        public int getHalfOpenSuccesses() {
+            return halfOpenSuccesses;
+        }
+
+        public void setHalfOpenSuccesses(int halfOpenSuccesses) {
+            this.halfOpenSuccesses = halfOpenSuccesses;
+        }
+    }
+
+    // Per-adapter timeout derived from recent latency: percentile + margin, never above timeoutMs or the budget.
+    public static class AdaptiveTimeoutConfig {
+        private boolean enabled = false;
+        private double percentile = 0.95;
+        private int marginMs = 10;
+        private int minTimeoutMs = 20;
+        private int minSamples = 50;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public int getMarginMs() {
+            return marginMs;
+        }
+
+        public void setMarginMs(int marginMs) {
+            this.marginMs = marginMs;
+        }
+
+        public int getMinTimeoutMs() {
+            return minTimeoutMs;
+        }
+
+        public void setMinTimeoutMs(int minTimeoutMs) {
+            this.minTimeoutMs = minTimeoutMs;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+    }
+
+    // Per-adapter gzip: request bodies at or above minSizeBytes are compressed, gzip responses are accepted.
+    public static class CompressionConfig {
+        private boolean enabled = false;
+        private int minSizeBytes = 1024;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMinSizeBytes() {
+            return minSizeBytes;
+        }
+
+        public void setMinSizeBytes(int minSizeBytes) {
+            this.minSizeBytes = minSizeBytes;
+        }
+    }
+
+    // Per-adapter Netty connection pool and socket settings; null values keep Reactor Netty defaults.
+    public static class ConnectionPoolConfig {
+        private Integer maxConnections;
+        private Integer pendingAcquireMaxCount;
+        private Integer pendingAcquireTimeoutMs;
+        private Integer maxIdleTimeMs;
+        private Integer maxLifeTimeMs;
+        private Integer evictInBackgroundMs;
+        private Integer connectTimeoutMs;
+        private boolean tcpNoDelay = true;
+        private boolean soKeepAlive = true;
+
+        public Integer getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Integer getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(Integer pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Integer getPendingAcquireTimeoutMs() {
+            return pendingAcquireTimeoutMs;
+        }
+
+        public void setPendingAcquireTimeoutMs(Integer pendingAcquireTimeoutMs) {
+            this.pendingAcquireTimeoutMs = pendingAcquireTimeoutMs;
+        }
+
+        public Integer getMaxIdleTimeMs() {
+            return maxIdleTimeMs;
+        }
+
+        public void setMaxIdleTimeMs(Integer maxIdleTimeMs) {
+            this.maxIdleTimeMs = maxIdleTimeMs;
+        }
+
+        public Integer getMaxLifeTimeMs() {
+            return maxLifeTimeMs;
+        }
+
+        public void setMaxLifeTimeMs(Integer maxLifeTimeMs) {
+            this.maxLifeTimeMs = maxLifeTimeMs;
+        }
+
+        public Integer getEvictInBackgroundMs() {
+            return evictInBackgroundMs;
+        }
+
+        public void setEvictInBackgroundMs(Integer evictInBackgroundMs) {
+            this.evictInBackgroundMs = evictInBackgroundMs;
+        }
+
+        public Integer getConnectTimeoutMs() {
+            return connectTimeoutMs;
+        }
+
+        public void setConnectTimeoutMs(Integer connectTimeoutMs) {
+            this.connectTimeoutMs = connectTimeoutMs;
+        }
+
+        public boolean isTcpNoDelay() {
+            return tcpNoDelay;
+        }
+
+        public void setTcpNoDelay(boolean tcpNoDelay) {
+            this.tcpNoDelay = tcpNoDelay;
+        }
+
+        public boolean isSoKeepAlive() {
+            return soKeepAlive;
+        }
+
+        public void setSoKeepAlive(boolean soKeepAlive) {
+            this.soKeepAlive = soKeepAlive;
+        }
     }
 }
@@ -1,38 +1,137 @@
 package ro.dede.bidbridge.engine.adapters;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.adapters.circuit.AdapterCircuitBreakers;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Registry that exposes enabled bidder adapters based on configuration.
+ * Enabled adapters are resolved once into an immutable snapshot; {@link #refresh()} rebuilds and swaps it
+ * after configuration changes, so the request path is a single volatile read.
  */
 @Component
 public class AdapterRegistry {
     private final Map<String, BidderAdapter> adapters;
-    private final AdapterProperties properties;
+    private final AdapterCircuitBreakers circuitBreakers;
+    // Replaced only together with the snapshot, under the refresh lock.
+    private volatile AdapterProperties properties;
+    private volatile Snapshot snapshot;
 
-    public AdapterRegistry(Map<String, BidderAdapter> adapters, AdapterProperties properties) {
+    @Autowired
+    public AdapterRegistry(Map<String, BidderAdapter> adapters,
+                           AdapterProperties properties,
+                           AdapterCircuitBreakers circuitBreakers) {
         this.adapters = adapters;
         this.properties = properties;
+        this.circuitBreakers = circuitBreakers;
+        this.snapshot = buildSnapshot();
     }
 
-    // Returns only adapters explicitly enabled via configuration.
+    // Returns only adapters explicitly enabled via configuration whose circuit currently admits a call.
     public List<AdapterEntry> activeAdapters() {
-        var active = new ArrayList<AdapterEntry>();
+        var current = snapshot;
+        if (!current.circuitBreakers()) {
+            return current.enabled();
+        }
+        var active = new ArrayList<AdapterEntry>(current.enabled().size());
+        for (var entry : current.enabled()) {
+            if (circuitBreakers.allowRequest(entry.name(), entry.config())) {
+                active.add(entry);
+            }
+        }
+        return active;
+    }
+
+    // True when at least one adapter is enabled, regardless of circuit state.
+    public boolean hasEnabledAdapters() {
+        return !snapshot.enabled().isEmpty();
+    }
+
+    // True when activeAdapters() is the fixed, non-empty enabled set: no circuit breaker can empty it.
+    public boolean hasStableAdapters() {
+        var current = snapshot;
+        return !current.enabled().isEmpty() && !current.circuitBreakers();
+    }
+
+    /**
+     * Re-reads adapter configuration and atomically replaces the snapshot.
+     * Auctions already running keep the entries they started with.
+     */
+    public synchronized void refresh() {
+        snapshot = buildSnapshot();
+    }
+
+    /**
+     * Switches to a new adapter configuration (e.g. a reloaded config file) and replaces the snapshot.
+     */
+    public synchronized void refresh(AdapterProperties next) {
+        properties = next;
+        snapshot = buildSnapshot();
+    }
+
+    // Configuration the current snapshot was built from.
+    public AdapterProperties properties() {
+        return properties;
+    }
+
+    // Feeds an adapter outcome back into its circuit breaker.
+    public void recordOutcome(AdapterEntry entry, AdapterResultStatus status) {
+        circuitBreakers.record(entry.name(), entry.config(), status);
+    }
+
+    private Snapshot buildSnapshot() {
+        var enabled = new ArrayList<AdapterEntry>();
+        var anyBreaker = false;
         for (var entry : adapters.entrySet()) {
             var name = entry.getKey();
             var config = properties.getConfigs().get(name);
             if (config == null || !config.isEnabled()) {
                 continue;
             }
-            active.add(new AdapterEntry(name, entry.getValue(), config));
+            enabled.add(new AdapterEntry(name, entry.getValue(), config));
+            anyBreaker |= config.getCircuitBreaker() != null && config.getCircuitBreaker().isEnabled();
         }
-        return active;
+        return new Snapshot(List.copyOf(enabled), anyBreaker);
+    }
+
+    private record Snapshot(List<AdapterEntry> enabled, boolean circuitBreakers) {
     }
 
-    public record AdapterEntry(String name, BidderAdapter adapter, AdapterProperties.AdapterConfig config) {
+    /**
+     * Enabled adapter with values derived from its config: the parsed endpoint (null when unset or invalid) and
+     * the static timeout ({@link Integer#MAX_VALUE} when unset, leaving only the request budget).
+     */
+    public record AdapterEntry(String name,
+                               BidderAdapter adapter,
+                               AdapterProperties.AdapterConfig config,
+                               URI endpointUri,
+                               int timeoutMs) {
+        public AdapterEntry(String name, BidderAdapter adapter, AdapterProperties.AdapterConfig config) {
+            this(name, adapter, config, parseEndpoint(config), staticTimeoutMs(config));
+        }
+
+        private static URI parseEndpoint(AdapterProperties.AdapterConfig config) {
+            var endpoint = config == null ? null : config.getEndpoint();
+            if (endpoint == null || endpoint.isBlank()) {
+                return null;
+            }
+            try {
+                return URI.create(endpoint);
+            } catch (IllegalArgumentException ex) {
+                // Left to the HTTP client, which reports it as an adapter error per call.
+                return null;
+            }
+        }
+
+        private static int staticTimeoutMs(AdapterProperties.AdapterConfig config) {
+            var timeoutMs = config == null ? null : config.getTimeoutMs();
+            return timeoutMs == null ? Integer.MAX_VALUE : timeoutMs;
+        }
     }
 }
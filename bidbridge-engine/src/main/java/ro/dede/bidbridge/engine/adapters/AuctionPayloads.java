@@ -0,0 +1,45 @@
+package ro.dede.bidbridge.engine.adapters;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Outbound payloads encoded at most once per auction and shared read-only by all adapters.
+ */
+public final class AuctionPayloads {
+    private volatile byte[] openRtb;
+    private volatile byte[] openRtbGzip;
+
+    // Returns the shared OpenRTB body, encoding it on first use.
+    public byte[] openRtb(Supplier<byte[]> encoder) {
+        var current = openRtb;
+        if (current == null) {
+            synchronized (this) {
+                current = openRtb;
+                if (current == null) {
+                    current = encoder.get();
+                    openRtb = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Compresses a body; the shared OpenRTB body is compressed once and reused by every adapter.
+    public byte[] gzip(byte[] body, UnaryOperator<byte[]> compressor) {
+        if (body != openRtb) {
+            return compressor.apply(body);
+        }
+        var current = openRtbGzip;
+        if (current == null) {
+            synchronized (this) {
+                current = openRtbGzip;
+                if (current == null) {
+                    current = compressor.apply(body);
+                    openRtbGzip = current;
+                }
+            }
+        }
+        return current;
+    }
+}
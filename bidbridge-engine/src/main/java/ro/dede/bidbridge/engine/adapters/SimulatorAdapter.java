@@ -6,6 +6,7 @@ import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
 import ro.dede.bidbridge.engine.domain.adapter.SelectedBid;
 import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
 
+import java.util.ArrayList;
 import java.util.concurrent.ThreadLocalRandom;
 
 // Configurable mock adapter for MVP demos and tests.
@@ -30,8 +31,16 @@ public class SimulatorAdapter implements BidderAdapter {
         }
         var price = config.getFixedPrice() == null ? DEFAULT_PRICE : config.getFixedPrice();
         var adm = config.getAdmTemplate() == null ? DEFAULT_ADM : config.getAdmTemplate();
-        var impid = request.imps().getFirst().id();
-        var bid = new SelectedBid("sim-" + impid, impid, price, adm, null);
-        return AdapterResult.bid(context.bidder(), bid, null);
+        var imps = request.imps();
+        if (imps.size() == 1) {
+            var impid = imps.getFirst().id();
+            return AdapterResult.bid(context.bidder(), new SelectedBid("sim-" + impid, impid, price, adm, null), null);
+        }
+        // Bids on every imp so multi-imp requests can fill each slot.
+        var bids = new ArrayList<SelectedBid>(imps.size());
+        for (var imp : imps) {
+            bids.add(new SelectedBid("sim-" + imp.id(), imp.id(), price, adm, null));
+        }
+        return AdapterResult.bids(context.bidder(), bids, null);
     }
 }
@@ -0,0 +1,140 @@
+package ro.dede.bidbridge.engine.adapters.circuit;
+
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free circuit breaker for one adapter.
+ * CLOSED tracks a rolling failure rate; OPEN skips the adapter for openMs; HALF_OPEN lets a fraction of
+ * traffic through as probes and closes after enough successful probes (any failed probe re-opens).
+ */
+final class AdapterCircuitBreaker {
+    private static final int WINDOW_SLICES = 10;
+
+    private final AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
+    private final AtomicLong openedAtMs = new AtomicLong();
+    private final AtomicInteger probeSuccesses = new AtomicInteger();
+    private final Slice[] slices = new Slice[WINDOW_SLICES];
+
+    AdapterCircuitBreaker() {
+        for (var i = 0; i < WINDOW_SLICES; i++) {
+            slices[i] = new Slice();
+        }
+    }
+
+    CircuitState state() {
+        return state.get();
+    }
+
+    long openedAtMs() {
+        return openedAtMs.get();
+    }
+
+    /**
+     * Returns whether a call may proceed; may move OPEN to HALF_OPEN once the open period has elapsed.
+     */
+    boolean allowRequest(AdapterProperties.CircuitBreakerConfig config, long nowMs, Transitions transitions) {
+        var current = state.get();
+        if (current == CircuitState.OPEN) {
+            if (nowMs - openedAtMs.get() < config.getOpenMs()) {
+                return false;
+            }
+            if (state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN)) {
+                probeSuccesses.set(0);
+                transitions.on(CircuitState.HALF_OPEN);
+            }
+            current = state.get();
+        }
+        if (current == CircuitState.HALF_OPEN) {
+            return ThreadLocalRandom.current().nextDouble() < config.getHalfOpenProbeFraction();
+        }
+        return true;
+    }
+
+    void onResult(boolean failure, AdapterProperties.CircuitBreakerConfig config, long nowMs, Transitions transitions) {
+        var current = state.get();
+        if (current == CircuitState.HALF_OPEN) {
+            if (failure) {
+                open(CircuitState.HALF_OPEN, nowMs, transitions);
+            } else if (probeSuccesses.incrementAndGet() >= config.getHalfOpenSuccesses()
+                    && state.compareAndSet(CircuitState.HALF_OPEN, CircuitState.CLOSED)) {
+                resetWindow();
+                transitions.on(CircuitState.CLOSED);
+            }
+            return;
+        }
+        if (current == CircuitState.OPEN) {
+            // Late results from calls started before the circuit opened.
+            return;
+        }
+        var sliceMs = Math.max(1, config.getWindowMs() / WINDOW_SLICES);
+        var sliceNo = nowMs / sliceMs;
+        var slice = slices[(int) (sliceNo % WINDOW_SLICES)];
+        var epoch = slice.epoch.get();
+        if (epoch != sliceNo && slice.epoch.compareAndSet(epoch, sliceNo)) {
+            slice.calls.set(0);
+            slice.failures.set(0);
+        }
+        slice.calls.incrementAndGet();
+        if (!failure) {
+            return;
+        }
+        slice.failures.incrementAndGet();
+        var oldest = sliceNo - WINDOW_SLICES + 1;
+        long calls = 0;
+        long failures = 0;
+        for (var candidate : slices) {
+            if (candidate.epoch.get() >= oldest) {
+                calls += candidate.calls.get();
+                failures += candidate.failures.get();
+            }
+        }
+        if (calls >= config.getMinCalls() && failures >= calls * config.getFailureRateThreshold()) {
+            open(CircuitState.CLOSED, nowMs, transitions);
+        }
+    }
+
+    // Failure rate over the rolling window, for diagnostics.
+    double failureRate(AdapterProperties.CircuitBreakerConfig config, long nowMs) {
+        var sliceMs = Math.max(1, config.getWindowMs() / WINDOW_SLICES);
+        var oldest = nowMs / sliceMs - WINDOW_SLICES + 1;
+        long calls = 0;
+        long failures = 0;
+        for (var slice : slices) {
+            if (slice.epoch.get() >= oldest) {
+                calls += slice.calls.get();
+                failures += slice.failures.get();
+            }
+        }
+        return calls == 0 ? 0.0 : (double) failures / calls;
+    }
+
+    private void open(CircuitState from, long nowMs, Transitions transitions) {
+        // Stamp first so readers never see OPEN with a stale open time.
+        openedAtMs.set(nowMs);
+        if (state.compareAndSet(from, CircuitState.OPEN)) {
+            transitions.on(CircuitState.OPEN);
+        }
+    }
+
+    private void resetWindow() {
+        for (var slice : slices) {
+            slice.epoch.set(Long.MIN_VALUE);
+        }
+    }
+
+    // Callback for state changes, so the owner can publish metrics.
+    interface Transitions {
+        void on(CircuitState to);
+    }
+
+    private static final class Slice {
+        private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+    }
+}
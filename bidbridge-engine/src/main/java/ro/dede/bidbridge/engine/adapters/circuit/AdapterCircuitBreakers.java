@@ -0,0 +1,102 @@
+package ro.dede.bidbridge.engine.adapters.circuit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-adapter circuit breakers consulted by the adapter registry and fed by adapter outcomes.
+ */
+@Component
+public class AdapterCircuitBreakers {
+    private final MetricsCollector metrics;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, AdapterCircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdapterCircuitBreakers(MetricsCollector metrics) {
+        this(metrics, System::currentTimeMillis);
+    }
+
+    AdapterCircuitBreakers(MetricsCollector metrics, LongSupplier clock) {
+        this.metrics = metrics;
+        this.clock = clock;
+    }
+
+    // Adapters without an enabled breaker are always allowed.
+    public boolean allowRequest(String adapter, AdapterProperties.AdapterConfig config) {
+        var breakerConfig = breakerConfig(config);
+        if (breakerConfig == null) {
+            return true;
+        }
+        var allowed = breaker(adapter).allowRequest(breakerConfig, clock.getAsLong(), to -> onTransition(adapter, to));
+        if (!allowed) {
+            metrics.recordCircuitRejected(adapter);
+        }
+        return allowed;
+    }
+
+    // Timeouts and errors count as failures; bids and no-bids as successes.
+    public void record(String adapter, AdapterProperties.AdapterConfig config, AdapterResultStatus status) {
+        var breakerConfig = breakerConfig(config);
+        if (breakerConfig == null) {
+            return;
+        }
+        var failure = status == AdapterResultStatus.TIMEOUT || status == AdapterResultStatus.ERROR;
+        breaker(adapter).onResult(failure, breakerConfig, clock.getAsLong(), to -> onTransition(adapter, to));
+    }
+
+    public CircuitState state(String adapter) {
+        var breaker = breakers.get(adapter);
+        return breaker == null ? CircuitState.CLOSED : breaker.state();
+    }
+
+    /**
+     * Current state per adapter, for the actuator endpoint.
+     */
+    public Map<String, CircuitView> view(AdapterProperties properties) {
+        var now = clock.getAsLong();
+        var view = new TreeMap<String, CircuitView>();
+        breakers.forEach((adapter, breaker) -> {
+            var breakerConfig = breakerConfig(properties.getConfigs().get(adapter));
+            var failureRate = breakerConfig == null ? 0.0 : breaker.failureRate(breakerConfig, now);
+            var openedAt = breaker.state() == CircuitState.CLOSED ? null : breaker.openedAtMs();
+            view.put(adapter, new CircuitView(breaker.state(), failureRate, openedAt));
+        });
+        return view;
+    }
+
+    private AdapterCircuitBreaker breaker(String adapter) {
+        var breaker = breakers.get(adapter);
+        if (breaker != null) {
+            return breaker;
+        }
+        return breakers.computeIfAbsent(adapter, name -> {
+            var created = new AdapterCircuitBreaker();
+            metrics.registerCircuitState(name, () -> created.state().ordinal());
+            return created;
+        });
+    }
+
+    private void onTransition(String adapter, CircuitState to) {
+        metrics.recordCircuitTransition(adapter, to.name().toLowerCase());
+    }
+
+    private static AdapterProperties.CircuitBreakerConfig breakerConfig(AdapterProperties.AdapterConfig config) {
+        if (config == null || config.getCircuitBreaker() == null || !config.getCircuitBreaker().isEnabled()) {
+            return null;
+        }
+        return config.getCircuitBreaker();
+    }
+
+    public record CircuitView(CircuitState state, double failureRate, Long openedAtMs) {
+    }
+}
@@ -0,0 +1,28 @@
+package ro.dede.bidbridge.engine.adapters.circuit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.adapters.AdapterRegistry;
+
+import java.util.Map;
+
+/**
+ * Exposes adapter circuit breaker states at /actuator/circuitbreakers.
+ */
+@Component
+@Endpoint(id = "circuitbreakers")
+public class CircuitBreakerEndpoint {
+    private final AdapterCircuitBreakers breakers;
+    private final AdapterRegistry registry;
+
+    public CircuitBreakerEndpoint(AdapterCircuitBreakers breakers, AdapterRegistry registry) {
+        this.breakers = breakers;
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public Map<String, AdapterCircuitBreakers.CircuitView> circuits() {
+        return breakers.view(registry.properties());
+    }
+}
@@ -0,0 +1,7 @@
+package ro.dede.bidbridge.engine.adapters.circuit;
+
+public enum CircuitState {
+    CLOSED,
+    HALF_OPEN,
+    OPEN
+}
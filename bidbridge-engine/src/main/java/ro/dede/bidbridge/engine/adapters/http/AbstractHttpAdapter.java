@@ -9,14 +9,23 @@ import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
 import ro.dede.bidbridge.engine.domain.adapter.SelectedBid;
 import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
 
+import java.util.List;
+
 /**
  * Base class for HTTP bidder adapters using HttpBidderClient.
  */
 public abstract class AbstractHttpAdapter<Req, Resp> implements BidderAdapter {
     private final HttpBidderClient<Resp> client;
+    // Set for adapters that send the standard OpenRTB body; null when the adapter builds its own payload.
+    private final OpenRtbPayloadEncoder sharedEncoder;
 
     protected AbstractHttpAdapter(HttpBidderClient<Resp> client) {
+        this(client, null);
+    }
+
+    protected AbstractHttpAdapter(HttpBidderClient<Resp> client, OpenRtbPayloadEncoder sharedEncoder) {
         this.client = client;
+        this.sharedEncoder = sharedEncoder;
     }
 
     @Override
@@ -25,14 +34,22 @@ public abstract class AbstractHttpAdapter<Req, Resp> implements BidderAdapter {
         if (endpoint == null || endpoint.isBlank()) {
             return Mono.just(error(context, null, null, "missing_endpoint", "Missing adapter endpoint"));
         }
-        var httpRequest = buildRequest(request);
-        return client.postJson(endpoint, httpRequest)
+        return client.postJson(context, endpoint, requestBody(request, context))
                 .flatMap(response -> mapResponse(request, context, response));
     }
 
     protected abstract Req buildRequest(NormalizedBidRequest request);
 
-    protected abstract SelectedBid extractBid(NormalizedBidRequest request, Resp response);
+    // Standard OpenRTB bodies are encoded once per auction and the same bytes are posted to every bidder.
+    private Object requestBody(NormalizedBidRequest request, AdapterContext context) {
+        if (sharedEncoder == null || context.payloads() == null) {
+            return buildRequest(request);
+        }
+        return context.payloads().openRtb(() -> sharedEncoder.encode(request));
+    }
+
+    // Every priced bid in the response, across imps; non-positive prices are dropped afterwards.
+    protected abstract List<SelectedBid> extractBids(NormalizedBidRequest request, Resp response);
 
     private Mono<AdapterResult> mapResponse(NormalizedBidRequest request,
                                             AdapterContext context,
@@ -48,11 +65,18 @@ public abstract class AbstractHttpAdapter<Req, Resp> implements BidderAdapter {
         if (response.body() == null) {
             return Mono.just(AdapterResult.noBid(context.bidder(), debug));
         }
-        var selected = extractBid(request, response.body());
-        if (selected == null || selected.price() <= 0) {
+        var extracted = extractBids(request, response.body());
+        var selected = extracted == null ? List.<SelectedBid>of() : extracted;
+        if (selected.stream().anyMatch(bid -> bid == null || bid.price() <= 0)) {
+            selected = selected.stream().filter(bid -> bid != null && bid.price() > 0).toList();
+        }
+        if (selected.isEmpty()) {
             return Mono.just(AdapterResult.noBid(context.bidder(), debug));
         }
-        return Mono.just(new AdapterResult(context.bidder(), AdapterResultStatus.BID, null, selected, debug));
+        if (selected.size() == 1) {
+            return Mono.just(new AdapterResult(context.bidder(), AdapterResultStatus.BID, null, selected.getFirst(), debug));
+        }
+        return Mono.just(AdapterResult.bids(context.bidder(), selected, debug));
     }
 
     protected AdapterResult error(AdapterContext context,
@@ -0,0 +1,200 @@
+package ro.dede.bidbridge.engine.adapters.http;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Builds one WebClient per adapter, each with its own Netty connection pool and pool gauges.
+ * Adapters with {@code http2} enabled multiplex concurrent calls over the pool's connections.
+ */
+@Component
+public class BidderWebClients implements DisposableBean {
+    private static final String POOL_PREFIX = "bidder-";
+
+    private final WebClient.Builder builder;
+    private final MetricsCollector metrics;
+    private final WebClient shared;
+    private final ConcurrentMap<String, PooledClient> clients = new ConcurrentHashMap<>();
+    // Pool currently owning the gauges for each adapter/remote pair.
+    private final ConcurrentMap<String, ConnectionPoolMetrics> gaugeOwners = new ConcurrentHashMap<>();
+
+    public BidderWebClients(WebClient.Builder builder, MetricsCollector metrics) {
+        this.builder = builder;
+        this.metrics = metrics;
+        this.shared = builder.clone().build();
+    }
+
+    // Client on the default shared pool, for callers without adapter identity.
+    public WebClient shared() {
+        return shared;
+    }
+
+    public WebClient forAdapter(String adapter, AdapterProperties.AdapterConfig config) {
+        var transport = Transport.of(config);
+        var current = clients.get(adapter);
+        if (current != null && current.transport().equals(transport)) {
+            return current.webClient();
+        }
+        return clients.compute(adapter, (name, existing) -> {
+            if (existing != null && existing.transport().equals(transport)) {
+                return existing;
+            }
+            // Transport settings were replaced; retire the old pool once its in-flight calls finish.
+            if (existing != null) {
+                existing.provider().disposeLater().subscribe();
+            }
+            return create(name, transport);
+        }).webClient();
+    }
+
+    private PooledClient create(String adapter, Transport transport) {
+        var pool = transport.pool();
+        var provider = connectionProvider(adapter, pool);
+        var httpClient = HttpClient.create(provider)
+                .option(ChannelOption.TCP_NODELAY, pool.tcpNoDelay())
+                .option(ChannelOption.SO_KEEPALIVE, pool.soKeepAlive());
+        if (pool.connectTimeoutMs() != null) {
+            httpClient = httpClient.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, pool.connectTimeoutMs());
+        }
+        if (transport.compress()) {
+            // Sends Accept-Encoding: gzip and decompresses responses as they stream in.
+            httpClient = httpClient.compress(true);
+        }
+        if (transport.http2()) {
+            httpClient = http2(httpClient, transport.secure());
+        }
+        var webClient = builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        return new PooledClient(transport, provider, webClient);
+    }
+
+    // HTTP/1.1 stays enabled as fallback: ALPN picks it over TLS, and h2c falls back when the upgrade is refused.
+    private HttpClient http2(HttpClient httpClient, boolean secure) {
+        if (secure) {
+            return httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        return httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+
+    private ConnectionProvider connectionProvider(String adapter, PoolSettings pool) {
+        var spec = ConnectionProvider.builder(POOL_PREFIX + adapter)
+                .metrics(true, () -> new PoolMeterRegistrar(adapter));
+        if (pool.maxConnections() != null) {
+            spec.maxConnections(pool.maxConnections());
+        }
+        if (pool.pendingAcquireMaxCount() != null) {
+            spec.pendingAcquireMaxCount(pool.pendingAcquireMaxCount());
+        }
+        if (pool.pendingAcquireTimeoutMs() != null) {
+            spec.pendingAcquireTimeout(Duration.ofMillis(pool.pendingAcquireTimeoutMs()));
+        }
+        if (pool.maxIdleTimeMs() != null) {
+            spec.maxIdleTime(Duration.ofMillis(pool.maxIdleTimeMs()));
+        }
+        if (pool.maxLifeTimeMs() != null) {
+            spec.maxLifeTime(Duration.ofMillis(pool.maxLifeTimeMs()));
+        }
+        if (pool.evictInBackgroundMs() != null) {
+            spec.evictInBackground(Duration.ofMillis(pool.evictInBackgroundMs()));
+        }
+        return spec.build();
+    }
+
+    @Override
+    public void destroy() {
+        clients.values().forEach(client -> client.provider().dispose());
+        clients.clear();
+    }
+
+    private record PooledClient(Transport transport, ConnectionProvider provider, WebClient webClient) {
+    }
+
+    // Settings that require a new client when changed, compared by value: a reload binds fresh config objects,
+    // and an unchanged adapter must keep its warm connections.
+    private record Transport(PoolSettings pool,
+                             boolean http2,
+                             boolean secure,
+                             boolean compress) {
+        static Transport of(AdapterProperties.AdapterConfig config) {
+            if (config == null) {
+                return new Transport(PoolSettings.of(null), false, false, false);
+            }
+            var endpoint = config.getEndpoint();
+            var secure = endpoint != null && endpoint.regionMatches(true, 0, "https:", 0, 6);
+            var compress = config.getCompression() != null && config.getCompression().isEnabled();
+            return new Transport(PoolSettings.of(config.getConnectionPool()), config.isHttp2(), secure, compress);
+        }
+    }
+
+    // Immutable copy of a connection pool config; an absent config means the defaults.
+    private record PoolSettings(Integer maxConnections,
+                                Integer pendingAcquireMaxCount,
+                                Integer pendingAcquireTimeoutMs,
+                                Integer maxIdleTimeMs,
+                                Integer maxLifeTimeMs,
+                                Integer evictInBackgroundMs,
+                                Integer connectTimeoutMs,
+                                boolean tcpNoDelay,
+                                boolean soKeepAlive) {
+        static PoolSettings of(AdapterProperties.ConnectionPoolConfig config) {
+            var effective = config == null ? new AdapterProperties.ConnectionPoolConfig() : config;
+            return new PoolSettings(effective.getMaxConnections(),
+                    effective.getPendingAcquireMaxCount(),
+                    effective.getPendingAcquireTimeoutMs(),
+                    effective.getMaxIdleTimeMs(),
+                    effective.getMaxLifeTimeMs(),
+                    effective.getEvictInBackgroundMs(),
+                    effective.getConnectTimeoutMs(),
+                    effective.isTcpNoDelay(),
+                    effective.isSoKeepAlive());
+        }
+    }
+
+    // Publishes pool gauges tagged with the adapter name instead of the generated pool id.
+    // A replaced pool only removes gauges it still owns, so it cannot drop its successor's gauges.
+    private final class PoolMeterRegistrar implements ConnectionProvider.MeterRegistrar {
+        private final String adapter;
+        private final ConcurrentMap<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+        private PoolMeterRegistrar(String adapter) {
+            this.adapter = adapter;
+        }
+
+        @Override
+        public void registerMetrics(String poolName,
+                                    String id,
+                                    SocketAddress remoteAddress,
+                                    ConnectionPoolMetrics pool) {
+            var remote = String.valueOf(remoteAddress);
+            pools.put(remote, pool);
+            if (gaugeOwners.put(adapter + '|' + remote, pool) != null) {
+                metrics.removeAdapterPool(adapter, remote);
+            }
+            metrics.registerAdapterPool(adapter, remote, pool);
+        }
+
+        @Override
+        public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+            var remote = String.valueOf(remoteAddress);
+            var pool = pools.remove(remote);
+            if (pool != null && gaugeOwners.remove(adapter + '|' + remote, pool)) {
+                metrics.removeAdapterPool(adapter, remote);
+            }
+        }
+    }
+}
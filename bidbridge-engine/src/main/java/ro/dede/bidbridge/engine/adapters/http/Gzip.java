@@ -0,0 +1,32 @@
+package ro.dede.bidbridge.engine.adapters.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip helper for outbound request bodies.
+ */
+final class Gzip {
+    static final String ENCODING = "gzip";
+
+    private Gzip() {
+    }
+
+    // Fastest level: bodies are small and sit on the auction's critical path, so latency beats ratio.
+    static byte[] compress(byte[] body) {
+        var out = new ByteArrayOutputStream(Math.max(64, body.length / 3));
+        try (var gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_SPEED);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+}
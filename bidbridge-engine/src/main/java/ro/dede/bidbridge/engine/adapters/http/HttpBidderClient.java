@@ -1,10 +1,17 @@
 package ro.dede.bidbridge.engine.adapters.http;
 
 import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.adapters.AdapterContext;
 
 /**
  * HTTP client abstraction for bidder integrations.
  */
 public interface HttpBidderClient<T> {
+    // Body is either a model object or a pre-encoded JSON byte[] shared across bidders.
     Mono<HttpBidderResponse<T>> postJson(String endpoint, Object body);
+
+    // Adapter-aware variant so implementations can apply per-adapter transport settings.
+    default Mono<HttpBidderResponse<T>> postJson(AdapterContext context, String endpoint, Object body) {
+        return postJson(endpoint, body);
+    }
 }
@@ -0,0 +1,21 @@
+package ro.dede.bidbridge.engine.adapters.http;
+
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Encodes the standard OpenRTB request body once, for adapters that send it unmodified.
+ */
+@Component
+public class OpenRtbPayloadEncoder {
+    private final JsonMapper mapper;
+
+    public OpenRtbPayloadEncoder(JsonMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    public byte[] encode(NormalizedBidRequest request) {
+        return mapper.writeValueAsBytes(OpenRtbRequestMapper.toBidRequest(request));
+    }
+}
@@ -0,0 +1,53 @@
+package ro.dede.bidbridge.engine.adapters.http;
+
+import ro.dede.bidbridge.engine.domain.normalized.ImpType;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
+import ro.dede.bidbridge.engine.domain.openrtb.*;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Maps a normalized request back to the standard OpenRTB wire model sent to bidders.
+ */
+public final class OpenRtbRequestMapper {
+
+    private OpenRtbRequestMapper() {
+    }
+
+    public static BidRequest toBidRequest(NormalizedBidRequest request) {
+        var imps = new ArrayList<Imp>(request.imps().size());
+        for (var imp : request.imps()) {
+            var banner = imp.type() == ImpType.BANNER ? new Banner(Map.of()) : null;
+            var video = imp.type() == ImpType.VIDEO ? new Video(Map.of()) : null;
+            var audio = imp.type() == ImpType.AUDIO ? new Audio(Map.of()) : null;
+            var nativeObject = imp.type() == ImpType.NATIVE ? new Native(Map.of()) : null;
+            imps.add(new Imp(imp.id(), banner, video, audio, nativeObject, imp.bidfloor(), imp.ext()));
+        }
+
+        var site = request.inventoryType() == InventoryType.SITE ? new Site(request.siteDomain(), request.siteExt()) : null;
+        var app = request.inventoryType() == InventoryType.APP ? new App(request.appBundle(), request.appExt()) : null;
+        var device = request.device() == null ? null : new Device(
+                request.device().ua(),
+                request.device().ip(),
+                request.device().os(),
+                request.device().devicetype(),
+                request.device().ext()
+        );
+        var user = request.userExt() == null ? null : new User(request.userExt());
+        var regs = request.regsExt() == null ? null : new Regs(request.regsExt());
+
+        return new BidRequest(
+                request.requestId(),
+                imps,
+                site,
+                app,
+                device,
+                user,
+                regs,
+                request.tmaxMs(),
+                request.ext()
+        );
+    }
+}
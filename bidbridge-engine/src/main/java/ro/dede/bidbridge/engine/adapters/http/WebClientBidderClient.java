@@ -2,33 +2,90 @@ package ro.dede.bidbridge.engine.adapters.http;
 
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.adapters.AdapterContext;
 import ro.dede.bidbridge.engine.domain.openrtb.BidResponse;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
 import ro.dede.bidbridge.engine.observability.RequestLoggingFilter;
 import ro.dede.bidbridge.engine.service.BadBidderResponseException;
 
+import java.net.URI;
+
 /**
  * WebClient-based implementation for BidResponse handling.
  */
 @Component
 public class WebClientBidderClient implements HttpBidderClient<BidResponse> {
+    private static final String IDENTITY_ENCODING = "identity";
+
     private final WebClient webClient;
+    private final BidderWebClients clients;
     private final Validator validator;
+    private final MetricsCollector metrics;
 
-    public WebClientBidderClient(WebClient.Builder builder, Validator validator) {
-        this.webClient = builder.build();
+    @Autowired
+    public WebClientBidderClient(BidderWebClients clients, Validator validator, MetricsCollector metrics) {
+        this.webClient = clients.shared();
+        this.clients = clients;
         this.validator = validator;
+        this.metrics = metrics;
     }
 
     @Override
     public Mono<HttpBidderResponse<BidResponse>> postJson(String endpoint, Object body) {
-        return Mono.deferContextual(context -> webClient.post()
-                .uri(endpoint)
+        return post(webClient, null, endpoint, body, null);
+    }
+
+    // Uses the adapter's own connection pool.
+    @Override
+    public Mono<HttpBidderResponse<BidResponse>> postJson(AdapterContext adapter, String endpoint, Object body) {
+        var client = clients.forAdapter(adapter.bidder(), adapter.config());
+        // The registry's pre-parsed endpoint skips URI template expansion on every call.
+        var uri = adapter.endpointUri() != null && adapter.config() != null
+                && endpoint.equals(adapter.config().getEndpoint()) ? adapter.endpointUri() : null;
+        // Only pre-encoded bodies are compressed; model objects are encoded by the WebClient codecs.
+        if (!(body instanceof byte[] bytes)) {
+            return post(client, uri, endpoint, body, null);
+        }
+        var compression = adapter.config() == null ? null : adapter.config().getCompression();
+        if (compression == null || !compression.isEnabled() || bytes.length < compression.getMinSizeBytes()) {
+            recordRequestBytes(adapter.bidder(), IDENTITY_ENCODING, bytes.length, bytes.length);
+            return post(client, uri, endpoint, bytes, null);
+        }
+        var gzipped = adapter.payloads() == null
+                ? compress(adapter.bidder(), bytes)
+                : adapter.payloads().gzip(bytes, raw -> compress(adapter.bidder(), raw));
+        recordRequestBytes(adapter.bidder(), Gzip.ENCODING, gzipped.length, bytes.length);
+        return post(client, uri, endpoint, gzipped, Gzip.ENCODING);
+    }
+
+    private byte[] compress(String bidder, byte[] body) {
+        var start = System.nanoTime();
+        var gzipped = Gzip.compress(body);
+        metrics.recordAdapterCompression(bidder, System.nanoTime() - start);
+        return gzipped;
+    }
+
+    private void recordRequestBytes(String bidder, String encoding, int wireBytes, int rawBytes) {
+        metrics.recordAdapterRequestBytes(bidder, encoding, wireBytes, rawBytes);
+    }
+
+    private Mono<HttpBidderResponse<BidResponse>> post(WebClient webClient,
+                                                      URI uri,
+                                                      String endpoint,
+                                                      Object body,
+                                                      String contentEncoding) {
+        return Mono.deferContextual(context -> (uri == null ? webClient.post().uri(endpoint) : webClient.post().uri(uri))
                 .headers(headers -> {
+                    if (contentEncoding != null) {
+                        headers.set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+                    }
                     var requestId = context.getOrDefault(RequestLoggingFilter.REQUEST_ID_ATTR, null);
                     if (requestId instanceof String requestIdValue && !requestIdValue.isBlank()) {
                         headers.set(RequestLoggingFilter.REQUEST_ID_HEADER, requestIdValue);
@@ -0,0 +1,89 @@
+package ro.dede.bidbridge.engine.adapters.stats;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps a sliding latency histogram per adapter and derives adaptive call timeouts from it.
+ */
+@Component
+public class AdapterLatencyTracker {
+    static final long WINDOW_MS = 60_000;
+    static final int WINDOW_SLICES = 6;
+    // Percentiles are recomputed at most this often per adapter; the hot path reads the cached value.
+    static final long REFRESH_MS = 1_000;
+
+    private final MetricsCollector metrics;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, AdapterLatency> adapters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdapterLatencyTracker(MetricsCollector metrics) {
+        this(metrics, System::currentTimeMillis);
+    }
+
+    AdapterLatencyTracker(MetricsCollector metrics, LongSupplier clock) {
+        this.metrics = metrics;
+        this.clock = clock;
+    }
+
+    // Records a completed call, or the applied timeout for a call that timed out.
+    public void record(String adapter, long latencyMs) {
+        latency(adapter).histogram.record(latencyMs);
+    }
+
+    /**
+     * Returns the adaptive timeout (percentile + margin, at least minTimeoutMs),
+     * or -1 when adaptive mode is off or the window has too few samples.
+     */
+    public int adaptiveTimeoutMs(String adapter, AdapterProperties.AdaptiveTimeoutConfig config) {
+        if (config == null || !config.isEnabled()) {
+            return -1;
+        }
+        var latency = latency(adapter);
+        var now = clock.getAsLong();
+        if (now - latency.computedAtMs < REFRESH_MS) {
+            return latency.timeoutMs;
+        }
+        var timeoutMs = -1;
+        if (latency.histogram.count() >= config.getMinSamples()) {
+            var percentile = latency.histogram.percentile(config.getPercentile());
+            timeoutMs = (int) Math.max(config.getMinTimeoutMs(), percentile + config.getMarginMs());
+        }
+        latency.timeoutMs = timeoutMs;
+        latency.computedAtMs = now;
+        latency.published.set(Math.max(timeoutMs, 0));
+        return timeoutMs;
+    }
+
+    private AdapterLatency latency(String adapter) {
+        var latency = adapters.get(adapter);
+        if (latency != null) {
+            return latency;
+        }
+        return adapters.computeIfAbsent(adapter, name -> {
+            var created = new AdapterLatency(new SlidingLatencyHistogram(WINDOW_MS, WINDOW_SLICES, clock));
+            metrics.registerAdapterAdaptiveTimeout(name, created.published);
+            return created;
+        });
+    }
+
+    private static final class AdapterLatency {
+        private final SlidingLatencyHistogram histogram;
+        private final AtomicInteger published = new AtomicInteger();
+        // Benign races: concurrent refreshes compute the same value.
+        private volatile int timeoutMs = -1;
+        private volatile long computedAtMs = Long.MIN_VALUE / 2;
+
+        private AdapterLatency(SlidingLatencyHistogram histogram) {
+            this.histogram = histogram;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ro.dede.bidbridge.engine.adapters.stats;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks each adapter's maximum bid price over a sliding window, lock-free.
+ * Prices are non-negative, so their IEEE-754 bit patterns order like the values and can be maxed as longs.
+ */
+@Component
+public class AdapterPriceTracker {
+    static final long WINDOW_MS = 600_000;
+    static final int WINDOW_SLICES = 10;
+
+    private final LongSupplier clock;
+    private final long sliceMs = WINDOW_MS / WINDOW_SLICES;
+    private final ConcurrentMap<String, Slice[]> adapters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdapterPriceTracker() {
+        this(System::currentTimeMillis);
+    }
+
+    AdapterPriceTracker(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    // Records one call at its best valid price in auction currency; no-bids count as observations with price 0.
+    public void record(String adapter, double price) {
+        var sliceNo = clock.getAsLong() / sliceMs;
+        var slices = slices(adapter);
+        var slice = slices[(int) (sliceNo % WINDOW_SLICES)];
+        var epoch = slice.epoch.get();
+        if (epoch != sliceNo && slice.epoch.compareAndSet(epoch, sliceNo)) {
+            slice.maxPriceBits.set(0);
+            slice.observations.set(0);
+        }
+        var bits = Double.doubleToRawLongBits(Math.max(0.0, price));
+        slice.maxPriceBits.accumulateAndGet(bits, Math::max);
+        slice.observations.incrementAndGet();
+    }
+
+    /**
+     * Highest price seen in the window, or NaN when fewer than minObservations calls were recorded.
+     */
+    public double maxPrice(String adapter, long minObservations) {
+        var slices = adapters.get(adapter);
+        if (slices == null) {
+            return Double.NaN;
+        }
+        var oldest = clock.getAsLong() / sliceMs - WINDOW_SLICES + 1;
+        long observations = 0;
+        long maxBits = 0;
+        for (var slice : slices) {
+            if (slice.epoch.get() < oldest) {
+                continue;
+            }
+            observations += slice.observations.get();
+            maxBits = Math.max(maxBits, slice.maxPriceBits.get());
+        }
+        return observations < Math.max(1, minObservations) ? Double.NaN : Double.longBitsToDouble(maxBits);
+    }
+
+    private Slice[] slices(String adapter) {
+        var slices = adapters.get(adapter);
+        if (slices != null) {
+            return slices;
+        }
+        return adapters.computeIfAbsent(adapter, name -> {
+            var created = new Slice[WINDOW_SLICES];
+            for (var i = 0; i < WINDOW_SLICES; i++) {
+                created[i] = new Slice();
+            }
+            return created;
+        });
+    }
+
+    private static final class Slice {
+        private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong maxPriceBits = new AtomicLong();
+        private final AtomicLong observations = new AtomicLong();
+    }
+}
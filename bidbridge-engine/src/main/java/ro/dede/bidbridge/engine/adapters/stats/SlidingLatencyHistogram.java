@@ -0,0 +1,133 @@
+package ro.dede.bidbridge.engine.adapters.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free latency histogram over a sliding time window.
+ * The window is split into slices that are recycled as time moves on; buckets are 1ms up to 128ms,
+ * then 4ms up to 512ms, then 16ms up to 2048ms, plus one overflow bucket.
+ */
+public final class SlidingLatencyHistogram {
+    private static final int FINE_LIMIT = 128;
+    private static final int MEDIUM_LIMIT = 512;
+    private static final int COARSE_LIMIT = 2048;
+    private static final int MEDIUM_STEP = 4;
+    private static final int COARSE_STEP = 16;
+    private static final int FINE_BUCKETS = FINE_LIMIT;
+    private static final int MEDIUM_BUCKETS = (MEDIUM_LIMIT - FINE_LIMIT) / MEDIUM_STEP;
+    private static final int COARSE_BUCKETS = (COARSE_LIMIT - MEDIUM_LIMIT) / COARSE_STEP;
+    static final int BUCKETS = FINE_BUCKETS + MEDIUM_BUCKETS + COARSE_BUCKETS + 1;
+
+    private final long sliceMs;
+    private final Slice[] slices;
+    private final LongSupplier clock;
+
+    public SlidingLatencyHistogram(long windowMs, int sliceCount, LongSupplier clock) {
+        if (windowMs <= 0 || sliceCount <= 0) {
+            throw new IllegalArgumentException("windowMs and sliceCount must be positive");
+        }
+        this.sliceMs = Math.max(1, windowMs / sliceCount);
+        this.slices = new Slice[sliceCount];
+        for (var i = 0; i < sliceCount; i++) {
+            slices[i] = new Slice();
+        }
+        this.clock = clock;
+    }
+
+    public void record(long latencyMs) {
+        var sliceNo = clock.getAsLong() / sliceMs;
+        var slice = slices[(int) (sliceNo % slices.length)];
+        var epoch = slice.epoch.get();
+        // First writer in a new period recycles the slice; concurrent writers may lose a few samples.
+        if (epoch != sliceNo && slice.epoch.compareAndSet(epoch, sliceNo)) {
+            for (var i = 0; i < BUCKETS; i++) {
+                slice.counts.set(i, 0);
+            }
+            slice.total.set(0);
+        }
+        slice.counts.incrementAndGet(bucketIndex(latencyMs));
+        slice.total.incrementAndGet();
+    }
+
+    // Number of samples inside the window.
+    public long count() {
+        var oldest = oldestLiveSlice();
+        long total = 0;
+        for (var slice : slices) {
+            if (slice.epoch.get() >= oldest) {
+                total += slice.total.get();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the upper bound (ms) of the bucket holding the given quantile, or -1 when the window is empty.
+     */
+    public long percentile(double quantile) {
+        var oldest = oldestLiveSlice();
+        var merged = new long[BUCKETS];
+        long total = 0;
+        for (var slice : slices) {
+            if (slice.epoch.get() < oldest) {
+                continue;
+            }
+            for (var i = 0; i < BUCKETS; i++) {
+                var count = slice.counts.get(i);
+                merged[i] += count;
+                total += count;
+            }
+        }
+        if (total == 0) {
+            return -1;
+        }
+        var rank = (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * total);
+        long seen = 0;
+        for (var i = 0; i < BUCKETS; i++) {
+            seen += merged[i];
+            if (seen >= Math.max(1, rank)) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(BUCKETS - 1);
+    }
+
+    private long oldestLiveSlice() {
+        return clock.getAsLong() / sliceMs - slices.length + 1;
+    }
+
+    static int bucketIndex(long latencyMs) {
+        if (latencyMs < FINE_LIMIT) {
+            return (int) Math.max(0, latencyMs);
+        }
+        if (latencyMs < MEDIUM_LIMIT) {
+            return FINE_BUCKETS + (int) ((latencyMs - FINE_LIMIT) / MEDIUM_STEP);
+        }
+        if (latencyMs < COARSE_LIMIT) {
+            return FINE_BUCKETS + MEDIUM_BUCKETS + (int) ((latencyMs - MEDIUM_LIMIT) / COARSE_STEP);
+        }
+        return BUCKETS - 1;
+    }
+
+    // Inclusive upper bound of a bucket in ms; the overflow bucket reports the largest tracked value.
+    static long bucketUpperBound(int index) {
+        if (index < FINE_BUCKETS) {
+            return index;
+        }
+        if (index < FINE_BUCKETS + MEDIUM_BUCKETS) {
+            return FINE_LIMIT + (long) (index - FINE_BUCKETS + 1) * MEDIUM_STEP - 1;
+        }
+        if (index < BUCKETS - 1) {
+            return MEDIUM_LIMIT + (long) (index - FINE_BUCKETS - MEDIUM_BUCKETS + 1) * COARSE_STEP - 1;
+        }
+        return COARSE_LIMIT;
+    }
+
+    private static final class Slice {
+        private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong total = new AtomicLong();
+    }
+}
@@ -0,0 +1,43 @@
+package ro.dede.bidbridge.engine.adapters.throttle;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-adapter QPS caps ({@code adapters.configs.<name>.maxQps}) backed by striped token buckets.
+ */
+@Component
+public class AdapterRateLimiter {
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, StripedTokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdapterRateLimiter() {
+        this(System::nanoTime);
+    }
+
+    AdapterRateLimiter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    // True when the adapter has no cap or a token was available.
+    public boolean tryAcquire(String adapter, AdapterProperties.AdapterConfig config) {
+        var maxQps = config == null ? null : config.getMaxQps();
+        if (maxQps == null || maxQps <= 0) {
+            return true;
+        }
+        var now = nanoClock.getAsLong();
+        var bucket = buckets.get(adapter);
+        if (bucket == null || bucket.qps() != maxQps) {
+            // New adapter or a reloaded cap; the replacement starts with a full burst.
+            bucket = buckets.compute(adapter, (name, existing) ->
+                    existing != null && existing.qps() == maxQps ? existing : new StripedTokenBucket(maxQps, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+}
@@ -0,0 +1,79 @@
+package ro.dede.bidbridge.engine.adapters.throttle;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size hashed table of call/bid counts for one adapter, keyed by a traffic cell.
+ * Two generations of {@code windowMs} each are kept; estimates read both, so history spans one to two windows.
+ * Colliding cells share counts, which only blurs the estimate for rare traffic.
+ */
+final class BidRateSketch {
+    static final int WIDTH = 4096;
+    private static final long CALL = 1L << 32;
+    private static final long BID = 1L;
+    private static final long LOW_MASK = 0xFFFF_FFFFL;
+
+    private final long windowMs;
+    // calls in the high half, bids in the low half, so one add records an outcome.
+    private final AtomicLongArray counts = new AtomicLongArray(2 * WIDTH);
+    private final AtomicLongArray priceMicros = new AtomicLongArray(2 * WIDTH);
+    private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+
+    BidRateSketch(long windowMs) {
+        this.windowMs = Math.max(1, windowMs);
+    }
+
+    long windowMs() {
+        return windowMs;
+    }
+
+    void record(int cell, boolean bid, double price, long nowMs) {
+        var slot = generation(nowMs) * WIDTH + cell;
+        counts.getAndAdd(slot, bid ? CALL | BID : CALL);
+        if (bid && price > 0) {
+            priceMicros.getAndAdd(slot, Math.round(price * 1_000_000));
+        }
+    }
+
+    long calls(int cell, long nowMs) {
+        return sum(counts, cell, nowMs) >>> 32;
+    }
+
+    long bids(int cell, long nowMs) {
+        return sum(counts, cell, nowMs) & LOW_MASK;
+    }
+
+    // Mean CPM of the bids seen in the cell; 0 when there were none.
+    double averagePrice(int cell, long nowMs) {
+        var bids = bids(cell, nowMs);
+        return bids == 0 ? 0.0 : sum(priceMicros, cell, nowMs) / 1_000_000.0 / bids;
+    }
+
+    private long sum(AtomicLongArray array, int cell, long nowMs) {
+        generation(nowMs);
+        return array.get(cell) + array.get(WIDTH + cell);
+    }
+
+    // Rotates lazily: the first caller in a new window clears the generation it is about to reuse.
+    private int generation(long nowMs) {
+        var current = nowMs / windowMs;
+        var seen = window.get();
+        if (current > seen && window.compareAndSet(seen, current)) {
+            var reused = (int) (current & 1);
+            clear(reused);
+            if (current - seen > 1) {
+                clear(reused ^ 1);
+            }
+        }
+        return (int) (current & 1);
+    }
+
+    private void clear(int generation) {
+        var from = generation * WIDTH;
+        for (var i = from; i < from + WIDTH; i++) {
+            counts.set(i, 0);
+            priceMicros.set(i, 0);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ro.dede.bidbridge.engine.adapters.throttle;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.currency.CurrencyConverter;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Learned throttling ({@code adapters.configs.<name>.throttling.*}): calls an adapter with probability
+ * {@code max(explorationRate, min(1, bidRate / targetBidRate))}, where the bid rate comes from the adapter's
+ * recent outcomes for the same traffic cell (inventory type, imp type, OS, domain bucket).
+ * Only sampled calls feed the statistics, so the exploration floor is what keeps low-fill cells up to date.
+ */
+@Component
+public class BidRateThrottler {
+    private static final int DOMAIN_BUCKETS = 64;
+
+    private final MetricsCollector metrics;
+    private final CurrencyConverter converter;
+    private final LongSupplier clock;
+    private final DoubleSupplier random;
+    private final ConcurrentMap<String, BidRateSketch> sketches = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BidRateThrottler(MetricsCollector metrics, CurrencyConverter converter) {
+        this(metrics, converter, System::currentTimeMillis, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    BidRateThrottler(MetricsCollector metrics, CurrencyConverter converter, LongSupplier clock, DoubleSupplier random) {
+        this.metrics = metrics;
+        this.converter = converter;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    static boolean enabled(AdapterProperties.AdapterConfig config) {
+        return config != null && config.getThrottling() != null && config.getThrottling().isEnabled();
+    }
+
+    // Sketch cell of the request's traffic features.
+    static int cellOf(NormalizedBidRequest request) {
+        var hash = request.inventoryType() == null ? 0 : request.inventoryType().ordinal() + 1;
+        var imps = request.imps();
+        var impType = imps == null || imps.isEmpty() || imps.getFirst().type() == null
+                ? 0 : imps.getFirst().type().ordinal() + 1;
+        hash = hash * 31 + impType;
+        var os = request.device() == null ? null : request.device().os();
+        hash = hash * 31 + (os == null ? 0 : os.hashCode());
+        var domain = request.siteDomain() != null ? request.siteDomain() : request.appBundle();
+        hash = hash * 31 + (domain == null ? 0 : Math.floorMod(domain.hashCode(), DOMAIN_BUCKETS) + 1);
+        hash *= 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (BidRateSketch.WIDTH - 1);
+    }
+
+    /**
+     * Decides whether to call the adapter for this cell; skipped calls are counted with their estimated value.
+     */
+    public boolean admit(String adapter, AdapterProperties.AdapterConfig config, int cell) {
+        var throttling = config.getThrottling();
+        var sketch = sketch(adapter, throttling);
+        var now = clock.getAsLong();
+        var calls = sketch.calls(cell, now);
+        if (calls < throttling.getMinSamples()) {
+            return true;
+        }
+        var bidRate = (double) sketch.bids(cell, now) / calls;
+        var probability = throttling.getTargetBidRate() <= 0
+                ? 1.0
+                : Math.max(throttling.getExplorationRate(), Math.min(1.0, bidRate / throttling.getTargetBidRate()));
+        if (probability >= 1.0 || random.getAsDouble() < probability) {
+            return true;
+        }
+        metrics.recordAdapterThrottled(adapter, MetricsCollector.REASON_SAMPLED);
+        // Expected bid value of the skipped call in the auction currency, CPM converted to a single impression.
+        metrics.recordThrottleLostRevenue(adapter, bidRate * sketch.averagePrice(cell, now) / 1000.0);
+        return false;
+    }
+
+    // Timeouts count as no-bids; errors say nothing about demand and are ignored.
+    // Prices are kept in the auction currency; a bid in a currency without a rate cannot win and counts as a no-bid.
+    public void record(String adapter, AdapterProperties.AdapterConfig config, int cell, AdapterResult result) {
+        var status = result.status();
+        if (status == null || status == AdapterResultStatus.ERROR) {
+            return;
+        }
+        var price = 0.0;
+        var bid = status == AdapterResultStatus.BID && result.bid() != null;
+        if (bid) {
+            price = converter.rates().toAuction(result.bid().price(), result.bid().currency());
+            bid = !Double.isNaN(price);
+        }
+        sketch(adapter, config.getThrottling()).record(cell, bid, bid ? price : 0.0, clock.getAsLong());
+    }
+
+    private BidRateSketch sketch(String adapter, AdapterProperties.ThrottlingConfig throttling) {
+        var windowMs = throttling.getWindowMs();
+        var sketch = sketches.get(adapter);
+        if (sketch != null && sketch.windowMs() == Math.max(1, windowMs)) {
+            return sketch;
+        }
+        return sketches.compute(adapter, (name, existing) ->
+                existing != null && existing.windowMs() == Math.max(1, windowMs)
+                        ? existing : new BidRateSketch(windowMs));
+    }
+}
@@ -0,0 +1,74 @@
+package ro.dede.bidbridge.engine.adapters.throttle;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free rate limiter split into stripes that each own an equal share of the rate.
+ * Each stripe is a GCRA cell (a single "theoretical arrival time" updated by CAS), padded onto its own cache
+ * lines. Each call starts at a random stripe and probes the others before rejecting, so concurrent callers rarely
+ * contend on the same word and the full rate is reachable from any number of threads.
+ */
+final class StripedTokenBucket {
+    // Longs per stripe: 128 bytes keeps neighbours off adjacent cache lines.
+    private static final int PAD = 16;
+    private static final int MAX_STRIPES = 16;
+    // Low rates get fewer stripes so the per-stripe share stays meaningful.
+    private static final int MIN_QPS_PER_STRIPE = 100;
+    // Burst allowance per stripe, as time worth of tokens.
+    private static final long BURST_NANOS = 100_000_000L;
+
+    private final int qps;
+    private final int mask;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLongArray arrivals;
+
+    StripedTokenBucket(int qps, long nowNanos) {
+        this.qps = qps;
+        var stripes = Integer.highestOneBit(Math.clamp(qps / MIN_QPS_PER_STRIPE, 1, MAX_STRIPES));
+        this.mask = stripes - 1;
+        this.intervalNanos = Math.max(1L, stripes * 1_000_000_000L / qps);
+        var burst = Math.max(1L, BURST_NANOS / intervalNanos);
+        this.toleranceNanos = (burst - 1) * intervalNanos;
+        this.arrivals = new AtomicLongArray(stripes * PAD);
+        for (var i = 0; i < stripes; i++) {
+            arrivals.set(i * PAD, nowNanos);
+        }
+    }
+
+    int qps() {
+        return qps;
+    }
+
+    int stripes() {
+        return mask + 1;
+    }
+
+    /**
+     * Takes one token without blocking; returns false only when every stripe is empty.
+     */
+    boolean tryAcquire(long nowNanos) {
+        var start = mask == 0 ? 0 : ThreadLocalRandom.current().nextInt() & mask;
+        for (var i = 0; i <= mask; i++) {
+            if (tryAcquire((start + i) & mask, nowNanos)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean tryAcquire(int stripe, long nowNanos) {
+        var slot = stripe * PAD;
+        while (true) {
+            var arrival = arrivals.get(slot);
+            var base = Math.max(arrival, nowNanos);
+            if (base - nowNanos > toleranceNanos) {
+                return false;
+            }
+            if (arrivals.compareAndSet(slot, arrival, base + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+}
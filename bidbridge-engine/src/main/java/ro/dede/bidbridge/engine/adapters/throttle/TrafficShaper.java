@@ -0,0 +1,67 @@
+package ro.dede.bidbridge.engine.adapters.throttle;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.adapters.AdapterRegistry.AdapterEntry;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Final adapter selection before fan-out: drops adapters sampled out by learned throttling, then adapters over
+ * their QPS cap. Skipped adapters are never queued; they simply sit out this auction.
+ */
+@Component
+public class TrafficShaper {
+    private final AdapterRateLimiter rateLimiter;
+    private final BidRateThrottler throttler;
+    private final MetricsCollector metrics;
+
+    @Autowired
+    public TrafficShaper(AdapterRateLimiter rateLimiter, BidRateThrottler throttler, MetricsCollector metrics) {
+        this.rateLimiter = rateLimiter;
+        this.throttler = throttler;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the adapters to call; the same list when none were skipped.
+     */
+    public List<AdapterEntry> select(NormalizedBidRequest request, List<AdapterEntry> adapters) {
+        List<AdapterEntry> selected = null;
+        var cell = -1;
+        for (var i = 0; i < adapters.size(); i++) {
+            var entry = adapters.get(i);
+            var admitted = true;
+            // Sampling goes first so skipped calls do not spend QPS tokens.
+            if (BidRateThrottler.enabled(entry.config())) {
+                if (cell < 0) {
+                    cell = BidRateThrottler.cellOf(request);
+                }
+                admitted = throttler.admit(entry.name(), entry.config(), cell);
+            }
+            if (admitted && !rateLimiter.tryAcquire(entry.name(), entry.config())) {
+                metrics.recordAdapterThrottled(entry.name(), MetricsCollector.REASON_QPS_CAP);
+                admitted = false;
+            }
+            if (!admitted) {
+                if (selected == null) {
+                    selected = new ArrayList<>(adapters.subList(0, i));
+                }
+            } else if (selected != null) {
+                selected.add(entry);
+            }
+        }
+        return selected == null ? adapters : selected;
+    }
+
+    // Feeds a completed call back into the bid-rate statistics.
+    public void record(NormalizedBidRequest request, AdapterEntry entry, AdapterResult result) {
+        if (BidRateThrottler.enabled(entry.config())) {
+            throttler.record(entry.name(), entry.config(), BidRateThrottler.cellOf(request), result);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package ro.dede.bidbridge.engine.api.codec;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.domain.openrtb.*;
+import ro.dede.bidbridge.engine.service.RequestDeadline;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming OpenRTB request decoder that fills the request records directly from the token stream.
+ * The body is copied once into a byte array; every ext object is kept as a {@link RawExt} slice of it.
+ * With a {@link RequestPreFilter}, requests the rules are certain to reject fail right after decoding.
+ */
+public class BidRequestDecoder extends AbstractDataBufferDecoder<BidRequest> {
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    private final RequestPreFilter preFilter;
+
+    public BidRequestDecoder() {
+        this(null);
+    }
+
+    public BidRequestDecoder(RequestPreFilter preFilter) {
+        super(MediaType.APPLICATION_JSON);
+        this.preFilter = preFilter;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return BidRequest.class == elementType.toClass() && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Mono<BidRequest> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType,
+                                         MimeType mimeType, Map<String, Object> hints) {
+        var decoded = super.decodeToMono(input, elementType, mimeType, hints);
+        if (preFilter == null) {
+            return decoded;
+        }
+        return decoded.transformDeferredContextual((mono, context) -> {
+            var deadline = RequestDeadline.from(context);
+            return mono.doOnNext(request -> preFilter.check(request, deadline));
+        });
+    }
+
+    @Override
+    public BidRequest decode(DataBuffer buffer, ResolvableType targetType, MimeType mimeType,
+                             Map<String, Object> hints) throws DecodingException {
+        byte[] bytes;
+        try {
+            bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+        return decode(bytes);
+    }
+
+    public BidRequest decode(byte[] bytes) {
+        try (var parser = MAPPER.createParser(bytes)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DecodingException("Expected JSON object for BidRequest");
+            }
+            var request = readRequest(parser, bytes);
+            if (parser.nextToken() != null) {
+                throw new DecodingException("Unexpected trailing content after BidRequest");
+            }
+            return request;
+        } catch (JacksonException ex) {
+            throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    private BidRequest readRequest(JsonParser parser, byte[] bytes) {
+        String id = null;
+        List<Imp> imps = null;
+        Site site = null;
+        App app = null;
+        Device device = null;
+        User user = null;
+        Regs regs = null;
+        Integer tmax = null;
+        Map<String, Object> ext = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            var name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "id" -> id = readString(parser, name);
+                case "imp" -> imps = readImps(parser, bytes);
+                case "site" -> site = isNull(parser, name) ? null : readSite(parser, bytes);
+                case "app" -> app = isNull(parser, name) ? null : readApp(parser, bytes);
+                case "device" -> device = isNull(parser, name) ? null : readDevice(parser, bytes);
+                case "user" -> user = isNull(parser, name) ? null : new User(readExtOnly(parser, bytes));
+                case "regs" -> regs = isNull(parser, name) ? null : new Regs(readExtOnly(parser, bytes));
+                case "tmax" -> tmax = readInteger(parser, name);
+                case "ext" -> ext = readExt(parser, bytes);
+                default -> parser.skipChildren();
+            }
+        }
+        return new BidRequest(id, imps, site, app, device, user, regs, tmax, ext);
+    }
+
+    private List<Imp> readImps(JsonParser parser, byte[] bytes) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new DecodingException("Expected array for imp");
+        }
+        var imps = new ArrayList<Imp>(2);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                imps.add(null);
+                continue;
+            }
+            expectObject(parser, "imp");
+            imps.add(readImp(parser, bytes));
+        }
+        return imps;
+    }
+
+    private Imp readImp(JsonParser parser, byte[] bytes) {
+        String id = null;
+        Banner banner = null;
+        Video video = null;
+        Audio audio = null;
+        Native nativeObject = null;
+        Double bidfloor = null;
+        Map<String, Object> ext = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            var name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "id" -> id = readString(parser, name);
+                case "banner" -> banner = isNull(parser, name) ? null : new Banner(readExtOnly(parser, bytes));
+                case "video" -> video = isNull(parser, name) ? null : new Video(readExtOnly(parser, bytes));
+                case "audio" -> audio = isNull(parser, name) ? null : new Audio(readExtOnly(parser, bytes));
+                case "native" -> nativeObject = isNull(parser, name) ? null : new Native(readExtOnly(parser, bytes));
+                case "bidfloor" -> bidfloor = readDouble(parser, name);
+                case "ext" -> ext = readExt(parser, bytes);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Imp(id, banner, video, audio, nativeObject, bidfloor, ext);
+    }
+
+    private Device readDevice(JsonParser parser, byte[] bytes) {
+        String ua = null;
+        String ip = null;
+        String os = null;
+        Integer devicetype = null;
+        Map<String, Object> ext = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            var name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "ua" -> ua = readString(parser, name);
+                case "ip" -> ip = readString(parser, name);
+                case "os" -> os = readString(parser, name);
+                case "devicetype" -> devicetype = readInteger(parser, name);
+                case "ext" -> ext = readExt(parser, bytes);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Device(ua, ip, os, devicetype, ext);
+    }
+
+    private Site readSite(JsonParser parser, byte[] bytes) {
+        String domain = null;
+        Map<String, Object> ext = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            var name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "domain" -> domain = readString(parser, name);
+                case "ext" -> ext = readExt(parser, bytes);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Site(domain, ext);
+    }
+
+    private App readApp(JsonParser parser, byte[] bytes) {
+        String bundle = null;
+        Map<String, Object> ext = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            var name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "bundle" -> bundle = readString(parser, name);
+                case "ext" -> ext = readExt(parser, bytes);
+                default -> parser.skipChildren();
+            }
+        }
+        return new App(bundle, ext);
+    }
+
+    // Reads objects whose only modeled field is ext (user, regs, media types).
+    private Map<String, Object> readExtOnly(JsonParser parser, byte[] bytes) {
+        Map<String, Object> ext = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            var name = parser.currentName();
+            parser.nextToken();
+            if (name.equals("ext")) {
+                ext = readExt(parser, bytes);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return ext;
+    }
+
+    // Captures the ext object as a raw slice; parsing is deferred to the first read.
+    private Map<String, Object> readExt(JsonParser parser, byte[] bytes) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new DecodingException("Expected object for ext");
+        }
+        var start = (int) parser.currentTokenLocation().getByteOffset();
+        parser.skipChildren();
+        var end = (int) parser.currentLocation().getByteOffset();
+        return new RawExt(bytes, start, end - start);
+    }
+
+    private boolean isNull(JsonParser parser, String name) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return true;
+        }
+        expectObject(parser, name);
+        return false;
+    }
+
+    private void expectObject(JsonParser parser, String name) {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new DecodingException("Expected object for " + name);
+        }
+    }
+
+    private String readString(JsonParser parser, String name) {
+        var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new DecodingException("Expected string for " + name);
+        }
+        return parser.getValueAsString();
+    }
+
+    private Integer readInteger(JsonParser parser, String name) {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parser.getIntValue();
+            case VALUE_NUMBER_FLOAT -> (int) parser.getDoubleValue();
+            case VALUE_STRING -> parseNumber(parser.getString(), name).intValue();
+            default -> throw new DecodingException("Expected integer for " + name);
+        };
+    }
+
+    private Double readDouble(JsonParser parser, String name) {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_STRING -> parseNumber(parser.getString(), name);
+            default -> throw new DecodingException("Expected number for " + name);
+        };
+    }
+
+    private Double parseNumber(String value, String name) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new DecodingException("Invalid number for " + name);
+        }
+    }
+}
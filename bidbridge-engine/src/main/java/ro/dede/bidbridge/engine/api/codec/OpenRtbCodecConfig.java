@@ -0,0 +1,25 @@
+package ro.dede.bidbridge.engine.api.codec;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Registers the streaming BidRequest decoder ahead of the generic Jackson codec.
+ */
+@Configuration
+public class OpenRtbCodecConfig implements WebFluxConfigurer {
+    private final ObjectProvider<RequestPreFilter> preFilter;
+
+    public OpenRtbCodecConfig(ObjectProvider<RequestPreFilter> preFilter) {
+        this.preFilter = preFilter;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        // Default config applies spring.http.codecs.max-in-memory-size to the decoder.
+        // The pre-filter is absent in web slices without the engine services.
+        configurer.customCodecs().registerWithDefaultConfig(new BidRequestDecoder(preFilter.getIfAvailable()));
+    }
+}
@@ -0,0 +1,151 @@
+package ro.dede.bidbridge.engine.api.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.http.codec.autoconfigure.HttpCodecsProperties;
+import org.springframework.boot.reactor.netty.NettyServerCustomizer;
+import org.springframework.stereotype.Component;
+import reactor.netty.NettyPipeline;
+import reactor.netty.http.server.HttpServer;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.Locale;
+
+/**
+ * Decompresses gzip/deflate request bodies (e.g. POST /openrtb2/bid) in the Netty pipeline.
+ * Bodies are inflated chunk by chunk and may not inflate past spring.http.codecs.max-in-memory-size: such requests
+ * get 413 and the connection is closed, before any WebFilter runs and before more input is inflated.
+ */
+@Component
+public class RequestDecompressionCustomizer implements NettyServerCustomizer {
+    private static final String HANDLER_NAME = "bidbridge.requestDecompressor";
+    // Spring's codec default when spring.http.codecs.max-in-memory-size is not set.
+    private static final int DEFAULT_MAX_INFLATED_BYTES = 256 * 1024;
+
+    private final MetricsCollector metrics;
+    private final int maxInflatedBytes;
+
+    @Autowired
+    public RequestDecompressionCustomizer(MetricsCollector metrics, ObjectProvider<HttpCodecsProperties> codecs) {
+        this(metrics, maxInflatedBytes(codecs.getIfAvailable()));
+    }
+
+    RequestDecompressionCustomizer(MetricsCollector metrics, int maxInflatedBytes) {
+        this.metrics = metrics;
+        this.maxInflatedBytes = maxInflatedBytes;
+    }
+
+    @Override
+    public HttpServer apply(HttpServer server) {
+        return server.doOnChannelInit((observer, channel, remoteAddress) -> {
+            var pipeline = channel.pipeline();
+            // HTTP/1.1 connections only; the codec is absent on HTTP/2 streams.
+            if (pipeline.get(NettyPipeline.HttpCodec) != null && pipeline.get(HANDLER_NAME) == null) {
+                pipeline.addAfter(NettyPipeline.HttpCodec, HANDLER_NAME,
+                        new CountingDecompressor(metrics, maxInflatedBytes));
+            }
+        });
+    }
+
+    private static int maxInflatedBytes(HttpCodecsProperties codecs) {
+        if (codecs == null || codecs.getMaxInMemorySize() == null || codecs.getMaxInMemorySize().toBytes() < 0) {
+            return DEFAULT_MAX_INFLATED_BYTES;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, codecs.getMaxInMemorySize().toBytes());
+    }
+
+    private static final class CountingDecompressor extends HttpContentDecompressor {
+        private final MetricsCollector metrics;
+        private final int maxInflatedBytes;
+        private boolean rejected;
+
+        private CountingDecompressor(MetricsCollector metrics, int maxInflatedBytes) {
+            // Also bounds the buffer a single chunk may inflate into.
+            super(maxInflatedBytes);
+            this.metrics = metrics;
+            this.maxInflatedBytes = maxInflatedBytes;
+        }
+
+        // Only called for encoded bodies; identity requests pass straight through.
+        @Override
+        protected EmbeddedChannel newContentDecoder(String contentEncoding) throws Exception {
+            var decoder = super.newContentDecoder(contentEncoding);
+            if (decoder != null) {
+                metrics.recordInboundDecompressed(contentEncoding.toLowerCase(Locale.ROOT));
+                decoder.pipeline().addLast(new InflatedSizeLimit(maxInflatedBytes));
+            }
+            return decoder;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            if (rejected) {
+                ReferenceCountUtil.release(msg);
+                return;
+            }
+            super.channelRead(ctx, msg);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+            if (!isDecompressionFailure(cause)) {
+                super.exceptionCaught(ctx, cause);
+                return;
+            }
+            if (rejected) {
+                return;
+            }
+            rejected = true;
+            metrics.recordPayloadTooLargeRejection();
+            var response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                    HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
+            response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+            ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+        }
+
+        private static boolean isDecompressionFailure(Throwable cause) {
+            for (var current = cause; current != null; current = current.getCause()) {
+                if (current instanceof DecompressionException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // Last handler of a request's inflater: fails the request once its inflated body passes the limit.
+    private static final class InflatedSizeLimit extends ChannelDuplexHandler {
+        private final int maxInflatedBytes;
+        private long inflatedBytes;
+
+        private InflatedSizeLimit(int maxInflatedBytes) {
+            this.maxInflatedBytes = maxInflatedBytes;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof ByteBuf buffer) {
+                inflatedBytes += buffer.readableBytes();
+                if (inflatedBytes > maxInflatedBytes) {
+                    buffer.release();
+                    throw new DecompressionException("Inflated request body exceeds " + maxInflatedBytes + " bytes");
+                }
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+}
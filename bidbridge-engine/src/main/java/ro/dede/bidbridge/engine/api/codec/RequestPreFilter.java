@@ -0,0 +1,121 @@
+package ro.dede.bidbridge.engine.api.codec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.adapters.AdapterRegistry;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
+import ro.dede.bidbridge.engine.domain.openrtb.BidRequest;
+import ro.dede.bidbridge.engine.normalization.BidRequestNormalizer;
+import ro.dede.bidbridge.engine.normalization.DefaultBidRequestNormalizer;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.rules.RulesEvaluator;
+import ro.dede.bidbridge.engine.rules.RulesProgram;
+import ro.dede.bidbridge.engine.service.BidService;
+import ro.dede.bidbridge.engine.service.BidServiceProperties;
+import ro.dede.bidbridge.engine.service.FilteredRequestException;
+import ro.dede.bidbridge.engine.service.RequestDeadline;
+
+/**
+ * Rejects decoded requests that the rules are certain to filter (inventory type, every imp under the floor)
+ * before validation, normalization and the bid service run.
+ * It only acts when every earlier stage would let the request through unchanged: the request is valid and
+ * normalizable, adapters cannot be emptied by circuit breakers, and the deadline check would pass. Anything else
+ * goes down the regular path, so outcomes are the same as without the pre-filter.
+ * It stays inactive when the normalizer or bid service are replaced by implementations it cannot vouch for.
+ */
+@Component
+public class RequestPreFilter {
+    private static final Logger log = LoggerFactory.getLogger(RequestPreFilter.class);
+
+    private final AdapterRegistry adapterRegistry;
+    private final RulesEvaluator rulesEvaluator;
+    private final BidServiceProperties serviceProperties;
+    private final MetricsCollector metrics;
+    private final boolean active;
+
+    @Autowired
+    public RequestPreFilter(AdapterRegistry adapterRegistry,
+                            RulesEvaluator rulesEvaluator,
+                            BidServiceProperties serviceProperties,
+                            MetricsCollector metrics,
+                            BidRequestNormalizer normalizer,
+                            BidService bidService) {
+        this.active = normalizer instanceof DefaultBidRequestNormalizer && bidService.appliesRules();
+        this.adapterRegistry = adapterRegistry;
+        this.rulesEvaluator = rulesEvaluator;
+        this.serviceProperties = serviceProperties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Throws FilteredRequestException when the request is certain to be filtered by the rules.
+     */
+    public void check(BidRequest request, RequestDeadline deadline) {
+        if (!active) {
+            return;
+        }
+        var inventoryType = inventoryType(request);
+        if (inventoryType == null || !adapterRegistry.hasStableAdapters()) {
+            return;
+        }
+        var maxBidfloor = maxBidfloor(request);
+        if (Double.isNaN(maxBidfloor) || !deadlineAdmits(request, deadline)) {
+            return;
+        }
+        var rule = rulesEvaluator.certainRejection(inventoryType, maxBidfloor);
+        if (rule == null) {
+            return;
+        }
+        metrics.recordPreFiltered(rule);
+        log.info("Rules applied requestId={} rules=[{}] adapters=[] stage=pre-filter", request.id(), rule);
+        throw new FilteredRequestException(message(rule));
+    }
+
+    // Same messages the rules evaluator uses for these rejections.
+    private static String message(String rule) {
+        return switch (rule) {
+            case RulesProgram.ALLOW_INVENTORY -> "Inventory not allowed";
+            case RulesProgram.DENY_INVENTORY -> "Inventory denied";
+            default -> "All imps filtered by rules";
+        };
+    }
+
+    // Null unless exactly one of site/app is present and the request passes bean validation.
+    private InventoryType inventoryType(BidRequest request) {
+        if (request.id() == null || request.id().isBlank() || request.imp() == null || request.imp().isEmpty()) {
+            return null;
+        }
+        if ((request.site() == null) == (request.app() == null)) {
+            return null;
+        }
+        return request.site() != null ? InventoryType.SITE : InventoryType.APP;
+    }
+
+    // Highest floor over the imps (missing floors count as 0), or NaN if any imp would fail validation/normalization.
+    private double maxBidfloor(BidRequest request) {
+        var max = Double.NEGATIVE_INFINITY;
+        for (var imp : request.imp()) {
+            if (imp == null || imp.id() == null || imp.id().isBlank()) {
+                return Double.NaN;
+            }
+            if (imp.banner() == null && imp.video() == null && imp.audio() == null && imp.nativeObject() == null) {
+                return Double.NaN;
+            }
+            max = Math.max(max, imp.bidfloor() == null ? 0.0 : imp.bidfloor());
+        }
+        return max;
+    }
+
+    // Same check the bid service applies before the rules; a request it would time out is left to it.
+    private boolean deadlineAdmits(BidRequest request, RequestDeadline deadline) {
+        long remainingMs = RequestDeadline.budgetMs(
+                DefaultBidRequestNormalizer.effectiveTmaxMs(request.tmax()), serviceProperties.getGlobalTimeoutMs());
+        if (deadline != null) {
+            // Rounded the same way as RequestDeadline.remainingMs, without starting the deadline here.
+            remainingMs += Math.floorDiv(deadline.arrivalNanos() - System.nanoTime(), 1_000_000L);
+        }
+        return remainingMs > 0 && remainingMs >= serviceProperties.getMinRemainingMs();
+    }
+}
@@ -2,12 +2,19 @@ package ro.dede.bidbridge.engine.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * In-flight limit settings for engine bid endpoint.
  */
 @ConfigurationProperties(prefix = "engine.limits")
 public class EngineLimitsProperties {
+    // Static cap; also the upper bound of the adaptive limit.
     private int maxInFlight = 200;
+    private AdaptiveConfig adaptive = new AdaptiveConfig();
+    private PriorityConfig priority = new PriorityConfig();
+    private RateLimitConfig rateLimit = new RateLimitConfig();
 
     public int getMaxInFlight() {
         return maxInFlight;
@@ -16,4 +23,200 @@ public class EngineLimitsProperties {
     public void setMaxInFlight(int maxInFlight) {
         this.maxInFlight = maxInFlight;
     }
+
+    public AdaptiveConfig getAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(AdaptiveConfig adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public PriorityConfig getPriority() {
+        return priority;
+    }
+
+    public void setPriority(PriorityConfig priority) {
+        this.priority = priority;
+    }
+
+    public RateLimitConfig getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimitConfig rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    // Latency-driven limit between minLimit and maxInFlight, re-evaluated once per window.
+    public static class AdaptiveConfig {
+        private boolean enabled = false;
+        private int initialLimit = 100;
+        private int minLimit = 20;
+        private long targetLatencyMs = 100;
+        private long windowMs = 250;
+        private int minSamples = 20;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public long getTargetLatencyMs() {
+            return targetLatencyMs;
+        }
+
+        public void setTargetLatencyMs(long targetLatencyMs) {
+            this.targetLatencyMs = targetLatencyMs;
+        }
+
+        public long getWindowMs() {
+            return windowMs;
+        }
+
+        public void setWindowMs(long windowMs) {
+            this.windowMs = windowMs;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+    }
+
+    // Caller tiers: each class may only fill its share of the in-flight limit, so lower shares are shed first.
+    public static class PriorityConfig {
+        private boolean enabled = false;
+        private String defaultClass = "standard";
+        // X-Caller value -> class name.
+        private Map<String, String> callers = new HashMap<>();
+        // Class name -> share of the limit (0..1].
+        private Map<String, Double> classes = new HashMap<>(Map.of(
+                "premium", 1.0,
+                "standard", 0.85,
+                "low", 0.6
+        ));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDefaultClass() {
+            return defaultClass;
+        }
+
+        public void setDefaultClass(String defaultClass) {
+            this.defaultClass = defaultClass;
+        }
+
+        public Map<String, String> getCallers() {
+            return callers;
+        }
+
+        public void setCallers(Map<String, String> callers) {
+            this.callers = callers;
+        }
+
+        public Map<String, Double> getClasses() {
+            return classes;
+        }
+
+        public void setClasses(Map<String, Double> classes) {
+            this.classes = classes;
+        }
+    }
+
+    // Per-caller QPS limits keyed by a request header; callers without a limit (qps <= 0) are not tracked.
+    public static class RateLimitConfig {
+        private boolean enabled = false;
+        private String keyHeader = "X-Caller";
+        private int defaultQps = 0;
+        // Header value -> QPS, overriding defaultQps.
+        private Map<String, Integer> callers = new HashMap<>();
+        private long burstMs = 1_000;
+        private long idleEvictMs = 300_000;
+        private int maxCallers = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getKeyHeader() {
+            return keyHeader;
+        }
+
+        public void setKeyHeader(String keyHeader) {
+            this.keyHeader = keyHeader;
+        }
+
+        public int getDefaultQps() {
+            return defaultQps;
+        }
+
+        public void setDefaultQps(int defaultQps) {
+            this.defaultQps = defaultQps;
+        }
+
+        public Map<String, Integer> getCallers() {
+            return callers;
+        }
+
+        public void setCallers(Map<String, Integer> callers) {
+            this.callers = callers;
+        }
+
+        public long getBurstMs() {
+            return burstMs;
+        }
+
+        public void setBurstMs(long burstMs) {
+            this.burstMs = burstMs;
+        }
+
+        public long getIdleEvictMs() {
+            return idleEvictMs;
+        }
+
+        public void setIdleEvictMs(long idleEvictMs) {
+            this.idleEvictMs = idleEvictMs;
+        }
+
+        public int getMaxCallers() {
+            return maxCallers;
+        }
+
+        public void setMaxCallers(int maxCallers) {
+            this.maxCallers = maxCallers;
+        }
+    }
 }
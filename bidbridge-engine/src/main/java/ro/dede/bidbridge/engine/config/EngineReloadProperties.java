@@ -0,0 +1,29 @@
+package ro.dede.bidbridge.engine.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Optional routing config file (rules.* and adapters.*) that is watched and reloaded without a restart.
+ */
+@ConfigurationProperties(prefix = "engine.reload")
+public class EngineReloadProperties {
+    // Unset disables hot reload; the application config is then used as-is.
+    private String file;
+    private long debounceMs = 200;
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public long getDebounceMs() {
+        return debounceMs;
+    }
+
+    public void setDebounceMs(long debounceMs) {
+        this.debounceMs = debounceMs;
+    }
+}
@@ -0,0 +1,9 @@
+package ro.dede.bidbridge.engine.config;
+
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.rules.RulesProgram;
+import ro.dede.bidbridge.engine.rules.RulesProperties;
+
+// Validated routing config with its compiled rules program, ready to publish.
+public record RoutingConfig(RulesProperties rules, RulesProgram program, AdapterProperties adapters) {
+}
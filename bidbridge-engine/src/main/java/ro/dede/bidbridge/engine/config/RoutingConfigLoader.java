@@ -0,0 +1,93 @@
+package ro.dede.bidbridge.engine.config;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ByteArrayResource;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.rules.RulesProgram;
+import ro.dede.bidbridge.engine.rules.RulesProperties;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Parses a routing config file laid out like application.yml (rules.*, adapters.*), binds it with the same
+ * relaxed binding as startup config, validates it and compiles the rules.
+ * Sections missing from the file fall back to the given defaults (the application config).
+ */
+public final class RoutingConfigLoader {
+    private final PlaceholdersResolver placeholders;
+
+    public RoutingConfigLoader(PlaceholdersResolver placeholders) {
+        this.placeholders = placeholders;
+    }
+
+    public RoutingConfig load(String name,
+                              byte[] content,
+                              RulesProperties defaultRules,
+                              AdapterProperties defaultAdapters) {
+        try {
+            var sources = new YamlPropertySourceLoader().load(name, new ByteArrayResource(content));
+            var binder = new Binder(ConfigurationPropertySources.from(sources), placeholders);
+            var rules = binder.bind("rules", RulesProperties.class).orElse(defaultRules);
+            var adapters = binder.bind("adapters", AdapterProperties.class).orElse(defaultAdapters);
+            validate(adapters);
+            return new RoutingConfig(rules, RulesProgram.compile(rules), adapters);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to parse " + name + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private void validate(AdapterProperties adapters) {
+        for (var entry : adapters.getConfigs().entrySet()) {
+            var name = entry.getKey();
+            var config = entry.getValue();
+            if (config == null) {
+                throw new IllegalStateException("Null config for adapter " + name);
+            }
+            if (config.getTimeoutMs() != null && config.getTimeoutMs() <= 0) {
+                throw new IllegalStateException("timeoutMs must be > 0 for adapter " + name);
+            }
+            var bidProbability = config.getBidProbability();
+            if (bidProbability != null && (bidProbability < 0 || bidProbability > 1)) {
+                throw new IllegalStateException("bidProbability out of range for adapter " + name);
+            }
+            validateEndpoint(name, config.getEndpoint());
+            var breaker = config.getCircuitBreaker();
+            if (breaker != null && breaker.isEnabled()) {
+                if (breaker.getFailureRateThreshold() <= 0 || breaker.getFailureRateThreshold() > 1) {
+                    throw new IllegalStateException("circuitBreaker.failureRateThreshold out of range for adapter " + name);
+                }
+                if (breaker.getHalfOpenProbeFraction() < 0 || breaker.getHalfOpenProbeFraction() > 1) {
+                    throw new IllegalStateException("circuitBreaker.halfOpenProbeFraction out of range for adapter " + name);
+                }
+                if (breaker.getMinCalls() < 1 || breaker.getWindowMs() <= 0) {
+                    throw new IllegalStateException("circuitBreaker window must be positive for adapter " + name);
+                }
+            }
+            var adaptive = config.getAdaptiveTimeout();
+            if (adaptive != null && adaptive.isEnabled()
+                    && (adaptive.getPercentile() <= 0 || adaptive.getPercentile() > 1)) {
+                throw new IllegalStateException("adaptiveTimeout.percentile out of range for adapter " + name);
+            }
+        }
+    }
+
+    private void validateEndpoint(String name, String endpoint) {
+        if (endpoint == null || endpoint.isBlank()) {
+            return;
+        }
+        URI uri;
+        try {
+            uri = URI.create(endpoint);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("Invalid endpoint for adapter " + name + ": " + ex.getMessage());
+        }
+        var scheme = uri.getScheme();
+        if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme) || uri.getHost() == null) {
+            throw new IllegalStateException("Endpoint must be an absolute http(s) URL for adapter " + name);
+        }
+    }
+}
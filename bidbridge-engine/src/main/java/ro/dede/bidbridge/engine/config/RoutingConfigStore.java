@@ -0,0 +1,121 @@
+package ro.dede.bidbridge.engine.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.adapters.AdapterRegistry;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.rules.DefaultRulesEvaluator;
+import ro.dede.bidbridge.engine.rules.RulesProperties;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Versioned routing config backed by {@code engine.reload.file}.
+ * A reload parses, validates and compiles the file on the caller's thread, then publishes the result to the
+ * rules evaluator and adapter registry; on any failure the last good config stays active.
+ */
+@Component
+@ConditionalOnProperty(prefix = "engine.reload", name = "file")
+public class RoutingConfigStore {
+    private static final Logger log = LoggerFactory.getLogger(RoutingConfigStore.class);
+    static final String RESULT_SUCCESS = "success";
+    static final String RESULT_FAILURE = "failure";
+
+    private final Path file;
+    private final RulesProperties applicationRules;
+    private final AdapterProperties applicationAdapters;
+    private final DefaultRulesEvaluator rulesEvaluator;
+    private final AdapterRegistry adapterRegistry;
+    private final MetricsCollector metrics;
+    private final RoutingConfigLoader loader;
+    // Version 0 is the application config bound at startup.
+    private final AtomicReference<State> state = new AtomicReference<>(new State(0L, 0L, null));
+
+    public RoutingConfigStore(EngineReloadProperties properties,
+                              RulesProperties applicationRules,
+                              AdapterProperties applicationAdapters,
+                              DefaultRulesEvaluator rulesEvaluator,
+                              AdapterRegistry adapterRegistry,
+                              MetricsCollector metrics,
+                              Environment environment) {
+        this.file = Path.of(properties.getFile());
+        this.applicationRules = applicationRules;
+        this.applicationAdapters = applicationAdapters;
+        this.rulesEvaluator = rulesEvaluator;
+        this.adapterRegistry = adapterRegistry;
+        this.metrics = metrics;
+        this.loader = new RoutingConfigLoader(new PropertySourcesPlaceholdersResolver(environment));
+        metrics.registerConfigVersion(() -> state.get().version());
+    }
+
+    // Initial load; a broken file at startup leaves the application config active.
+    @PostConstruct
+    void init() {
+        var result = reload();
+        if (!result.success()) {
+            log.warn("Routing config {} not applied on startup, using application config", file);
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Reloads the file and publishes it when its content changed.
+     */
+    public synchronized ReloadResult reload() {
+        var current = state.get();
+        try {
+            var content = Files.readAllBytes(file);
+            if (Arrays.equals(content, current.content())) {
+                return new ReloadResult(true, false, current.version(), "unchanged");
+            }
+            var config = loader.load(file.getFileName().toString(), content, applicationRules, applicationAdapters);
+            // Each request reads the registry snapshot and the rules program once, so the two swaps need no lock.
+            adapterRegistry.refresh(config.adapters());
+            rulesEvaluator.install(config.program());
+            var next = new State(current.version() + 1, System.currentTimeMillis(), content);
+            state.set(next);
+            metrics.recordConfigReload(RESULT_SUCCESS);
+            log.info("Loaded routing config {}: version={} adapters={}",
+                    file, next.version(), config.adapters().getConfigs().keySet());
+            return new ReloadResult(true, true, next.version(), "ok");
+        } catch (IOException | RuntimeException ex) {
+            metrics.recordConfigReload(RESULT_FAILURE);
+            log.warn("Failed to reload routing config {}, keeping version {}: {}",
+                    file, current.version(), ex.getMessage());
+            return new ReloadResult(false, false, current.version(), String.valueOf(ex.getMessage()));
+        }
+    }
+
+    public Snapshot snapshot() {
+        var current = state.get();
+        return new Snapshot(current.version(), current.loadedAtMs());
+    }
+
+    /**
+     * Outcome of a reload attempt; changed is false when the file content was already active.
+     */
+    public record ReloadResult(boolean success, boolean changed, long version, String message) {
+    }
+
+    /**
+     * Active config version and when it was loaded (0 for the application config).
+     */
+    public record Snapshot(long version, long loadedAtMs) {
+    }
+
+    private record State(long version, long loadedAtMs, byte[] content) {
+    }
+}
@@ -0,0 +1,70 @@
+package ro.dede.bidbridge.engine.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+
+/**
+ * Watches the routing config directory (inotify on Linux) and triggers a reload on change.
+ * Any event in the directory triggers a reload, because editors and Kubernetes ConfigMap updates replace the file
+ * through renames and symlink swaps; the store skips reloads whose content is unchanged.
+ */
+@Component
+@ConditionalOnProperty(prefix = "engine.reload", name = "file")
+public class RoutingConfigWatcher {
+    private static final Logger log = LoggerFactory.getLogger(RoutingConfigWatcher.class);
+
+    private final RoutingConfigStore store;
+    private final long debounceMs;
+    private WatchService watchService;
+    private Thread thread;
+
+    public RoutingConfigWatcher(RoutingConfigStore store, EngineReloadProperties properties) {
+        this.store = store;
+        this.debounceMs = Math.max(0, properties.getDebounceMs());
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        var directory = store.file().toAbsolutePath().getParent();
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        thread = Thread.ofPlatform().daemon().name("routing-config-watcher").start(this::watch);
+        log.info("Watching routing config {}", store.file());
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                var key = watchService.take();
+                // Let bursts of events from a single write settle, then reload once.
+                Thread.sleep(debounceMs);
+                do {
+                    key.pollEvents();
+                    key.reset();
+                    key = watchService.poll();
+                } while (key != null);
+                store.reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            // Shutting down.
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ro.dede.bidbridge.engine.currency;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the active FX table; refreshes swap in a new immutable table while auctions keep the one they read.
+ */
+@Component
+public class CurrencyConverter {
+    private volatile FxRates rates;
+
+    public CurrencyConverter(CurrencyProperties properties) {
+        try {
+            this.rates = FxRates.of(properties.getAuctionCurrency(), properties.getRates());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalStateException("Invalid currency config: " + ex.getMessage(), ex);
+        }
+    }
+
+    // Read once per auction so every bid is converted with the same table.
+    public FxRates rates() {
+        return rates;
+    }
+
+    public void install(FxRates rates) {
+        this.rates = rates;
+    }
+}
@@ -0,0 +1,52 @@
+package ro.dede.bidbridge.engine.currency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Auction currency and FX rates used to compare bids placed in different currencies.
+ */
+@ConfigurationProperties(prefix = "currency")
+public class CurrencyProperties {
+    // Currency of response prices; bids and floors are converted into it.
+    private String auctionCurrency = "USD";
+    // Value of one unit of each currency in the auction currency, e.g. EUR: 1.08.
+    private Map<String, Double> rates = new LinkedHashMap<>();
+    // Optional properties file (CODE=rate) re-read every refreshMs; replaces the rates above while it loads.
+    private String ratesFile;
+    private long refreshMs = 60000;
+
+    public String getAuctionCurrency() {
+        return auctionCurrency;
+    }
+
+    public void setAuctionCurrency(String auctionCurrency) {
+        this.auctionCurrency = auctionCurrency;
+    }
+
+    public Map<String, Double> getRates() {
+        return rates;
+    }
+
+    public void setRates(Map<String, Double> rates) {
+        this.rates = rates;
+    }
+
+    public String getRatesFile() {
+        return ratesFile;
+    }
+
+    public void setRatesFile(String ratesFile) {
+        this.ratesFile = ratesFile;
+    }
+
+    public long getRefreshMs() {
+        return refreshMs;
+    }
+
+    public void setRefreshMs(long refreshMs) {
+        this.refreshMs = refreshMs;
+    }
+}
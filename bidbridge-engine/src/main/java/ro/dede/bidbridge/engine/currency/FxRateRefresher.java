@@ -0,0 +1,98 @@
+package ro.dede.bidbridge.engine.currency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Properties;
+
+/**
+ * Re-reads {@code currency.ratesFile} (CODE=rate per line) every {@code currency.refreshMs} and installs the new
+ * table; an unreadable or invalid file keeps the last good rates.
+ */
+@Component
+@ConditionalOnProperty(prefix = "currency", name = "ratesFile")
+public class FxRateRefresher {
+    private static final Logger log = LoggerFactory.getLogger(FxRateRefresher.class);
+    static final String RESULT_SUCCESS = "success";
+    static final String RESULT_FAILURE = "failure";
+
+    private final Path file;
+    private final String auctionCurrency;
+    private final long refreshMs;
+    private final CurrencyConverter converter;
+    private final MetricsCollector metrics;
+    private byte[] content;
+    private Thread thread;
+
+    public FxRateRefresher(CurrencyProperties properties, CurrencyConverter converter, MetricsCollector metrics) {
+        this.file = Path.of(properties.getRatesFile());
+        this.auctionCurrency = properties.getAuctionCurrency();
+        this.refreshMs = Math.max(1000, properties.getRefreshMs());
+        this.converter = converter;
+        this.metrics = metrics;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!refresh()) {
+            log.warn("FX rates file {} not applied on startup, using configured rates", file);
+        }
+        thread = Thread.ofPlatform().daemon().name("fx-rate-refresh").start(this::run);
+    }
+
+    @PreDestroy
+    void stop() {
+        thread.interrupt();
+    }
+
+    /**
+     * Loads the file and installs it when its content changed; returns false when the file could not be applied.
+     */
+    synchronized boolean refresh() {
+        try {
+            var next = Files.readAllBytes(file);
+            if (Arrays.equals(next, content)) {
+                return true;
+            }
+            var properties = new Properties();
+            properties.load(new StringReader(new String(next, StandardCharsets.UTF_8)));
+            var rates = new LinkedHashMap<String, Double>();
+            for (var code : properties.stringPropertyNames()) {
+                rates.put(code, Double.valueOf(properties.getProperty(code).trim()));
+            }
+            var table = FxRates.of(auctionCurrency, rates);
+            converter.install(table);
+            content = next;
+            metrics.recordFxRefresh(RESULT_SUCCESS);
+            log.info("Loaded FX rates {}: currencies={}", file, table.size());
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            metrics.recordFxRefresh(RESULT_FAILURE);
+            log.warn("Failed to load FX rates {}, keeping previous rates: {}", file, ex.getMessage());
+            return false;
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                Thread.sleep(refreshMs);
+                refresh();
+            }
+        } catch (InterruptedException ex) {
+            // Shutting down.
+        }
+    }
+}
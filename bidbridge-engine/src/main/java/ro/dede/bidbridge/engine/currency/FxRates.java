@@ -0,0 +1,98 @@
+package ro.dede.bidbridge.engine.currency;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable FX table: the value of one unit of each currency in the auction currency.
+ * Rates sit in a primitive array indexed by the three letters of the ISO 4217 code, so converting a price is an
+ * index computation and a multiply with no lookup allocation.
+ */
+public final class FxRates {
+    // OpenRTB default for bid response cur and imp bidfloorcur.
+    public static final String DEFAULT_CURRENCY = "USD";
+    private static final int LETTERS = 26;
+    private static final int SLOTS = LETTERS * LETTERS * LETTERS;
+
+    private final String auctionCurrency;
+    private final double[] toAuction;
+    private final int size;
+
+    private FxRates(String auctionCurrency, double[] toAuction, int size) {
+        this.auctionCurrency = auctionCurrency;
+        this.toAuction = toAuction;
+        this.size = size;
+    }
+
+    /**
+     * Builds a table; codes must be three letters and rates positive. The auction currency always converts at 1.
+     * Throws IllegalArgumentException on invalid entries or when USD, the default currency, cannot be converted.
+     */
+    public static FxRates of(String auctionCurrency, Map<String, Double> rates) {
+        var auction = normalize(auctionCurrency);
+        var table = new double[SLOTS];
+        Arrays.fill(table, Double.NaN);
+        var size = 0;
+        for (var entry : rates.entrySet()) {
+            var code = normalize(entry.getKey());
+            var rate = entry.getValue();
+            if (rate == null || !(rate > 0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("FX rate for " + code + " must be positive: " + rate);
+            }
+            if (Double.isNaN(table[slot(code)])) {
+                size++;
+            }
+            table[slot(code)] = rate;
+        }
+        if (Double.isNaN(table[slot(auction)])) {
+            size++;
+        }
+        table[slot(auction)] = 1.0;
+        if (Double.isNaN(table[slot(DEFAULT_CURRENCY)])) {
+            throw new IllegalArgumentException("FX rate for " + DEFAULT_CURRENCY + " is required when auctioning in "
+                    + auction);
+        }
+        return new FxRates(auction, table, size);
+    }
+
+    public String auctionCurrency() {
+        return auctionCurrency;
+    }
+
+    // Number of currencies that can be converted, including the auction currency.
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Amount in the auction currency; a null currency means USD. Returns NaN for unknown or malformed codes.
+     */
+    public double toAuction(double amount, String currency) {
+        var slot = currency == null ? slot(DEFAULT_CURRENCY) : slot(currency);
+        return slot < 0 ? Double.NaN : amount * toAuction[slot];
+    }
+
+    // Letters are case-folded in place; anything that is not three ASCII letters has no slot (-1).
+    private static int slot(String code) {
+        if (code.length() != 3) {
+            return -1;
+        }
+        var slot = 0;
+        for (var i = 0; i < 3; i++) {
+            var letter = (code.charAt(i) | 0x20) - 'a';
+            if (letter < 0 || letter >= LETTERS) {
+                return -1;
+            }
+            slot = slot * LETTERS + letter;
+        }
+        return slot;
+    }
+
+    private static String normalize(String code) {
+        if (code == null || slot(code.trim()) < 0) {
+            throw new IllegalArgumentException("Invalid currency code: " + code);
+        }
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+}
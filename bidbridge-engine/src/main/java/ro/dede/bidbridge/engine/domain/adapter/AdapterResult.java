@@ -1,21 +1,45 @@
 package ro.dede.bidbridge.engine.domain.adapter;
 
-// Adapter execution outcome with selected bid and lightweight debug info.
+import java.util.List;
+
+// Adapter execution outcome with selected bids and lightweight debug info; bid is the highest-priced of bids.
 public record AdapterResult(
         String bidder,
         AdapterResultStatus status,
         Long latencyMs,
         SelectedBid bid,
-        AdapterDebug debug
+        AdapterDebug debug,
+        List<SelectedBid> bids
 ) {
+    public AdapterResult {
+        if (bids == null) {
+            bids = bid == null ? List.of() : List.of(bid);
+        }
+    }
+
+    public AdapterResult(String bidder, AdapterResultStatus status, Long latencyMs, SelectedBid bid, AdapterDebug debug) {
+        this(bidder, status, latencyMs, bid, debug, null);
+    }
+
     public AdapterResult withLatencyMs(long latencyMs) {
-        return new AdapterResult(bidder, status, latencyMs, bid, debug);
+        return new AdapterResult(bidder, status, latencyMs, bid, debug, bids);
     }
 
     public static AdapterResult bid(String bidder, SelectedBid bid, AdapterDebug debug) {
         return new AdapterResult(bidder, AdapterResultStatus.BID, null, bid, debug);
     }
 
+    // One bid per imp (or several for the same imp); the merger picks winners per imp across adapters.
+    public static AdapterResult bids(String bidder, List<SelectedBid> bids, AdapterDebug debug) {
+        SelectedBid best = null;
+        for (var bid : bids) {
+            if (best == null || bid.price() > best.price()) {
+                best = bid;
+            }
+        }
+        return new AdapterResult(bidder, AdapterResultStatus.BID, null, best, debug, List.copyOf(bids));
+    }
+
     public static AdapterResult noBid(String bidder, AdapterDebug debug) {
         return new AdapterResult(bidder, AdapterResultStatus.NO_BID, null, null, debug);
     }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 // Normalized request with derived context and defaults applied.
+// siteDomain/appBundle are kept for targeting and forwarded to bidders; null when absent.
 public record NormalizedBidRequest(
         String requestId,
         List<NormalizedImp> imps,
@@ -14,6 +15,25 @@ public record NormalizedBidRequest(
         Map<String, Object> siteExt,
         Map<String, Object> appExt,
         Map<String, Object> userExt,
-        Map<String, Object> regsExt
+        Map<String, Object> regsExt,
+        String siteDomain,
+        String appBundle
 ) {
+    public NormalizedBidRequest(String requestId,
+                                List<NormalizedImp> imps,
+                                InventoryType inventoryType,
+                                int tmaxMs,
+                                NormalizedDevice device,
+                                Map<String, Object> ext,
+                                Map<String, Object> siteExt,
+                                Map<String, Object> appExt,
+                                Map<String, Object> userExt,
+                                Map<String, Object> regsExt) {
+        this(requestId, imps, inventoryType, tmaxMs, device, ext, siteExt, appExt, userExt, regsExt, null, null);
+    }
+
+    public NormalizedBidRequest withImps(List<NormalizedImp> filteredImps) {
+        return new NormalizedBidRequest(requestId, filteredImps, inventoryType, tmaxMs, device, ext,
+                siteExt, appExt, userExt, regsExt, siteDomain, appBundle);
+    }
 }
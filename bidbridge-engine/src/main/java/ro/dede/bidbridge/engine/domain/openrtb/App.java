@@ -1,12 +1,17 @@
 package ro.dede.bidbridge.engine.domain.openrtb;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.util.Map;
 
-// Minimal app context; ext preserves partner-specific data.
+// Minimal app context (bundle is used for targeting); ext preserves partner-specific data.
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record App(
+        @JsonInclude(JsonInclude.Include.NON_NULL) String bundle,
         Map<String, Object> ext
 ) implements HasExt {
+    public App(Map<String, Object> ext) {
+        this(null, ext);
+    }
 }
@@ -0,0 +1,233 @@
+package ro.dede.bidbridge.engine.domain.openrtb;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.JsonStringEncoder;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only ext map backed by a slice of the original request bytes.
+ * The slice is parsed on first access, so untouched ext objects never build a Map tree.
+ * Serialization always writes the original bytes verbatim, whether or not the map was read.
+ */
+@JsonSerialize(using = RawExt.Serializer.class)
+public final class RawExt extends AbstractMap<String, Object> {
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final byte[] source;
+    private final int offset;
+    private final int length;
+    // Benign race: concurrent first readers may both parse, result is identical.
+    private volatile Map<String, Object> expanded;
+    private final RawValue rawValue = new RawValue();
+
+    public RawExt(byte[] source, int offset, int length) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public static RawExt of(byte[] json) {
+        return new RawExt(json, 0, json.length);
+    }
+
+    // Size of the raw JSON slice in bytes.
+    public int rawLength() {
+        return length;
+    }
+
+    public boolean isExpanded() {
+        return expanded != null;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return expand().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return expand().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return expand().size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return expand().entrySet();
+    }
+
+    @Override
+    public String toString() {
+        return new String(source, offset, length, StandardCharsets.UTF_8);
+    }
+
+    // Copies the raw JSON slice to the given stream without parsing it.
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(source, offset, length);
+    }
+
+    private Map<String, Object> expand() {
+        var current = expanded;
+        if (current == null) {
+            Map<String, Object> parsed = MAPPER.readValue(source, offset, length, MAP_TYPE);
+            current = parsed == null ? Map.of() : Collections.unmodifiableMap(parsed);
+            expanded = current;
+        }
+        return current;
+    }
+
+    /**
+     * Writes the slice as a raw JSON value, bypassing the Map serializer.
+     */
+    static final class Serializer extends ValueSerializer<RawExt> {
+        @Override
+        public void serialize(RawExt value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeRawValue(value.rawValue);
+        }
+    }
+
+    // Serializable view of the slice, for raw value writes.
+    SerializableString rawValue() {
+        return rawValue;
+    }
+
+    // Raw view of the slice: byte-based generators copy the unquoted bytes straight into their buffer. The quoted
+    // forms (the slice as a JSON string literal's content) are encoded on first use and cached, like SerializedString.
+    private final class RawValue implements SerializableString {
+        // Benign races: concurrent first callers compute identical values.
+        private String value;
+        private char[] quotedChars;
+        private byte[] quotedUTF8;
+
+        @Override
+        public String getValue() {
+            var current = value;
+            if (current == null) {
+                current = RawExt.this.toString();
+                value = current;
+            }
+            return current;
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            var current = quotedChars;
+            if (current == null) {
+                current = JsonStringEncoder.getInstance().quoteAsCharArray(getValue());
+                quotedChars = current;
+            }
+            return current;
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return Arrays.copyOfRange(source, offset, offset + length);
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            var current = quotedUTF8;
+            if (current == null) {
+                current = JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+                quotedUTF8 = current;
+            }
+            return current;
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int bufferOffset) {
+            var quoted = asQuotedUTF8();
+            if (quoted.length > buffer.length - bufferOffset) {
+                return -1;
+            }
+            System.arraycopy(quoted, 0, buffer, bufferOffset, quoted.length);
+            return quoted.length;
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int bufferOffset) {
+            var quoted = asQuotedChars();
+            if (quoted.length > buffer.length - bufferOffset) {
+                return -1;
+            }
+            System.arraycopy(quoted, 0, buffer, bufferOffset, quoted.length);
+            return quoted.length;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int bufferOffset) {
+            if (length > buffer.length - bufferOffset) {
+                return -1;
+            }
+            System.arraycopy(source, offset, buffer, bufferOffset, length);
+            return length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int bufferOffset) {
+            var text = getValue();
+            if (text.length() > buffer.length - bufferOffset) {
+                return -1;
+            }
+            text.getChars(0, text.length(), buffer, bufferOffset);
+            return text.length();
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            var quoted = asQuotedUTF8();
+            out.write(quoted);
+            return quoted.length;
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            writeTo(out);
+            return length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            var quoted = asQuotedUTF8();
+            if (quoted.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(quoted);
+            return quoted.length;
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(source, offset, length);
+            return length;
+        }
+    }
+}
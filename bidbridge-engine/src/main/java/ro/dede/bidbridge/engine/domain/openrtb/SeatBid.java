@@ -1,14 +1,19 @@
 package ro.dede.bidbridge.engine.domain.openrtb;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 
 import java.util.List;
 
-// Minimal seat bid wrapper for bid list.
+// Minimal seat bid wrapper for bid list; seat is the bidder that placed the bids.
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record SeatBid(
-        @NotEmpty List<@Valid Bid> bid
+        @NotEmpty List<@Valid Bid> bid,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String seat
 ) {
+    public SeatBid(List<Bid> bid) {
+        this(bid, null);
+    }
 }
@@ -1,12 +1,17 @@
 package ro.dede.bidbridge.engine.domain.openrtb;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.util.Map;
 
-// Minimal site context; ext preserves partner-specific data.
+// Minimal site context (domain is used for targeting); ext preserves partner-specific data.
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record Site(
+        @JsonInclude(JsonInclude.Include.NON_NULL) String domain,
         Map<String, Object> ext
 ) implements HasExt {
+    public Site(Map<String, Object> ext) {
+        this(null, ext);
+    }
 }
@@ -0,0 +1,196 @@
+package ro.dede.bidbridge.engine.eventlog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.currency.FxRates;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.observability.RequestOutcome;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static ro.dede.bidbridge.engine.eventlog.AuctionRecordLayout.*;
+
+/**
+ * Auction event log: request threads encode a fixed-layout record into an off-heap ring and a single writer
+ * thread copies published records into memory-mapped segment files.
+ * Recording is a CAS to claim a slot, a few absolute writes and a volatile publish; it never blocks or allocates.
+ * When the ring is full (the writer is behind) or the writer has failed, the record is dropped and counted.
+ */
+@Component
+public class AuctionEventLog {
+    private static final Logger log = LoggerFactory.getLogger(AuctionEventLog.class);
+    // An idle writer backs off from MIN to MAX_IDLE_PARK_NANOS and goes back to MIN after each written record.
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(4);
+
+    private final boolean enabled;
+    private final AuctionLogProperties properties;
+    private final int capacity;
+    private final int mask;
+    private final ByteBuffer ring;
+    // published[slot] holds the sequence last written to the slot; the writer waits until it matches.
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running;
+    // Set when the writer thread dies; unlike a shutdown, records arriving after it are counted as dropped.
+    private volatile boolean failed;
+    private Thread thread;
+
+    public AuctionEventLog(AuctionLogProperties properties, MetricsCollector metrics) {
+        this.enabled = properties.isEnabled();
+        this.properties = properties;
+        this.capacity = enabled ? Integer.highestOneBit(Math.max(2, properties.getRingSize()) * 2 - 1) : 1;
+        this.mask = capacity - 1;
+        this.ring = ByteBuffer.allocateDirect(enabled ? capacity * RECORD_SIZE : 0).order(ORDER);
+        this.published = new AtomicLongArray(capacity);
+        for (var slot = 0; slot < capacity; slot++) {
+            published.set(slot, -1);
+        }
+        if (enabled) {
+            metrics.registerAuctionLog(written, dropped);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        var writer = new SegmentWriter(Path.of(properties.getDirectory()), properties.getSegmentBytes(),
+                properties.getMaxSegments());
+        running = true;
+        thread = Thread.ofPlatform().daemon().name("auction-log-writer").start(() -> drain(writer));
+        log.info("Auction event log enabled in {}", Path.of(properties.getDirectory()).toAbsolutePath());
+    }
+
+    // Stops after the records already claimed are written.
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records one finished auction; latencies in milliseconds, prices converted with rates into the auction currency
+     * (winningPrice 0 without a bid). Records that cannot be encoded are counted as dropped.
+     */
+    public void record(String requestId,
+                       String caller,
+                       List<AdapterResult> results,
+                       FxRates rates,
+                       long latencyMs,
+                       double winningPrice,
+                       RequestOutcome outcome) {
+        if (!enabled) {
+            return;
+        }
+        if (failed) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (!running) {
+            return;
+        }
+        // Checked before claiming: a claimed slot that is never published stalls the writer for good.
+        var count = results == null ? 0 : Math.min(results.size(), MAX_ADAPTERS);
+        if (outcome == null || rates == null || !encodable(results, count)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= capacity) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        var slot = (int) (sequence & mask);
+        var base = slot * RECORD_SIZE;
+        ring.putLong(base + TIMESTAMP_MS, System.currentTimeMillis());
+        ring.putInt(base + LATENCY_MS, (int) Math.min(Integer.MAX_VALUE, latencyMs));
+        ring.put(base + OUTCOME, (byte) outcome.ordinal());
+        ring.putDouble(base + WINNING_PRICE, winningPrice);
+        putAscii(ring, base + REQUEST_ID, REQUEST_ID_SIZE, requestId);
+        putAscii(ring, base + CALLER, CALLER_SIZE, caller);
+        ring.put(base + ADAPTER_COUNT, (byte) count);
+        for (var i = 0; i < count; i++) {
+            var result = results.get(i);
+            var adapter = base + ADAPTERS + i * ADAPTER_SIZE;
+            putAscii(ring, adapter + ADAPTER_NAME, ADAPTER_NAME_SIZE, result.bidder());
+            ring.put(adapter + ADAPTER_STATUS, (byte) result.status().ordinal());
+            ring.putInt(adapter + ADAPTER_LATENCY_MS, result.latencyMs() == null ? -1 : result.latencyMs().intValue());
+            ring.putDouble(adapter + ADAPTER_PRICE, price(result, rates));
+        }
+        published.set(slot, sequence);
+    }
+
+    private static boolean encodable(List<AdapterResult> results, int count) {
+        for (var i = 0; i < count; i++) {
+            var result = results.get(i);
+            if (result == null || result.status() == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Bid price in auction currency: 0 without a bid, -1 when its currency has no rate.
+    private static double price(AdapterResult result, FxRates rates) {
+        var bid = result.bid();
+        if (bid == null) {
+            return 0.0;
+        }
+        var price = rates.toAuction(bid.price(), bid.currency());
+        return Double.isNaN(price) ? -1.0 : price;
+    }
+
+    private void drain(SegmentWriter writer) {
+        try (writer) {
+            var next = consumed.get();
+            var parkNanos = MIN_IDLE_PARK_NANOS;
+            while (true) {
+                var slot = (int) (next & mask);
+                if (published.get(slot) != next) {
+                    if (!running && claimed.get() == next) {
+                        return;
+                    }
+                    LockSupport.parkNanos(parkNanos);
+                    parkNanos = Math.min(parkNanos * 2, MAX_IDLE_PARK_NANOS);
+                    continue;
+                }
+                writer.append(ring, slot * RECORD_SIZE);
+                written.incrementAndGet();
+                next++;
+                consumed.set(next);
+                parkNanos = MIN_IDLE_PARK_NANOS;
+            }
+        } catch (RuntimeException ex) {
+            failed = true;
+            // Records already claimed will never be written.
+            dropped.addAndGet(claimed.get() - consumed.get());
+            log.error("Auction event log writer stopped: {}", ex.getMessage(), ex);
+        }
+    }
+}
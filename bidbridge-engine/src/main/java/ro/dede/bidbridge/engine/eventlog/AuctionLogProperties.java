@@ -0,0 +1,58 @@
+package ro.dede.bidbridge.engine.eventlog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Binary auction event log written to memory-mapped, rotating segment files.
+ */
+@ConfigurationProperties(prefix = "engine.auction-log")
+public class AuctionLogProperties {
+    private boolean enabled = false;
+    private String directory = "auction-log";
+    // Size of each mapped segment file; a new segment starts when the current one is full.
+    private long segmentBytes = 64L * 1024 * 1024;
+    // Oldest segments beyond this count are deleted on rotation.
+    private int maxSegments = 16;
+    // Records buffered between request threads and the writer; rounded up to a power of two.
+    private int ringSize = 8192;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public long getSegmentBytes() {
+        return segmentBytes;
+    }
+
+    public void setSegmentBytes(long segmentBytes) {
+        this.segmentBytes = segmentBytes;
+    }
+
+    public int getMaxSegments() {
+        return maxSegments;
+    }
+
+    public void setMaxSegments(int maxSegments) {
+        this.maxSegments = maxSegments;
+    }
+
+    public int getRingSize() {
+        return ringSize;
+    }
+
+    public void setRingSize(int ringSize) {
+        this.ringSize = ringSize;
+    }
+}
@@ -0,0 +1,105 @@
+package ro.dede.bidbridge.engine.eventlog;
+
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
+import ro.dede.bidbridge.engine.observability.RequestOutcome;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static ro.dede.bidbridge.engine.eventlog.AuctionRecordLayout.*;
+
+/**
+ * Command-line dump of auction log segments as JSON lines, one object per auction.
+ * Arguments are segment files or directories (all segments in name order); output goes to stdout.
+ */
+public final class AuctionLogReader {
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    private AuctionLogReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: AuctionLogReader <segment-file-or-directory>...");
+            System.exit(2);
+        }
+        var out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        for (var arg : args) {
+            var path = Path.of(arg);
+            var files = Files.isDirectory(path) ? SegmentWriter.segments(path) : List.of(path);
+            for (var file : files) {
+                dump(file, out);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes every record of the segment as a JSON line; returns the number of records.
+     */
+    public static int dump(Path segment, Writer out) throws IOException {
+        ByteBuffer buffer;
+        try (var channel = FileChannel.open(segment)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ORDER);
+        }
+        if (buffer.capacity() < HEADER_SIZE || buffer.getLong(0) != MAGIC) {
+            throw new IOException("Not an auction log segment: " + segment);
+        }
+        if (buffer.getInt(8) != VERSION || buffer.getInt(12) != RECORD_SIZE) {
+            throw new IOException("Unsupported segment version " + buffer.getInt(8) + ": " + segment);
+        }
+        var count = 0;
+        for (var base = HEADER_SIZE; base + RECORD_SIZE <= buffer.capacity(); base += RECORD_SIZE) {
+            if (buffer.getLong(base + TIMESTAMP_MS) == 0) {
+                break;
+            }
+            out.write(MAPPER.writeValueAsString(read(buffer, base)));
+            out.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private static Map<String, Object> read(ByteBuffer buffer, int base) {
+        var record = new LinkedHashMap<String, Object>();
+        record.put("timestampMs", buffer.getLong(base + TIMESTAMP_MS));
+        record.put("requestId", getAscii(buffer, base + REQUEST_ID));
+        record.put("caller", getAscii(buffer, base + CALLER));
+        record.put("outcome", enumLabel(RequestOutcome.values(), buffer.get(base + OUTCOME), RequestOutcome::value));
+        record.put("latencyMs", buffer.getInt(base + LATENCY_MS));
+        record.put("winningPrice", buffer.getDouble(base + WINNING_PRICE));
+        var count = Math.min(buffer.get(base + ADAPTER_COUNT) & 0xFF, MAX_ADAPTERS);
+        var adapters = new ArrayList<Map<String, Object>>(count);
+        for (var i = 0; i < count; i++) {
+            var adapter = base + ADAPTERS + i * ADAPTER_SIZE;
+            var entry = new LinkedHashMap<String, Object>();
+            entry.put("adapter", getAscii(buffer, adapter + ADAPTER_NAME));
+            entry.put("status", enumLabel(AdapterResultStatus.values(), buffer.get(adapter + ADAPTER_STATUS),
+                    Enum::name));
+            entry.put("latencyMs", buffer.getInt(adapter + ADAPTER_LATENCY_MS));
+            entry.put("price", buffer.getDouble(adapter + ADAPTER_PRICE));
+            adapters.add(entry);
+        }
+        record.put("adapters", adapters);
+        return record;
+    }
+
+    // Ordinals this build does not know (a newer writer) come out as "unknown(<ordinal>)" rather than a guess.
+    private static <E extends Enum<E>> String enumLabel(E[] values, byte ordinal, Function<E, String> label) {
+        var index = ordinal & 0xFF;
+        return index < values.length ? label.apply(values[index]) : "unknown(" + index + ")";
+    }
+}
@@ -0,0 +1,61 @@
+package ro.dede.bidbridge.engine.eventlog;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed binary layout of segment files, shared by the writer and the reader.
+ * A segment is a 16-byte header followed by RECORD_SIZE records; the mapped file is zero-filled, so the first
+ * record with a zero timestamp marks the end of the data. Strings are ASCII with a length byte and are truncated
+ * to their field; at most MAX_ADAPTERS adapter outcomes are kept per record.
+ */
+final class AuctionRecordLayout {
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final long MAGIC = 0x474F4C5443554142L; // "BAUCTLOG" little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    // Record fields (byte offsets).
+    static final int TIMESTAMP_MS = 0;
+    static final int LATENCY_MS = 8;
+    static final int OUTCOME = 12;
+    static final int ADAPTER_COUNT = 13;
+    static final int WINNING_PRICE = 16;
+    static final int REQUEST_ID = 24;
+    static final int REQUEST_ID_SIZE = 48;
+    static final int CALLER = REQUEST_ID + REQUEST_ID_SIZE;
+    static final int CALLER_SIZE = 32;
+    static final int ADAPTERS = CALLER + CALLER_SIZE;
+
+    // Adapter slot fields, relative to the slot.
+    static final int ADAPTER_NAME = 0;
+    static final int ADAPTER_NAME_SIZE = 24;
+    static final int ADAPTER_STATUS = 24;
+    static final int ADAPTER_LATENCY_MS = 28;
+    static final int ADAPTER_PRICE = 32;
+    static final int ADAPTER_SIZE = 40;
+    static final int MAX_ADAPTERS = 8;
+
+    static final int RECORD_SIZE = ADAPTERS + MAX_ADAPTERS * ADAPTER_SIZE;
+
+    private AuctionRecordLayout() {
+    }
+
+    // Writes up to size - 1 chars without allocating; non-ASCII chars become '?'.
+    static void putAscii(ByteBuffer buffer, int offset, int size, String value) {
+        var length = value == null ? 0 : Math.min(value.length(), size - 1);
+        buffer.put(offset, (byte) length);
+        for (var i = 0; i < length; i++) {
+            var c = value.charAt(i);
+            buffer.put(offset + 1 + i, (byte) (c < 0x80 ? c : '?'));
+        }
+    }
+
+    static String getAscii(ByteBuffer buffer, int offset) {
+        var length = buffer.get(offset) & 0xFF;
+        var bytes = new byte[length];
+        buffer.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
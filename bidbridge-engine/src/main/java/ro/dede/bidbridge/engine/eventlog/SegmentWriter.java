@@ -0,0 +1,94 @@
+package ro.dede.bidbridge.engine.eventlog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static ro.dede.bidbridge.engine.eventlog.AuctionRecordLayout.*;
+
+/**
+ * Appends records to memory-mapped segment files, starting a new file when the current one is full and deleting
+ * the oldest beyond maxSegments. Used only by the log's writer thread.
+ */
+final class SegmentWriter implements AutoCloseable {
+    static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private MappedByteBuffer current;
+    private int position;
+    private int index;
+
+    SegmentWriter(Path directory, long segmentBytes, int maxSegments) {
+        if (segmentBytes < HEADER_SIZE + RECORD_SIZE || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("engine.auctionLog.segmentBytes must be between "
+                    + (HEADER_SIZE + RECORD_SIZE) + " and " + Integer.MAX_VALUE);
+        }
+        this.directory = directory;
+        // Whole records only; the tail of a segment that cannot hold one more record stays zero.
+        this.segmentBytes = (int) segmentBytes;
+        this.maxSegments = Math.max(1, maxSegments);
+    }
+
+    void append(ByteBuffer source, int offset) {
+        if (current == null || position + RECORD_SIZE > segmentBytes) {
+            rotate();
+        }
+        current.put(position, source, offset, RECORD_SIZE);
+        position += RECORD_SIZE;
+    }
+
+    @Override
+    public void close() {
+        if (current != null) {
+            current.force();
+            current = null;
+        }
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                    .toList();
+        }
+    }
+
+    private void rotate() {
+        close();
+        try {
+            Files.createDirectories(directory);
+            var file = directory.resolve(String.format("auction-%013d-%06d%s",
+                    System.currentTimeMillis(), index++, SUFFIX));
+            try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // The mapping stays valid after the channel is closed.
+                current = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            }
+            current.order(ORDER);
+            current.putLong(0, MAGIC);
+            current.putInt(8, VERSION);
+            current.putInt(12, RECORD_SIZE);
+            position = HEADER_SIZE;
+            deleteOldSegments();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void deleteOldSegments() throws IOException {
+        var segments = new ArrayList<>(segments(directory));
+        while (segments.size() > maxSegments) {
+            Files.deleteIfExists(segments.removeFirst());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package ro.dede.bidbridge.engine.filters.deadline;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.api.OpenRtbConstants;
+import ro.dede.bidbridge.engine.service.RequestDeadline;
+
+/**
+ * Stamps bid requests with their arrival time before any other filter runs, so time spent in later filters,
+ * body decoding and normalization counts against tmax.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestDeadlineFilter implements WebFilter {
+    public static final String ATTR_REQUEST_DEADLINE = RequestDeadline.CONTEXT_KEY;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!OpenRtbConstants.isOpenRtbBidRequestPath(exchange.getRequest().getPath().value())) {
+            return chain.filter(exchange);
+        }
+        var deadline = new RequestDeadline(System.nanoTime());
+        exchange.getAttributes().put(ATTR_REQUEST_DEADLINE, deadline);
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, deadline));
+    }
+}
@@ -0,0 +1,49 @@
+package ro.dede.bidbridge.engine.filters.limits;
+
+import ro.dede.bidbridge.engine.config.EngineLimitsProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caller to priority class lookup, resolved once from {@code engine.limits.priority}.
+ */
+final class CallerPriorities {
+    // Callers outside the config share one metrics tag to keep cardinality bounded.
+    static final String OTHER_CALLER = "other";
+
+    record Tier(String caller, String priority, double share) {
+    }
+
+    private final boolean enabled;
+    private final Map<String, Tier> byCaller = new HashMap<>();
+    private final Tier defaultTier;
+
+    CallerPriorities(EngineLimitsProperties.PriorityConfig config) {
+        this.enabled = config != null && config.isEnabled();
+        if (!enabled) {
+            this.defaultTier = null;
+            return;
+        }
+        this.defaultTier = new Tier(OTHER_CALLER, config.getDefaultClass(), share(config, config.getDefaultClass()));
+        config.getCallers().forEach((caller, priority) ->
+                byCaller.put(caller, new Tier(caller, priority, share(config, priority))));
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    Tier resolve(String caller) {
+        var tier = caller == null ? null : byCaller.get(caller);
+        return tier == null ? defaultTier : tier;
+    }
+
+    private static double share(EngineLimitsProperties.PriorityConfig config, String priority) {
+        var share = config.getClasses().get(priority);
+        if (share == null) {
+            throw new IllegalStateException("Unknown priority class '" + priority + "' in engine.limits.priority");
+        }
+        return Math.clamp(share, 0.0, 1.0);
+    }
+}
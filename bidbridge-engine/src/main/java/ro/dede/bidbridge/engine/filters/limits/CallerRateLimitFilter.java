@@ -0,0 +1,69 @@
+package ro.dede.bidbridge.engine.filters.limits;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.api.OpenRtbConstants;
+import ro.dede.bidbridge.engine.config.EngineLimitsProperties;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-caller QPS limits ({@code engine.limits.rateLimit.*}) keyed by {@code X-Caller} or another header.
+ * Runs just ahead of {@link InFlightLimitFilter} so rate-limited callers never take an in-flight permit.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 8)
+public class CallerRateLimitFilter implements WebFilter {
+    private static final byte[] RATE_LIMITED_BYTES =
+            "{\"error\":\"Rate limit exceeded\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final EngineLimitsProperties.RateLimitConfig config;
+    private final CallerRateLimiter limiter;
+    private final MetricsCollector metricsCollector;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public CallerRateLimitFilter(EngineLimitsProperties properties, MetricsCollector metricsCollector) {
+        this(properties, metricsCollector, System::nanoTime);
+    }
+
+    CallerRateLimitFilter(EngineLimitsProperties properties, MetricsCollector metricsCollector, LongSupplier nanoClock) {
+        this.config = properties.getRateLimit();
+        this.limiter = config.isEnabled() ? new CallerRateLimiter(config, nanoClock.getAsLong()) : null;
+        this.metricsCollector = metricsCollector;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (limiter == null || !OpenRtbConstants.isOpenRtbBidRequestPath(exchange.getRequest().getPath().value())) {
+            return chain.filter(exchange);
+        }
+        var caller = exchange.getRequest().getHeaders().getFirst(config.getKeyHeader());
+        var waitNanos = limiter.tryAcquire(caller, nanoClock.getAsLong());
+        if (waitNanos == 0) {
+            return chain.filter(exchange);
+        }
+        metricsCollector.recordRateLimited(limiter.isConfigured(caller) ? caller : CallerRateLimiter.SHARED_KEY);
+        var response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        // Whole seconds, rounded up so a retry at that time is admitted.
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                Long.toString(Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L)));
+        response.getHeaders().add(OpenRtbConstants.OPENRTB_VERSION_HEADER, OpenRtbConstants.OPENRTB_VERSION);
+        var buffer = response.bufferFactory().wrap(RATE_LIMITED_BYTES);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
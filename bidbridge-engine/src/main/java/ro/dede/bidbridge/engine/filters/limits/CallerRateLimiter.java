@@ -0,0 +1,102 @@
+package ro.dede.bidbridge.engine.filters.limits;
+
+import ro.dede.bidbridge.engine.config.EngineLimitsProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-caller GCRA buckets: one CAS-updated "theoretical arrival time" per caller, created on first use.
+ * A caller under its limit costs one map lookup and one CAS. Buckets whose arrival time is older than the idle
+ * timeout are full again and are dropped by a sweep that runs at most once per idle period.
+ */
+final class CallerRateLimiter {
+    // Requests without the key header share this bucket; so do new callers once maxCallers is reached.
+    static final String SHARED_KEY = "other";
+
+    private final Map<String, Integer> configuredQps;
+    private final int defaultQps;
+    private final long burstNanos;
+    private final long idleNanos;
+    private final int maxCallers;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepNanos;
+
+    CallerRateLimiter(EngineLimitsProperties.RateLimitConfig config, long nowNanos) {
+        this.configuredQps = Map.copyOf(config.getCallers());
+        this.defaultQps = config.getDefaultQps();
+        this.burstNanos = Math.max(0, config.getBurstMs()) * 1_000_000L;
+        this.idleNanos = Math.max(1, config.getIdleEvictMs()) * 1_000_000L;
+        this.maxCallers = Math.max(1, config.getMaxCallers());
+        this.nextSweepNanos = new AtomicLong(nowNanos + idleNanos);
+    }
+
+    // True when the caller has an explicit limit, i.e. its name is a bounded metrics tag.
+    boolean isConfigured(String caller) {
+        return configuredQps.containsKey(caller);
+    }
+
+    int trackedCallers() {
+        return buckets.size();
+    }
+
+    /**
+     * Takes one request slot for the caller; returns 0 when admitted, otherwise nanos until the next slot frees up.
+     */
+    long tryAcquire(String caller, long nowNanos) {
+        sweepIfDue(nowNanos);
+        var key = caller == null ? SHARED_KEY : caller;
+        var bucket = buckets.get(key);
+        if (bucket == null) {
+            var qps = configuredQps.getOrDefault(key, defaultQps);
+            if (qps == null || qps <= 0) {
+                return 0;
+            }
+            if (buckets.size() >= maxCallers && !configuredQps.containsKey(key)) {
+                key = SHARED_KEY;
+                qps = defaultQps;
+            }
+            var rate = qps;
+            bucket = buckets.computeIfAbsent(key, name -> new Bucket(rate, burstNanos, nowNanos));
+        }
+        return bucket.tryAcquire(nowNanos);
+    }
+
+    private void sweepIfDue(long nowNanos) {
+        var due = nextSweepNanos.get();
+        if (nowNanos - due >= 0 && nextSweepNanos.compareAndSet(due, nowNanos + idleNanos)) {
+            buckets.values().removeIf(bucket -> bucket.idleSince(nowNanos) >= idleNanos);
+        }
+    }
+
+    private static final class Bucket {
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final AtomicLong arrival;
+
+        private Bucket(int qps, long burstNanos, long nowNanos) {
+            this.intervalNanos = Math.max(1L, 1_000_000_000L / qps);
+            this.toleranceNanos = Math.max(0L, burstNanos - intervalNanos);
+            this.arrival = new AtomicLong(nowNanos);
+        }
+
+        long tryAcquire(long nowNanos) {
+            while (true) {
+                var current = arrival.get();
+                var base = Math.max(current, nowNanos);
+                var wait = base - nowNanos - toleranceNanos;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (arrival.compareAndSet(current, base + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+
+        long idleSince(long nowNanos) {
+            return nowNanos - arrival.get();
+        }
+    }
+}
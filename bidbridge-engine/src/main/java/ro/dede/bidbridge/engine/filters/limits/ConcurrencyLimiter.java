@@ -0,0 +1,133 @@
+package ro.dede.bidbridge.engine.filters.limits;
+
+import ro.dede.bidbridge.engine.config.EngineLimitsProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Non-blocking in-flight limiter with either a static cap or a latency-driven adaptive limit.
+ * Adaptive mode compares the mean latency of each window against the target: above it the limit shrinks by
+ * {@code target / latency} (at most halving per window), at or below it the limit grows by {@code sqrt(limit)}
+ * when the window actually used at least half of it. The limit always stays within [minLimit, maxInFlight].
+ * Callers may be admitted against a share of the limit, so lower priorities are refused first as it tightens.
+ */
+final class ConcurrencyLimiter {
+    // Returned by tryAcquire when no permit was taken; nanoTime can be negative, so compare by equality only.
+    static final long REJECTED = Long.MIN_VALUE;
+
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetNanos;
+    private final long windowNanos;
+    private final int minSamples;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final AtomicLong windowStart;
+    // Fractional estimate so small adjustments accumulate; the integer view is what requests are checked against.
+    private volatile double estimate;
+    private volatile int limit;
+
+    ConcurrencyLimiter(EngineLimitsProperties properties, LongSupplier nanoClock) {
+        var config = properties.getAdaptive();
+        this.maxLimit = Math.max(1, properties.getMaxInFlight());
+        this.adaptive = config != null && config.isEnabled();
+        this.nanoClock = nanoClock;
+        if (adaptive) {
+            this.minLimit = Math.clamp(config.getMinLimit(), 1, maxLimit);
+            this.targetNanos = Math.max(1, config.getTargetLatencyMs()) * 1_000_000L;
+            this.windowNanos = Math.max(1, config.getWindowMs()) * 1_000_000L;
+            this.minSamples = Math.max(1, config.getMinSamples());
+            setLimit(Math.clamp(config.getInitialLimit(), minLimit, maxLimit));
+        } else {
+            this.minLimit = maxLimit;
+            this.targetNanos = 0;
+            this.windowNanos = 0;
+            this.minSamples = 0;
+            setLimit(maxLimit);
+        }
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    boolean isAdaptive() {
+        return adaptive;
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    // Returns the start timestamp to pass to release, or REJECTED when the limit is reached.
+    long tryAcquire() {
+        return tryAcquire(1.0);
+    }
+
+    // As tryAcquire(), but only admits while in-flight is below the given share of the current limit.
+    long tryAcquire(double share) {
+        while (true) {
+            var current = inFlight.get();
+            var threshold = share >= 1.0 ? limit : Math.max(1, (int) (limit * share));
+            if (current >= threshold) {
+                return REJECTED;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (adaptive && current + 1 > peakInFlight.get()) {
+                    peakInFlight.accumulateAndGet(current + 1, Math::max);
+                }
+                return adaptive ? nanoClock.getAsLong() : 0;
+            }
+        }
+    }
+
+    // Releases a permit; sampled requests contribute their latency to the current window.
+    void release(long startNanos, boolean sample) {
+        inFlight.decrementAndGet();
+        if (!adaptive || !sample) {
+            return;
+        }
+        var now = nanoClock.getAsLong();
+        latencyNanos.add(now - startNanos);
+        samples.increment();
+        var start = windowStart.get();
+        if (now - start >= windowNanos && samples.sum() >= minSamples && windowStart.compareAndSet(start, now)) {
+            update();
+        }
+    }
+
+    // Only the thread that rolled the window gets here.
+    private void update() {
+        var count = samples.sumThenReset();
+        var total = latencyNanos.sumThenReset();
+        var peak = peakInFlight.getAndSet(inFlight.get());
+        if (count == 0) {
+            return;
+        }
+        var meanNanos = Math.max(1.0, (double) total / count);
+        var current = estimate;
+        double next;
+        if (meanNanos > targetNanos) {
+            next = current * Math.max(0.5, targetNanos / meanNanos);
+        } else if (peak * 2 >= limit) {
+            next = current + Math.sqrt(current);
+        } else {
+            return;
+        }
+        setLimit(Math.clamp(next, minLimit, maxLimit));
+    }
+
+    private void setLimit(double value) {
+        estimate = value;
+        limit = (int) value;
+    }
+}
@@ -1,5 +1,6 @@
 package ro.dede.bidbridge.engine.filters.limits;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
@@ -9,15 +10,20 @@ import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 import ro.dede.bidbridge.engine.api.OpenRtbConstants;
 import ro.dede.bidbridge.engine.config.EngineLimitsProperties;
 import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.observability.RequestLoggingFilter;
 
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.Semaphore;
+import java.util.function.LongSupplier;
 
 /**
  * Limits in-flight bid requests to avoid overload.
+ * The limit is either the static {@code engine.limits.maxInFlight} or adapted from request latency
+ * ({@code engine.limits.adaptive.*}). With {@code engine.limits.priority.enabled} each {@code X-Caller} is admitted
+ * against its class share of that limit, so low-priority callers are shed before premium ones.
  */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE + 10)
@@ -25,13 +31,20 @@ public class InFlightLimitFilter implements WebFilter {
     private static final byte[] TOO_MANY_BYTES =
             "{\"error\":\"Too many requests\"}".getBytes(StandardCharsets.UTF_8);
 
-    private final Semaphore semaphore;
+    private final ConcurrencyLimiter limiter;
+    private final CallerPriorities priorities;
     private final MetricsCollector metricsCollector;
 
+    @Autowired
     public InFlightLimitFilter(EngineLimitsProperties properties, MetricsCollector metricsCollector) {
-        var maxInFlight = Math.max(1, properties.getMaxInFlight());
-        this.semaphore = new Semaphore(maxInFlight);
+        this(properties, metricsCollector, System::nanoTime);
+    }
+
+    InFlightLimitFilter(EngineLimitsProperties properties, MetricsCollector metricsCollector, LongSupplier nanoClock) {
+        this.limiter = new ConcurrencyLimiter(properties, nanoClock);
+        this.priorities = new CallerPriorities(properties.getPriority());
         this.metricsCollector = metricsCollector;
+        metricsCollector.registerConcurrencyLimiter(limiter::limit, limiter::inFlight);
     }
 
     @Override
@@ -39,7 +52,15 @@ public class InFlightLimitFilter implements WebFilter {
         if (!OpenRtbConstants.isOpenRtbBidRequestPath(exchange.getRequest().getPath().value())) {
             return chain.filter(exchange);
         }
-        if (!semaphore.tryAcquire()) {
+        var tier = priorities.isEnabled()
+                ? priorities.resolve(exchange.getRequest().getHeaders().getFirst(RequestLoggingFilter.CALLER_HEADER))
+                : null;
+        var startNanos = tier == null ? limiter.tryAcquire() : limiter.tryAcquire(tier.share());
+        var admitted = startNanos != ConcurrencyLimiter.REJECTED;
+        if (tier != null) {
+            metricsCollector.recordAdmission(tier.caller(), tier.priority(), admitted);
+        }
+        if (!admitted) {
             metricsCollector.recordInFlightLimitRejection();
             var response = exchange.getResponse();
             response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
@@ -48,8 +69,9 @@ public class InFlightLimitFilter implements WebFilter {
             var buffer = response.bufferFactory().wrap(TOO_MANY_BYTES);
             return response.writeWith(Mono.just(buffer));
         }
+        // Cancelled exchanges (client gone) say nothing about our latency.
         return chain.filter(exchange)
-                .doFinally(signal -> semaphore.release());
+                .doFinally(signal -> limiter.release(startNanos, signal != SignalType.CANCEL));
     }
 
 }
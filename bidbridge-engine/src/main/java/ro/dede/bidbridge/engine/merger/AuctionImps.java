@@ -0,0 +1,113 @@
+package ro.dede.bidbridge.engine.merger;
+
+import ro.dede.bidbridge.engine.currency.FxRates;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
+import ro.dede.bidbridge.engine.domain.adapter.SelectedBid;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedImp;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imps of one auction with their floors in auction currency, read against a single FX table.
+ * Shared by the merger and by early completion so both value bids the same way: converted to the auction currency,
+ * and valid only for a known imp, in a known currency and at or above the imp floor.
+ */
+public final class AuctionImps {
+    // A linear scan beats hashing for the usual handful of imps.
+    private static final int SCAN_LIMIT = 16;
+
+    private final FxRates rates;
+    private final List<NormalizedImp> imps;
+    private final Map<String, Integer> byId;
+    private final double[] floors;
+
+    private AuctionImps(FxRates rates, List<NormalizedImp> imps, Map<String, Integer> byId, double[] floors) {
+        this.rates = rates;
+        this.imps = imps;
+        this.byId = byId;
+        this.floors = floors;
+    }
+
+    public static AuctionImps of(List<NormalizedImp> imps, FxRates rates) {
+        // Floors are in USD (OpenRTB default bidfloorcur); bids must reach them once both are in auction currency.
+        var floors = new double[imps.size()];
+        for (var i = 0; i < floors.length; i++) {
+            floors[i] = rates.toAuction(imps.get(i).bidfloor(), FxRates.DEFAULT_CURRENCY);
+        }
+        Map<String, Integer> byId = null;
+        if (imps.size() > SCAN_LIMIT) {
+            byId = new HashMap<>(imps.size() * 2);
+            for (var i = imps.size() - 1; i >= 0; i--) {
+                byId.put(imps.get(i).id(), i);
+            }
+        }
+        return new AuctionImps(rates, imps, byId, floors);
+    }
+
+    public int size() {
+        return floors.length;
+    }
+
+    public String currency() {
+        return rates.auctionCurrency();
+    }
+
+    // Position of the imp in the request, -1 when the id is not in it.
+    public int indexOf(String impid) {
+        if (impid == null) {
+            return -1;
+        }
+        if (byId != null) {
+            return byId.getOrDefault(impid, -1);
+        }
+        for (var i = 0; i < imps.size(); i++) {
+            if (impid.equals(imps.get(i).id())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public double floor(int index) {
+        return floors[index];
+    }
+
+    // Bid price in auction currency; NaN when the currency cannot be converted.
+    public double convert(SelectedBid bid) {
+        return rates.toAuction(bid.price(), bid.currency());
+    }
+
+    /**
+     * Price of the bid on imps[index] in auction currency, or NaN when the merger would drop it.
+     */
+    public double validPrice(SelectedBid bid, int index) {
+        if (index < 0 || bid.price() <= 0) {
+            return Double.NaN;
+        }
+        var price = convert(bid);
+        return price >= floors[index] ? price : Double.NaN;
+    }
+
+    /**
+     * Highest valid price among the result's bids, 0 when it has none.
+     */
+    public double bestPrice(AdapterResult result) {
+        var best = 0.0;
+        if (result.status() != AdapterResultStatus.BID) {
+            return best;
+        }
+        for (var bid : result.bids()) {
+            if (bid == null) {
+                continue;
+            }
+            var price = validPrice(bid, indexOf(bid.impid()));
+            if (price > best) {
+                best = price;
+            }
+        }
+        return best;
+    }
+}
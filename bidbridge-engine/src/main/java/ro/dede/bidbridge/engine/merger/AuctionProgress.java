@@ -0,0 +1,65 @@
+package ro.dede.bidbridge.engine.merger;
+
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Running view of an auction while adapter results stream in: the best valid price per imp, valued by
+ * {@link AuctionImps} exactly as the merger will value it.
+ * Not thread-safe: results are delivered serially by the reactive pipeline.
+ */
+public final class AuctionProgress {
+    private final AuctionImps imps;
+    private final Set<String> pending;
+    private final double[] bestPrices;
+    private int filled;
+
+    public AuctionProgress(AuctionImps imps, Collection<String> adapters) {
+        this.imps = imps;
+        this.pending = new HashSet<>(adapters);
+        this.bestPrices = new double[imps.size()];
+    }
+
+    public void accept(AdapterResult result) {
+        pending.remove(result.bidder());
+        if (result.status() != AdapterResultStatus.BID) {
+            return;
+        }
+        for (var bid : result.bids()) {
+            var index = bid == null ? -1 : imps.indexOf(bid.impid());
+            if (index < 0) {
+                continue;
+            }
+            var price = imps.validPrice(bid, index);
+            // NaN (a bid the merger drops) compares false.
+            if (price > bestPrices[index]) {
+                if (bestPrices[index] == 0) {
+                    filled++;
+                }
+                bestPrices[index] = price;
+            }
+        }
+    }
+
+    /**
+     * Lowest of the per-imp best prices once every imp has a valid bid, 0 while any imp is unfilled.
+     */
+    public double bestPrice() {
+        if (filled < bestPrices.length || bestPrices.length == 0) {
+            return 0.0;
+        }
+        var lowest = bestPrices[0];
+        for (var i = 1; i < bestPrices.length; i++) {
+            lowest = Math.min(lowest, bestPrices[i]);
+        }
+        return lowest;
+    }
+
+    public Set<String> pending() {
+        return pending;
+    }
+}
@@ -0,0 +1,80 @@
+package ro.dede.bidbridge.engine.merger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Auction pricing: a default strategy with overrides per caller ({@code X-Caller}) and per inventory type.
+ * A caller override wins over an inventory override.
+ */
+@ConfigurationProperties(prefix = "auction")
+public class AuctionProperties {
+    private StrategyConfig defaultStrategy = new StrategyConfig();
+    private Map<String, StrategyConfig> callers = new LinkedHashMap<>();
+    private Map<InventoryType, StrategyConfig> inventory = new EnumMap<>(InventoryType.class);
+
+    public StrategyConfig getDefaultStrategy() {
+        return defaultStrategy;
+    }
+
+    public void setDefaultStrategy(StrategyConfig defaultStrategy) {
+        this.defaultStrategy = defaultStrategy;
+    }
+
+    public Map<String, StrategyConfig> getCallers() {
+        return callers;
+    }
+
+    public void setCallers(Map<String, StrategyConfig> callers) {
+        this.callers = callers;
+    }
+
+    public Map<InventoryType, StrategyConfig> getInventory() {
+        return inventory;
+    }
+
+    public void setInventory(Map<InventoryType, StrategyConfig> inventory) {
+        this.inventory = inventory;
+    }
+
+    public enum Type {
+        FIRST_PRICE,
+        SECOND_PRICE,
+        SOFT_FLOOR
+    }
+
+    // One strategy; increment and softFloor are in auction currency.
+    public static class StrategyConfig {
+        private Type type = Type.FIRST_PRICE;
+        private double increment = 0.01;
+        private double softFloor;
+
+        public Type getType() {
+            return type;
+        }
+
+        public void setType(Type type) {
+            this.type = type;
+        }
+
+        public double getIncrement() {
+            return increment;
+        }
+
+        public void setIncrement(double increment) {
+            this.increment = increment;
+        }
+
+        public double getSoftFloor() {
+            return softFloor;
+        }
+
+        public void setSoftFloor(double softFloor) {
+            this.softFloor = softFloor;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ro.dede.bidbridge.engine.merger;
+
+import org.springframework.stereotype.Component;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Strategies built once from {@link AuctionProperties}; resolving one per auction is two map lookups.
+ */
+@Component
+public class AuctionStrategies {
+    private final AuctionStrategy defaultStrategy;
+    private final Map<String, AuctionStrategy> byCaller = new HashMap<>();
+    private final Map<InventoryType, AuctionStrategy> byInventory = new EnumMap<>(InventoryType.class);
+
+    public AuctionStrategies(AuctionProperties properties) {
+        this.defaultStrategy = build("auction.defaultStrategy", properties.getDefaultStrategy());
+        properties.getCallers().forEach((caller, config) ->
+                byCaller.put(caller, build("auction.callers." + caller, config)));
+        properties.getInventory().forEach((inventory, config) ->
+                byInventory.put(inventory, build("auction.inventory." + inventory, config)));
+    }
+
+    public AuctionStrategy resolve(String caller, InventoryType inventoryType) {
+        var strategy = caller == null ? null : byCaller.get(caller);
+        if (strategy == null && inventoryType != null) {
+            strategy = byInventory.get(inventoryType);
+        }
+        return strategy == null ? defaultStrategy : strategy;
+    }
+
+    private static AuctionStrategy build(String key, AuctionProperties.StrategyConfig config) {
+        if (config == null || config.getType() == null) {
+            return AuctionStrategy.FIRST_PRICE;
+        }
+        if (!(config.getIncrement() >= 0) || !(config.getSoftFloor() >= 0)) {
+            throw new IllegalStateException(key + ": increment and softFloor must be >= 0");
+        }
+        return switch (config.getType()) {
+            case FIRST_PRICE -> AuctionStrategy.FIRST_PRICE;
+            case SECOND_PRICE -> new AuctionStrategy.SecondPrice(config.getIncrement());
+            case SOFT_FLOOR -> new AuctionStrategy.SoftFloor(config.getSoftFloor(), config.getIncrement());
+        };
+    }
+}
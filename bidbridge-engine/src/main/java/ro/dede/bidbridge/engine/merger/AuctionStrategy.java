@@ -0,0 +1,46 @@
+package ro.dede.bidbridge.engine.merger;
+
+/**
+ * Prices the winning bid of an imp from the top two bids, all in auction currency.
+ * Implementations are stateless and called once per filled imp, so they must not allocate.
+ */
+public interface AuctionStrategy {
+    AuctionStrategy FIRST_PRICE = new FirstPrice();
+
+    /**
+     * Price the winner pays; never above first.
+     *
+     * @param first  highest bid
+     * @param second second-highest bid, 0 when there is none
+     * @param floor  imp floor the winner already cleared, 0 when there is none
+     */
+    double clearingPrice(double first, double second, double floor);
+
+    // Winner pays its bid.
+    record FirstPrice() implements AuctionStrategy {
+        @Override
+        public double clearingPrice(double first, double second, double floor) {
+            return first;
+        }
+    }
+
+    // Winner pays the runner-up (or the floor, if higher) plus the increment.
+    record SecondPrice(double increment) implements AuctionStrategy {
+        @Override
+        public double clearingPrice(double first, double second, double floor) {
+            return Math.min(first, Math.max(second, floor) + increment);
+        }
+    }
+
+    // Second price above the soft floor; between the hard floor and the soft floor the winner pays its bid.
+    record SoftFloor(double softFloor, double increment) implements AuctionStrategy {
+        @Override
+        public double clearingPrice(double first, double second, double floor) {
+            var soft = Math.max(softFloor, floor);
+            if (first < soft) {
+                return first;
+            }
+            return Math.min(first, Math.max(second, soft) + increment);
+        }
+    }
+}
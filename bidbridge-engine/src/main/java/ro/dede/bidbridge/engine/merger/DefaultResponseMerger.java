@@ -1,31 +1,66 @@
 package ro.dede.bidbridge.engine.merger;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.currency.CurrencyConverter;
 import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
 import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
+import ro.dede.bidbridge.engine.domain.adapter.SelectedBid;
 import ro.dede.bidbridge.engine.domain.openrtb.Bid;
 import ro.dede.bidbridge.engine.domain.openrtb.BidResponse;
 import ro.dede.bidbridge.engine.domain.openrtb.SeatBid;
 import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.observability.RequestLoggingFilter;
 import ro.dede.bidbridge.engine.service.AdapterFailureException;
 import ro.dede.bidbridge.engine.service.OverloadException;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
- * Selects the highest-priced valid bid and builds the OpenRTB response.
+ * Selects the highest-priced valid bid for each imp across all adapters and builds the OpenRTB response,
+ * with one seat bid per winning adapter. The winner's price comes from the {@link AuctionStrategy}
+ * (first price unless configured otherwise), using the best bid and the best bid of any other seat, both tracked
+ * in the same pass.
+ * Bids are converted to the auction currency before comparison; bids under the imp floor, in an unknown currency
+ * or for imp ids not in the request are dropped.
  */
 @Component
 public class DefaultResponseMerger implements ResponseMerger {
+    private final CurrencyConverter converter;
+    private final MetricsCollector metrics;
+    private final AuctionStrategies strategies;
 
+    @Autowired
+    public DefaultResponseMerger(CurrencyConverter converter, MetricsCollector metrics, AuctionStrategies strategies) {
+        this.converter = converter;
+        this.metrics = metrics;
+        this.strategies = strategies;
+    }
+
+    // Strategy by the caller set by RequestLoggingFilter, then by inventory type.
     @Override
     public Mono<BidResponse> merge(NormalizedBidRequest request, List<AdapterResult> results) {
-        var anySuccess = results.stream().anyMatch(result ->
-                result.status() == AdapterResultStatus.BID || result.status() == AdapterResultStatus.NO_BID);
+        return Mono.deferContextual(context -> {
+            var caller = context.getOrDefault(RequestLoggingFilter.CALLER_ATTR, null);
+            var strategy = strategies.resolve(caller instanceof String value ? value : null, request.inventoryType());
+            return merge(request, results, strategy);
+        });
+    }
+
+    @Override
+    public Mono<BidResponse> merge(NormalizedBidRequest request, List<AdapterResult> results, AuctionStrategy strategy) {
+        var anySuccess = false;
+        var anyTimeout = false;
+        for (var result : results) {
+            var status = result.status();
+            anySuccess |= status == AdapterResultStatus.BID || status == AdapterResultStatus.NO_BID;
+            anyTimeout |= status == AdapterResultStatus.TIMEOUT;
+        }
         if (!anySuccess) {
-            var anyTimeout = results.stream().anyMatch(result -> result.status() == AdapterResultStatus.TIMEOUT);
             if (anyTimeout) {
                 return Mono.error(new OverloadException(
                         "All adapters timed out",
@@ -35,22 +70,85 @@ public class DefaultResponseMerger implements ResponseMerger {
             return Mono.error(new AdapterFailureException("All adapters failed"));
         }
 
-        var best = results.stream()
-                .filter(result -> result.status() == AdapterResultStatus.BID && result.bid() != null)
-                .filter(result -> result.bid().price() > 0)
-                .max(Comparator.comparingDouble(result -> result.bid().price()));
+        var imps = AuctionImps.of(request.imps(), converter.rates());
+        // One pass over every bid of every adapter; slot i holds the best price so far for imps[i] and the best price
+        // of any other seat.
+        var bestPrice = new double[imps.size()];
+        var secondPrice = new double[imps.size()];
+        var winners = new SelectedBid[imps.size()];
+        var seats = new String[imps.size()];
+        var won = 0;
+        for (var result : results) {
+            if (result.status() != AdapterResultStatus.BID) {
+                continue;
+            }
+            for (var bid : result.bids()) {
+                if (bid == null) {
+                    continue;
+                }
+                var index = imps.indexOf(bid.impid());
+                if (index < 0 || bid.price() <= 0) {
+                    continue;
+                }
+                var price = imps.convert(bid);
+                if (Double.isNaN(price)) {
+                    metrics.recordBidDropped(result.bidder(), MetricsCollector.REASON_UNKNOWN_CURRENCY);
+                    continue;
+                }
+                if (price < imps.floor(index)) {
+                    metrics.recordBidDropped(result.bidder(), MetricsCollector.REASON_BELOW_FLOOR);
+                    continue;
+                }
+                // The runner-up must come from another seat: a seat's own lower bid never sets the winner's price.
+                var sameSeat = result.bidder().equals(seats[index]);
+                // Strictly greater: the first adapter to reach a price keeps the imp on ties.
+                if (price <= bestPrice[index]) {
+                    if (!sameSeat && price > secondPrice[index]) {
+                        secondPrice[index] = price;
+                    }
+                    continue;
+                }
+                if (winners[index] == null) {
+                    won++;
+                }
+                if (!sameSeat) {
+                    secondPrice[index] = bestPrice[index];
+                }
+                bestPrice[index] = price;
+                winners[index] = bid;
+                seats[index] = result.bidder();
+            }
+        }
 
-        if (best.isEmpty()) {
+        if (won == 0) {
             return Mono.empty();
         }
+        // Winning prices are replaced in place by what the strategy charges.
+        for (var i = 0; i < bestPrice.length; i++) {
+            if (winners[i] != null) {
+                bestPrice[i] = strategy.clearingPrice(bestPrice[i], secondPrice[i], imps.floor(i));
+            }
+        }
+        return Mono.just(buildResponse(request, imps.currency(), winners, bestPrice, seats));
+    }
 
-        var bid = best.get().bid();
-        var responseBid = new Bid(bid.id(), bid.impid(), bid.price(), bid.adm());
-        var response = new BidResponse(
-                request.requestId(),
-                List.of(new SeatBid(List.of(responseBid))),
-                bid.currency()
-        );
-        return Mono.just(response);
+    // Groups the per-imp winners by seat, keeping imp order within and across seats; prices are in auction currency.
+    private BidResponse buildResponse(NormalizedBidRequest request,
+                                      String currency,
+                                      SelectedBid[] winners,
+                                      double[] prices,
+                                      String[] seats) {
+        var bySeat = new LinkedHashMap<String, List<Bid>>();
+        for (var i = 0; i < winners.length; i++) {
+            var bid = winners[i];
+            if (bid == null) {
+                continue;
+            }
+            bySeat.computeIfAbsent(seats[i], seat -> new ArrayList<>(2))
+                    .add(new Bid(bid.id(), bid.impid(), prices[i], bid.adm()));
+        }
+        var seatBids = new ArrayList<SeatBid>(bySeat.size());
+        bySeat.forEach((seat, bids) -> seatBids.add(new SeatBid(bids, seat)));
+        return new BidResponse(request.requestId(), seatBids, currency);
     }
 }
@@ -0,0 +1,54 @@
+package ro.dede.bidbridge.engine.merger;
+
+import ro.dede.bidbridge.engine.adapters.stats.AdapterPriceTracker;
+import ro.dede.bidbridge.engine.service.BidServiceProperties;
+
+/**
+ * Decides whether an auction can finish before every adapter has answered.
+ * Only first-price auctions complete early: the other strategies price the winner from the runner-up, which may be
+ * among the adapters that would be cancelled.
+ */
+public class EarlyCompletionPolicy {
+    public static final String REASON_PRICE_THRESHOLD = "price_threshold";
+    public static final String REASON_UNBEATABLE = "unbeatable";
+
+    private final BidServiceProperties.EarlyCompletion config;
+    private final AdapterPriceTracker priceTracker;
+
+    public EarlyCompletionPolicy(BidServiceProperties.EarlyCompletion config, AdapterPriceTracker priceTracker) {
+        this.config = config;
+        this.priceTracker = priceTracker;
+    }
+
+    public boolean appliesTo(AuctionStrategy strategy) {
+        return config != null && config.isEnabled() && strategy instanceof AuctionStrategy.FirstPrice;
+    }
+
+    /**
+     * Returns the reason to complete now, or null to keep waiting; prices are in auction currency.
+     */
+    public String check(AuctionProgress progress) {
+        if (progress.pending().isEmpty()) {
+            return null;
+        }
+        var best = progress.bestPrice();
+        if (best <= 0) {
+            return null;
+        }
+        var threshold = config.getPriceThreshold();
+        if (threshold != null && best >= threshold) {
+            return REASON_PRICE_THRESHOLD;
+        }
+        if (!config.isUseHistoricalMax()) {
+            return null;
+        }
+        // Every adapter still running must have a known history whose max is strictly below the lowest imp's best.
+        for (var adapter : progress.pending()) {
+            var max = priceTracker.maxPrice(adapter, config.getMinObservations());
+            if (Double.isNaN(max) || max >= best) {
+                return null;
+            }
+        }
+        return REASON_UNBEATABLE;
+    }
+}
@@ -12,4 +12,11 @@ import java.util.List;
  */
 public interface ResponseMerger {
     Mono<BidResponse> merge(NormalizedBidRequest request, List<AdapterResult> results);
+
+    /**
+     * Merges with an explicit pricing strategy; mergers without pricing support ignore it.
+     */
+    default Mono<BidResponse> merge(NormalizedBidRequest request, List<AdapterResult> results, AuctionStrategy strategy) {
+        return merge(request, results);
+    }
 }
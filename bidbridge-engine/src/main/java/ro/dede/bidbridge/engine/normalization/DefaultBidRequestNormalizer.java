@@ -31,7 +31,7 @@ public class DefaultBidRequestNormalizer implements BidRequestNormalizer {
 
     private NormalizedBidRequest normalizeSync(BidRequest request) {
         var inventoryType = deriveInventoryType(request);
-        var tmaxMs = clampTmax(request.tmax());
+        var tmaxMs = effectiveTmaxMs(request.tmax());
         var device = normalizeDevice(request);
         var imps = normalizeImps(request.imp());
 
@@ -45,7 +45,9 @@ public class DefaultBidRequestNormalizer implements BidRequestNormalizer {
                 request.site() == null ? null : request.site().ext(),
                 request.app() == null ? null : request.app().ext(),
                 request.user() == null ? null : request.user().ext(),
-                request.regs() == null ? null : request.regs().ext()
+                request.regs() == null ? null : request.regs().ext(),
+                request.site() == null ? null : request.site().domain(),
+                request.app() == null ? null : request.app().bundle()
         );
     }
 
@@ -58,7 +60,8 @@ public class DefaultBidRequestNormalizer implements BidRequestNormalizer {
         return hasSite ? InventoryType.SITE : InventoryType.APP;
     }
 
-    private int clampTmax(Integer tmax) {
+    // Request tmax with the default applied and clamped to the supported range.
+    public static int effectiveTmaxMs(Integer tmax) {
         return switch (tmax) {
             case null -> TMAX_DEFAULT_MS;
             case Integer v when v < TMAX_MIN_MS -> TMAX_MIN_MS;
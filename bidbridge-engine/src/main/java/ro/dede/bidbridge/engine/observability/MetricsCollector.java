@@ -1,10 +1,19 @@
 package ro.dede.bidbridge.engine.observability;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
 
 /**
  * Centralized metrics helper for requests and adapter outcomes.
@@ -20,13 +29,49 @@ public class MetricsCollector {
     public static final String METRIC_ADAPTER_ERRORS = "adapter_errors";
     public static final String METRIC_REQUEST_LATENCY = "request_latency";
     public static final String METRIC_ENGINE_REJECTED_TOTAL = "engine_rejected_total";
+    public static final String METRIC_ADAPTER_POOL_CONNECTIONS = "adapter_pool_connections";
+    public static final String METRIC_ADAPTER_REQUEST_BYTES = "adapter_request_bytes_total";
+    public static final String METRIC_ADAPTER_REQUEST_RAW_BYTES = "adapter_request_raw_bytes_total";
+    public static final String METRIC_ADAPTER_COMPRESSION_TIME = "adapter_compression_time";
+    public static final String METRIC_ADAPTER_ADAPTIVE_TIMEOUT = "adapter_adaptive_timeout_ms";
+    public static final String METRIC_AUCTION_EARLY_COMPLETIONS_TOTAL = "auction_early_completions_total";
+    public static final String METRIC_ADAPTER_CIRCUIT_STATE = "adapter_circuit_state";
+    public static final String METRIC_ADAPTER_CIRCUIT_TRANSITIONS_TOTAL = "adapter_circuit_transitions_total";
+    public static final String METRIC_ADAPTER_CIRCUIT_REJECTED_TOTAL = "adapter_circuit_rejected_total";
+    public static final String METRIC_ADAPTER_THROTTLED_TOTAL = "adapter_throttled_total";
+    public static final String METRIC_ADAPTER_THROTTLE_LOST_REVENUE_TOTAL = "adapter_throttle_lost_revenue_total";
+    public static final String METRIC_ENGINE_CONCURRENCY_LIMIT = "engine_concurrency_limit";
+    public static final String METRIC_ENGINE_IN_FLIGHT = "engine_in_flight";
+    public static final String METRIC_ENGINE_ADMISSION_TOTAL = "engine_admission_total";
+    public static final String METRIC_ENGINE_RATE_LIMITED_TOTAL = "engine_rate_limited_total";
+    public static final String METRIC_ENGINE_PREFILTERED_TOTAL = "engine_prefiltered_total";
+    public static final String METRIC_AUCTION_BIDS_DROPPED_TOTAL = "auction_bids_dropped_total";
+    public static final String METRIC_FX_REFRESH_TOTAL = "fx_refresh_total";
+    public static final String METRIC_BID_DEDUP_HITS_TOTAL = "bid_dedup_hits_total";
+    public static final String METRIC_AUCTION_LOG_RECORDS_TOTAL = "auction_log_records_total";
+    public static final String METRIC_CONFIG_RELOAD_TOTAL = "config_reload_total";
+    public static final String METRIC_CONFIG_VERSION = "config_version";
+    public static final String METRIC_INBOUND_DECOMPRESSED_TOTAL = "inbound_decompressed_requests_total";
 
     public static final String TAG_OUTCOME = "outcome";
     public static final String TAG_TYPE = "type";
     public static final String TAG_ADAPTER = "adapter";
     public static final String TAG_REASON = "reason";
+    public static final String TAG_STATE = "state";
+    public static final String TAG_REMOTE = "remote";
+    public static final String TAG_ENCODING = "encoding";
+    public static final String TAG_RESULT = "result";
+    public static final String TAG_CALLER = "caller";
+    public static final String TAG_PRIORITY = "priority";
 
     public static final String REASON_IN_FLIGHT_LIMIT = "in_flight_limit";
+    public static final String REASON_DEADLINE = "deadline";
+    public static final String REASON_RATE_LIMIT = "rate_limit";
+    public static final String REASON_PAYLOAD_TOO_LARGE = "payload_too_large";
+    public static final String REASON_QPS_CAP = "qps_cap";
+    public static final String REASON_SAMPLED = "sampled";
+    public static final String REASON_BELOW_FLOOR = "below_floor";
+    public static final String REASON_UNKNOWN_CURRENCY = "unknown_currency";
 
     private final MeterRegistry registry;
 
@@ -54,6 +99,73 @@ public class MetricsCollector {
         registry.counter(METRIC_ADAPTER_ERRORS, TAG_ADAPTER, adapter).increment();
     }
 
+    // Gauge value: 0 closed, 1 half-open, 2 open.
+    public void registerCircuitState(String adapter, IntSupplier state) {
+        Gauge.builder(METRIC_ADAPTER_CIRCUIT_STATE, state, IntSupplier::getAsInt)
+                .tag(TAG_ADAPTER, adapter)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    public void recordCircuitTransition(String adapter, String state) {
+        registry.counter(METRIC_ADAPTER_CIRCUIT_TRANSITIONS_TOTAL, TAG_ADAPTER, adapter, TAG_STATE, state).increment();
+    }
+
+    public void recordCircuitRejected(String adapter) {
+        registry.counter(METRIC_ADAPTER_CIRCUIT_REJECTED_TOTAL, TAG_ADAPTER, adapter).increment();
+    }
+
+    public void recordAdapterThrottled(String adapter, String reason) {
+        registry.counter(METRIC_ADAPTER_THROTTLED_TOTAL, TAG_ADAPTER, adapter, TAG_REASON, reason).increment();
+    }
+
+    // Expected value of bids forgone by sampled-out calls, in bid currency per impression.
+    public void recordThrottleLostRevenue(String adapter, double amount) {
+        if (amount > 0) {
+            registry.counter(METRIC_ADAPTER_THROTTLE_LOST_REVENUE_TOTAL, TAG_ADAPTER, adapter).increment(amount);
+        }
+    }
+
+    // Bid dropped by the merger before winner selection (below_floor, unknown_currency).
+    public void recordBidDropped(String adapter, String reason) {
+        registry.counter(METRIC_AUCTION_BIDS_DROPPED_TOTAL, TAG_ADAPTER, adapter, TAG_REASON, reason).increment();
+    }
+
+    // Duplicate request served from an auction already running (in_flight) or just finished (cached).
+    public void recordDedupHit(String type) {
+        registry.counter(METRIC_BID_DEDUP_HITS_TOTAL, TAG_TYPE, type).increment();
+    }
+
+    // Records written to segment files and records dropped because the writer fell behind.
+    public void registerAuctionLog(AtomicLong written, AtomicLong dropped) {
+        FunctionCounter.builder(METRIC_AUCTION_LOG_RECORDS_TOTAL, written, AtomicLong::get)
+                .tag(TAG_RESULT, "written")
+                .register(registry);
+        FunctionCounter.builder(METRIC_AUCTION_LOG_RECORDS_TOTAL, dropped, AtomicLong::get)
+                .tag(TAG_RESULT, "dropped")
+                .register(registry);
+    }
+
+    // result: success or failure; failed refreshes keep the last good FX rates.
+    public void recordFxRefresh(String result) {
+        registry.counter(METRIC_FX_REFRESH_TOTAL, TAG_RESULT, result).increment();
+    }
+
+    // result: success or failure; failed reloads keep the last known good config.
+    public void recordConfigReload(String result) {
+        registry.counter(METRIC_CONFIG_RELOAD_TOTAL, TAG_RESULT, result).increment();
+    }
+
+    public void registerConfigVersion(LongSupplier version) {
+        Gauge.builder(METRIC_CONFIG_VERSION, version, LongSupplier::getAsLong)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    public void recordEarlyCompletion(String reason) {
+        registry.counter(METRIC_AUCTION_EARLY_COMPLETIONS_TOTAL, TAG_REASON, reason).increment();
+    }
+
     public void recordEngineRejected(String reason) {
         registry.counter(METRIC_ENGINE_REJECTED_TOTAL, TAG_REASON, reason).increment();
     }
@@ -62,6 +174,99 @@ public class MetricsCollector {
         recordEngineRejected(REASON_IN_FLIGHT_LIMIT);
     }
 
+    // Dropped before fan-out because too little of tmax was left.
+    public void recordDeadlineRejection() {
+        recordEngineRejected(REASON_DEADLINE);
+    }
+
+    // Compressed request body that inflated past the in-memory limit.
+    public void recordPayloadTooLargeRejection() {
+        recordEngineRejected(REASON_PAYLOAD_TOO_LARGE);
+    }
+
+    // Request filtered straight after decoding; reason is the rule that would have rejected it.
+    public void recordPreFiltered(String rule) {
+        registry.counter(METRIC_ENGINE_PREFILTERED_TOTAL, TAG_REASON, rule).increment();
+    }
+
+    // Caller over its QPS limit; caller is the configured caller name or "other".
+    public void recordRateLimited(String caller) {
+        recordEngineRejected(REASON_RATE_LIMIT);
+        registry.counter(METRIC_ENGINE_RATE_LIMITED_TOTAL, TAG_CALLER, caller).increment();
+    }
+
+    // Priority admission outcome; caller is the configured caller name or "other".
+    public void recordAdmission(String caller, String priority, boolean admitted) {
+        registry.counter(METRIC_ENGINE_ADMISSION_TOTAL,
+                TAG_CALLER, caller,
+                TAG_PRIORITY, priority,
+                TAG_RESULT, admitted ? "admitted" : "rejected").increment();
+    }
+
+    // Current in-flight limit (static or adaptive) and bid requests holding a permit.
+    public void registerConcurrencyLimiter(IntSupplier limit, IntSupplier inFlight) {
+        Gauge.builder(METRIC_ENGINE_CONCURRENCY_LIMIT, limit, IntSupplier::getAsInt)
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder(METRIC_ENGINE_IN_FLIGHT, inFlight, IntSupplier::getAsInt)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    /**
+     * Records an outbound bidder request body: wire bytes per encoding and the uncompressed size.
+     */
+    public void recordAdapterRequestBytes(String adapter, String encoding, int wireBytes, int rawBytes) {
+        registry.counter(METRIC_ADAPTER_REQUEST_BYTES, TAG_ADAPTER, adapter, TAG_ENCODING, encoding).increment(wireBytes);
+        registry.counter(METRIC_ADAPTER_REQUEST_RAW_BYTES, TAG_ADAPTER, adapter).increment(rawBytes);
+    }
+
+    public void recordAdapterCompression(String adapter, long nanos) {
+        registry.timer(METRIC_ADAPTER_COMPRESSION_TIME, TAG_ADAPTER, adapter).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordInboundDecompressed(String encoding) {
+        registry.counter(METRIC_INBOUND_DECOMPRESSED_TOTAL, TAG_ENCODING, encoding).increment();
+    }
+
+    // Current adaptive timeout per adapter (0 while not enough samples).
+    public void registerAdapterAdaptiveTimeout(String adapter, AtomicInteger timeoutMs) {
+        Gauge.builder(METRIC_ADAPTER_ADAPTIVE_TIMEOUT, timeoutMs, AtomicInteger::get)
+                .tag(TAG_ADAPTER, adapter)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    /**
+     * Registers connection pool gauges for one adapter pool (one per remote address).
+     * States: acquired, idle, allocated, pending (waiting for a connection), max.
+     */
+    public void registerAdapterPool(String adapter, String remote, ConnectionPoolMetrics pool) {
+        registerPoolGauge(adapter, remote, "acquired", pool, ConnectionPoolMetrics::acquiredSize);
+        registerPoolGauge(adapter, remote, "idle", pool, ConnectionPoolMetrics::idleSize);
+        registerPoolGauge(adapter, remote, "allocated", pool, ConnectionPoolMetrics::allocatedSize);
+        registerPoolGauge(adapter, remote, "pending", pool, ConnectionPoolMetrics::pendingAcquireSize);
+        registerPoolGauge(adapter, remote, "max", pool, ConnectionPoolMetrics::maxAllocatedSize);
+    }
+
+    public void removeAdapterPool(String adapter, String remote) {
+        registry.find(METRIC_ADAPTER_POOL_CONNECTIONS)
+                .tags(TAG_ADAPTER, adapter, TAG_REMOTE, remote)
+                .meters()
+                .forEach(registry::remove);
+    }
+
+    private void registerPoolGauge(String adapter,
+                                   String remote,
+                                   String state,
+                                   ConnectionPoolMetrics pool,
+                                   ToIntFunction<ConnectionPoolMetrics> value) {
+        Gauge.builder(METRIC_ADAPTER_POOL_CONNECTIONS, pool, metrics -> value.applyAsInt(metrics))
+                .tags(TAG_ADAPTER, adapter, TAG_REMOTE, remote, TAG_STATE, state)
+                .strongReference(true)
+                .register(registry);
+    }
+
     public Timer.Sample startRequestTimer() {
         return Timer.start(registry);
     }
@@ -4,113 +4,86 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import ro.dede.bidbridge.engine.adapters.AdapterRegistry.AdapterEntry;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
 import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
 import ro.dede.bidbridge.engine.service.FilteredRequestException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
- * Applies MVP rules (inventory, bidfloor, adapter allow/deny) in order.
+ * Applies MVP rules (inventory, bidfloor, adapter allow/deny, adapter targeting) in order.
+ * Rules are compiled once into a {@link RulesProgram}; {@link #refresh()} recompiles and swaps it atomically.
  */
 @Component
 public class DefaultRulesEvaluator implements RulesEvaluator {
     private static final Logger log = LoggerFactory.getLogger(DefaultRulesEvaluator.class);
     private final RulesProperties properties;
+    private volatile RulesProgram program;
 
     public DefaultRulesEvaluator(RulesProperties properties) {
         this.properties = properties;
+        this.program = RulesProgram.compile(properties);
     }
 
     @Override
     public RulesResult apply(NormalizedBidRequest request, List<AdapterEntry> adapters) {
-        var applied = new ArrayList<String>();
-        try {
-            var filteredRequest = applyBidfloorRule(request, applied);
-            var filteredAdapters = applyInventoryRules(filteredRequest, adapters, applied);
-            filteredAdapters = applyAdapterRules(filteredAdapters, applied);
+        var current = program;
+        var filteredRequest = current.filterImps(request);
+        var floorApplied = filteredRequest != request;
 
-            if (!applied.isEmpty()) {
-                var adapterNames = filteredAdapters.stream().map(AdapterEntry::name).toList();
-                log.info("Rules applied requestId={} rules={} adapters={}",
-                        request.requestId(), applied, adapterNames);
+        var inventoryRule = current.inventoryRejection(filteredRequest.inventoryType());
+        if (inventoryRule != null) {
+            var applied = new ArrayList<String>(2);
+            if (floorApplied) {
+                applied.add(RulesProgram.MIN_BIDFLOOR);
             }
-            if (filteredRequest.imps().isEmpty()) {
-                throw new FilteredRequestException("All imps filtered by rules");
-            }
-            if (filteredAdapters.isEmpty()) {
-                throw new FilteredRequestException("No adapters after rules");
-            }
-
-            return new RulesResult(filteredRequest, filteredAdapters, applied);
-        } catch (FilteredRequestException ex) {
-            if (!applied.isEmpty()) {
-                log.info("Rules applied requestId={} rules={} adapters=[]",
-                        request.requestId(), applied);
-            }
-            throw ex;
+            applied.add(inventoryRule);
+            logApplied(request, applied, List.of());
+            throw new FilteredRequestException(RulesProgram.ALLOW_INVENTORY.equals(inventoryRule)
+                    ? "Inventory not allowed"
+                    : "Inventory denied");
         }
-    }
 
-    private NormalizedBidRequest applyBidfloorRule(NormalizedBidRequest request, List<String> applied) {
-        var minBidfloor = properties.getMinBidfloor();
-        if (minBidfloor == null) {
-            return request;
+        var targetingMask = current.targetingMask(filteredRequest);
+        var filteredAdapters = current.filterAdapters(adapters, targetingMask);
+        var applied = current.appliedRules(floorApplied, current.targetingApplied(targetingMask));
+        logApplied(request, applied, filteredAdapters);
+        if (filteredRequest.imps().isEmpty()) {
+            logApplied(request, applied, List.of());
+            throw new FilteredRequestException("All imps filtered by rules");
         }
-        var filteredImps = request.imps().stream()
-                .filter(imp -> imp.bidfloor() >= minBidfloor)
-                .toList();
-        if (filteredImps.size() != request.imps().size()) {
-            applied.add("minBidfloor");
+        if (filteredAdapters.isEmpty()) {
+            logApplied(request, applied, List.of());
+            throw new FilteredRequestException("No adapters after rules");
         }
-        return new NormalizedBidRequest(
-                request.requestId(),
-                filteredImps,
-                request.inventoryType(),
-                request.tmaxMs(),
-                request.device(),
-                request.ext(),
-                request.siteExt(),
-                request.appExt(),
-                request.userExt(),
-                request.regsExt()
-        );
+        return new RulesResult(filteredRequest, filteredAdapters, applied);
     }
 
-    private List<AdapterEntry> applyInventoryRules(NormalizedBidRequest request,
-                                                   List<AdapterEntry> adapters,
-                                                   List<String> applied) {
-        var allow = properties.getAllowInventory();
-        if (allow != null && !allow.isEmpty() && !allow.contains(request.inventoryType())) {
-            applied.add("allowInventory");
-            throw new FilteredRequestException("Inventory not allowed");
-        }
-        var deny = properties.getDenyInventory();
-        if (deny != null && deny.contains(request.inventoryType())) {
-            applied.add("denyInventory");
-            throw new FilteredRequestException("Inventory denied");
-        }
-        return adapters;
+    @Override
+    public String certainRejection(InventoryType inventoryType, double maxBidfloor) {
+        return program.certainRejection(inventoryType, maxBidfloor);
+    }
+
+    /**
+     * Recompiles the bound rules and swaps the program; requests in flight finish on the previous one.
+     */
+    public void refresh() {
+        program = RulesProgram.compile(properties);
     }
 
-    private List<AdapterEntry> applyAdapterRules(List<AdapterEntry> adapters, List<String> applied) {
-        var allow = properties.getAllowAdapters();
-        var deny = properties.getDenyAdapters();
+    /**
+     * Swaps in a program compiled elsewhere (e.g. from a reloaded config file).
+     */
+    public void install(RulesProgram next) {
+        program = next;
+    }
 
-        var filtered = adapters;
-        if (allow != null && !allow.isEmpty()) {
-            filtered = filtered.stream()
-                    .filter(entry -> allow.contains(entry.name()))
-                    .collect(Collectors.toList());
-            applied.add("allowAdapters");
-        }
-        if (deny != null && !deny.isEmpty()) {
-            filtered = filtered.stream()
-                    .filter(entry -> !deny.contains(entry.name()))
-                    .collect(Collectors.toList());
-            applied.add("denyAdapters");
+    private void logApplied(NormalizedBidRequest request, List<String> applied, List<AdapterEntry> adapters) {
+        if (applied.isEmpty() || !log.isInfoEnabled()) {
+            return;
         }
-        return filtered;
+        var adapterNames = adapters.stream().map(AdapterEntry::name).toList();
+        log.info("Rules applied requestId={} rules={} adapters={}", request.requestId(), applied, adapterNames);
     }
 }
@@ -1,6 +1,7 @@
 package ro.dede.bidbridge.engine.rules;
 
 import ro.dede.bidbridge.engine.adapters.AdapterRegistry.AdapterEntry;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
 import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
 
 import java.util.List;
@@ -13,4 +14,12 @@ public interface RulesEvaluator {
      * Returns a filtered request and adapter list plus applied rule names.
      */
     RulesResult apply(NormalizedBidRequest request, List<AdapterEntry> adapters);
+
+    /**
+     * Name of a rule that will reject any request with this inventory type and highest imp floor, or null when
+     * the outcome depends on more than that. Used to filter requests before normalization.
+     */
+    default String certainRejection(InventoryType inventoryType, double maxBidfloor) {
+        return null;
+    }
 }
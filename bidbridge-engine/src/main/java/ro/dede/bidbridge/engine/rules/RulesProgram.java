@@ -0,0 +1,251 @@
+package ro.dede.bidbridge.engine.rules;
+
+import ro.dede.bidbridge.engine.adapters.AdapterRegistry.AdapterEntry;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedImp;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable decision program compiled from {@link RulesProperties}.
+ * Inventory checks are EnumSet lookups, adapter allow/deny and targeting are bitmask tests (see
+ * {@link TargetingIndex}), and the imp filter returns the original request when nothing falls below the floor,
+ * so an unfiltered request allocates nothing.
+ */
+public final class RulesProgram {
+    public static final String MIN_BIDFLOOR = "minBidfloor";
+    public static final String ALLOW_INVENTORY = "allowInventory";
+    public static final String DENY_INVENTORY = "denyInventory";
+    static final String ALLOW_ADAPTERS = "allowAdapters";
+    static final String DENY_ADAPTERS = "denyAdapters";
+    static final String TARGETING = "targeting";
+
+    // Null when the corresponding list is empty (no restriction).
+    private final EnumSet<InventoryType> allowInventory;
+    private final EnumSet<InventoryType> denyInventory;
+    // NaN when no floor is configured.
+    private final double minBidfloor;
+    // Bit position per adapter named in the rules; adapters not named have no bit. Masks use as many 64-bit
+    // words as there are named adapters, so the number of adapters is not limited.
+    private final Map<String, Integer> adapterBits;
+    private final boolean allowAdaptersRestricted;
+    private final boolean denyAdaptersRestricted;
+    private final long[] allowAdapterMask;
+    private final long[] denyAdapterMask;
+    private final TargetingIndex targeting;
+    // Applied rule names per combination of the request-dependent rules: bit 1 floor, bit 0 targeting.
+    private final List<List<String>> appliedRules;
+    private volatile AdapterBits lastAdapterBits;
+
+    private RulesProgram(RulesProperties properties) {
+        allowInventory = toEnumSet(properties.getAllowInventory());
+        denyInventory = toEnumSet(properties.getDenyInventory());
+        minBidfloor = properties.getMinBidfloor() == null ? Double.NaN : properties.getMinBidfloor();
+
+        var bits = new HashMap<String, Integer>();
+        var allow = properties.getAllowAdapters();
+        var deny = properties.getDenyAdapters();
+        var targetingRules = properties.getTargeting();
+        assignBits(allow, bits);
+        assignBits(deny, bits);
+        if (targetingRules != null) {
+            assignBits(targetingRules.keySet(), bits);
+        }
+        var words = Math.max(1, (bits.size() + Long.SIZE - 1) / Long.SIZE);
+        allowAdaptersRestricted = allow != null && !allow.isEmpty();
+        denyAdaptersRestricted = deny != null && !deny.isEmpty();
+        allowAdapterMask = mask(allow, bits, words);
+        denyAdapterMask = mask(deny, bits, words);
+        targeting = TargetingIndex.compile(targetingRules, bits::get, words);
+        adapterBits = Map.copyOf(bits);
+
+        var variants = new ArrayList<List<String>>(4);
+        for (var variant = 0; variant < 4; variant++) {
+            var applied = new ArrayList<String>();
+            if ((variant & 2) != 0) {
+                applied.add(MIN_BIDFLOOR);
+            }
+            if (allowAdaptersRestricted) {
+                applied.add(ALLOW_ADAPTERS);
+            }
+            if (denyAdaptersRestricted) {
+                applied.add(DENY_ADAPTERS);
+            }
+            if ((variant & 1) != 0) {
+                applied.add(TARGETING);
+            }
+            variants.add(List.copyOf(applied));
+        }
+        appliedRules = List.copyOf(variants);
+    }
+
+    /**
+     * Compiles the given rules.
+     */
+    public static RulesProgram compile(RulesProperties properties) {
+        return new RulesProgram(properties);
+    }
+
+    /**
+     * Returns the name of the inventory rule rejecting this inventory type, or null when it is accepted.
+     */
+    String inventoryRejection(InventoryType inventoryType) {
+        if (allowInventory != null && !allowInventory.contains(inventoryType)) {
+            return ALLOW_INVENTORY;
+        }
+        if (denyInventory != null && denyInventory.contains(inventoryType)) {
+            return DENY_INVENTORY;
+        }
+        return null;
+    }
+
+    /**
+     * Rule that rejects every request with this inventory type whose highest imp floor is maxBidfloor, or null.
+     * Mirrors {@link DefaultRulesEvaluator#apply}: a rejected inventory type wins over all imps under the floor.
+     */
+    String certainRejection(InventoryType inventoryType, double maxBidfloor) {
+        var inventoryRule = inventoryRejection(inventoryType);
+        if (inventoryRule != null) {
+            return inventoryRule;
+        }
+        if (!Double.isNaN(minBidfloor) && maxBidfloor < minBidfloor) {
+            return MIN_BIDFLOOR;
+        }
+        return null;
+    }
+
+    /**
+     * Drops imps below the floor; returns the same instance when none are dropped.
+     */
+    NormalizedBidRequest filterImps(NormalizedBidRequest request) {
+        if (Double.isNaN(minBidfloor)) {
+            return request;
+        }
+        var imps = request.imps();
+        var size = imps.size();
+        var first = 0;
+        while (first < size && imps.get(first).bidfloor() >= minBidfloor) {
+            first++;
+        }
+        if (first == size) {
+            return request;
+        }
+        var kept = new ArrayList<NormalizedImp>(size - 1);
+        kept.addAll(imps.subList(0, first));
+        for (var i = first + 1; i < size; i++) {
+            var imp = imps.get(i);
+            if (imp.bidfloor() >= minBidfloor) {
+                kept.add(imp);
+            }
+        }
+        return request.withImps(Collections.unmodifiableList(kept));
+    }
+
+    /**
+     * Mask of adapters accepted by targeting for this request; all bits set when no targeting is configured.
+     */
+    long[] targetingMask(NormalizedBidRequest request) {
+        return targeting.eligible(request);
+    }
+
+    // True when targeting rejected at least one targeted adapter for this request.
+    boolean targetingApplied(long[] targetingMask) {
+        return targeting.rejectsAny(targetingMask);
+    }
+
+    /**
+     * Keeps adapters passing the allow/deny masks and the request's targeting mask; returns the same list when
+     * none are dropped.
+     */
+    List<AdapterEntry> filterAdapters(List<AdapterEntry> adapters, long[] targetingMask) {
+        if (!allowAdaptersRestricted && !denyAdaptersRestricted && !targetingApplied(targetingMask)) {
+            return adapters;
+        }
+        var adapterBits = adapterBits(adapters);
+        var size = adapterBits.length;
+        var first = 0;
+        while (first < size && eligible(adapterBits[first], targetingMask)) {
+            first++;
+        }
+        if (first == size) {
+            return adapters;
+        }
+        var kept = new ArrayList<AdapterEntry>(size - 1);
+        kept.addAll(adapters.subList(0, first));
+        for (var i = first + 1; i < size; i++) {
+            if (eligible(adapterBits[i], targetingMask)) {
+                kept.add(adapters.get(i));
+            }
+        }
+        return Collections.unmodifiableList(kept);
+    }
+
+    List<String> appliedRules(boolean floorApplied, boolean targetingApplied) {
+        return appliedRules.get((floorApplied ? 2 : 0) | (targetingApplied ? 1 : 0));
+    }
+
+    // Adapters not named in any rule have no bit (-1): they fail a restrictive allow list and pass everything else.
+    private boolean eligible(int bit, long[] targetingMask) {
+        if (bit < 0) {
+            return !allowAdaptersRestricted;
+        }
+        if (allowAdaptersRestricted && !TargetingIndex.isSet(allowAdapterMask, bit)) {
+            return false;
+        }
+        if (TargetingIndex.isSet(denyAdapterMask, bit)) {
+            return false;
+        }
+        return TargetingIndex.isSet(targetingMask, bit);
+    }
+
+    // Bit per list position; cached for the registry's snapshot list, which is reused across requests.
+    private int[] adapterBits(List<AdapterEntry> adapters) {
+        var cached = lastAdapterBits;
+        if (cached != null && cached.adapters() == adapters) {
+            return cached.bits();
+        }
+        var bits = new int[adapters.size()];
+        for (var i = 0; i < bits.length; i++) {
+            var bit = adapterBits.get(adapters.get(i).name());
+            bits[i] = bit == null ? -1 : bit;
+        }
+        lastAdapterBits = new AdapterBits(adapters, bits);
+        return bits;
+    }
+
+    private static void assignBits(Collection<String> names, Map<String, Integer> bits) {
+        if (names == null) {
+            return;
+        }
+        for (var name : names) {
+            bits.computeIfAbsent(name, ignored -> bits.size());
+        }
+    }
+
+    private static long[] mask(List<String> names, Map<String, Integer> bits, int words) {
+        var mask = new long[words];
+        if (names != null) {
+            for (var name : names) {
+                TargetingIndex.set(mask, bits.get(name));
+            }
+        }
+        return mask;
+    }
+
+    private static EnumSet<InventoryType> toEnumSet(List<InventoryType> types) {
+        if (types == null || types.isEmpty()) {
+            return null;
+        }
+        return EnumSet.copyOf(types);
+    }
+
+    private record AdapterBits(List<AdapterEntry> adapters, int[] bits) {
+    }
+}
@@ -1,10 +1,13 @@
 package ro.dede.bidbridge.engine.rules;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import ro.dede.bidbridge.engine.domain.normalized.ImpType;
 import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Config-only rules for MVP filtering and routing.
@@ -18,6 +21,8 @@ public class RulesProperties {
     private Double minBidfloor;
     private List<String> allowAdapters = new ArrayList<>();
     private List<String> denyAdapters = new ArrayList<>();
+    // Per-adapter targeting keyed by adapter name; adapters without an entry see all traffic.
+    private Map<String, Targeting> targeting = new LinkedHashMap<>();
 
     public List<InventoryType> getAllowInventory() {
         return allowInventory;
@@ -58,4 +63,67 @@ public class RulesProperties {
     public void setDenyAdapters(List<String> denyAdapters) {
         this.denyAdapters = denyAdapters;
     }
+
+    public Map<String, Targeting> getTargeting() {
+        return targeting;
+    }
+
+    public void setTargeting(Map<String, Targeting> targeting) {
+        this.targeting = targeting;
+    }
+
+    /**
+     * Allow-lists for one adapter; an empty list leaves that attribute unrestricted.
+     * A restricted attribute only matches requests carrying one of the listed values.
+     */
+    public static class Targeting {
+        // Matched case-insensitively against device.os.
+        private List<String> os = new ArrayList<>();
+        private List<Integer> deviceTypes = new ArrayList<>();
+        // Matches when at least one imp has one of these types.
+        private List<ImpType> impTypes = new ArrayList<>();
+        // Matched case-insensitively against site.domain and app.bundle.
+        private List<String> domains = new ArrayList<>();
+        private List<String> bundles = new ArrayList<>();
+
+        public List<String> getOs() {
+            return os;
+        }
+
+        public void setOs(List<String> os) {
+            this.os = os;
+        }
+
+        public List<Integer> getDeviceTypes() {
+            return deviceTypes;
+        }
+
+        public void setDeviceTypes(List<Integer> deviceTypes) {
+            this.deviceTypes = deviceTypes;
+        }
+
+        public List<ImpType> getImpTypes() {
+            return impTypes;
+        }
+
+        public void setImpTypes(List<ImpType> impTypes) {
+            this.impTypes = impTypes;
+        }
+
+        public List<String> getDomains() {
+            return domains;
+        }
+
+        public void setDomains(List<String> domains) {
+            this.domains = domains;
+        }
+
+        public List<String> getBundles() {
+            return bundles;
+        }
+
+        public void setBundles(List<String> bundles) {
+            this.bundles = bundles;
+        }
+    }
 }
@@ -0,0 +1,194 @@
+package ro.dede.bidbridge.engine.rules;
+
+import ro.dede.bidbridge.engine.domain.normalized.ImpType;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Inverted index over per-adapter targeting: each attribute value maps to the bitmask of adapters accepting it.
+ * A request's eligible adapters are the AND of one lookup per attribute, independent of the number of rules.
+ * Masks are {@code long[]} words (64 adapters per word), so the cost grows by one AND per attribute per 64 adapters.
+ */
+final class TargetingIndex {
+    private static final long[] ALL = {-1L};
+    private static final TargetingIndex EMPTY = new TargetingIndex(0, null, null, null, null, null, null, null);
+
+    private final int words;
+    // Adapters with a targeting entry; only these bits can be cleared by the index.
+    private final long[] targeted;
+    // Adapters restricting neither domains nor bundles; the only ones accepting inventory of either type unchecked.
+    private final long[] inventoryUnrestricted;
+    private final Attribute<String> os;
+    private final Attribute<Integer> deviceTypes;
+    private final long[][] impTypes;
+    private final Attribute<String> domains;
+    private final Attribute<String> bundles;
+
+    private TargetingIndex(int words,
+                           long[] targeted,
+                           long[] inventoryUnrestricted,
+                           Attribute<String> os,
+                           Attribute<Integer> deviceTypes,
+                           long[][] impTypes,
+                           Attribute<String> domains,
+                           Attribute<String> bundles) {
+        this.words = words;
+        this.targeted = targeted;
+        this.inventoryUnrestricted = inventoryUnrestricted;
+        this.os = os;
+        this.deviceTypes = deviceTypes;
+        this.impTypes = impTypes;
+        this.domains = domains;
+        this.bundles = bundles;
+    }
+
+    static TargetingIndex compile(Map<String, RulesProperties.Targeting> targeting,
+                                  ToIntFunction<String> adapterBit,
+                                  int words) {
+        if (targeting == null || targeting.isEmpty()) {
+            return EMPTY;
+        }
+        var targeted = new long[words];
+        var os = new AttributeBuilder<String>(words);
+        var deviceTypes = new AttributeBuilder<Integer>(words);
+        var domains = new AttributeBuilder<String>(words);
+        var bundles = new AttributeBuilder<String>(words);
+        var impTypes = new long[ImpType.values().length][words];
+        for (var entry : targeting.entrySet()) {
+            var bit = adapterBit.applyAsInt(entry.getKey());
+            var rule = entry.getValue() == null ? new RulesProperties.Targeting() : entry.getValue();
+            set(targeted, bit);
+            os.add(bit, lowerCase(rule.getOs()));
+            deviceTypes.add(bit, rule.getDeviceTypes());
+            domains.add(bit, lowerCase(rule.getDomains()));
+            bundles.add(bit, lowerCase(rule.getBundles()));
+            var types = rule.getImpTypes();
+            for (var type : ImpType.values()) {
+                if (types == null || types.isEmpty() || types.contains(type)) {
+                    set(impTypes[type.ordinal()], bit);
+                }
+            }
+        }
+        var domainsAttribute = domains.build();
+        var bundlesAttribute = bundles.build();
+        var inventoryUnrestricted = new long[words];
+        for (var word = 0; word < words; word++) {
+            inventoryUnrestricted[word] = domainsAttribute.unrestricted()[word] & bundlesAttribute.unrestricted()[word];
+        }
+        return new TargetingIndex(words, targeted, inventoryUnrestricted, os.build(), deviceTypes.build(), impTypes,
+                domainsAttribute, bundlesAttribute);
+    }
+
+    boolean isEmpty() {
+        return targeted == null;
+    }
+
+    /**
+     * True when the mask clears at least one targeted adapter.
+     */
+    boolean rejectsAny(long[] eligible) {
+        if (targeted == null) {
+            return false;
+        }
+        for (var word = 0; word < words; word++) {
+            if ((targeted[word] & ~eligible[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bitmask of targeted adapters accepting this request; bits of untargeted adapters are left set.
+     * Without targeting a shared all-ones mask is returned; callers must not modify the result.
+     */
+    long[] eligible(NormalizedBidRequest request) {
+        if (targeted == null) {
+            return ALL;
+        }
+        var device = request.device();
+        var osMask = os.lookup(device == null ? null : lowerCase(device.os()));
+        var deviceTypeMask = deviceTypes.lookup(device == null ? null : device.devicetype());
+        // Domains are checked on site requests and bundles on app requests; an adapter restricting only one of them
+        // does not receive the other inventory type.
+        var site = request.inventoryType() == InventoryType.SITE;
+        var inventoryMask = site
+                ? domains.lookup(lowerCase(request.siteDomain()))
+                : bundles.lookup(lowerCase(request.appBundle()));
+        var imps = request.imps();
+        var result = new long[words];
+        for (var word = 0; word < words; word++) {
+            var impMask = 0L;
+            for (var imp : imps) {
+                impMask |= imp.type() == null ? 0L : impTypes[imp.type().ordinal()][word];
+            }
+            var mask = os.match(osMask, word)
+                    & deviceTypes.match(deviceTypeMask, word)
+                    & (inventoryUnrestricted[word] | (inventoryMask == null ? 0L : inventoryMask[word]))
+                    & impMask;
+            result[word] = mask | ~targeted[word];
+        }
+        return result;
+    }
+
+    static boolean isSet(long[] mask, int bit) {
+        var word = bit >>> 6;
+        // Bits beyond the mask's words belong to adapters the rules never named: all-ones, as for an empty index.
+        return word >= mask.length ? mask == ALL : (mask[word] & (1L << bit)) != 0;
+    }
+
+    static void set(long[] mask, int bit) {
+        mask[bit >>> 6] |= 1L << bit;
+    }
+
+    // Returns the same instance when already lower case.
+    private static String lowerCase(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> lowerCase(List<String> values) {
+        return values == null ? null : values.stream().map(TargetingIndex::lowerCase).toList();
+    }
+
+    private record Attribute<K>(long[] unrestricted, Map<K, long[]> values) {
+        // Adapters listing this value, or null; a missing value is accepted only by unrestricted adapters.
+        long[] lookup(K value) {
+            return value == null ? null : values.get(value);
+        }
+
+        long match(long[] listed, int word) {
+            return listed == null ? unrestricted[word] : unrestricted[word] | listed[word];
+        }
+    }
+
+    private static final class AttributeBuilder<K> {
+        private final int words;
+        private final long[] unrestricted;
+        private final Map<K, long[]> values = new HashMap<>();
+
+        private AttributeBuilder(int words) {
+            this.words = words;
+            this.unrestricted = new long[words];
+        }
+
+        void add(int bit, List<K> accepted) {
+            if (accepted == null || accepted.isEmpty()) {
+                set(unrestricted, bit);
+                return;
+            }
+            for (var value : accepted) {
+                set(values.computeIfAbsent(value, ignored -> new long[words]), bit);
+            }
+        }
+
+        Attribute<K> build() {
+            return new Attribute<>(unrestricted, Map.copyOf(values));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package ro.dede.bidbridge.engine.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import ro.dede.bidbridge.engine.domain.openrtb.BidResponse;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs one auction per request id and caller: duplicates that arrive while it runs subscribe to the same cached
+ * Mono, and duplicates within ttlMs of completion get its result (bid or no-bid) without a new fan-out.
+ * Failed auctions are not kept, so a retry after an error runs again. When maxEntries is reached new keys bypass
+ * the cache; expired entries are dropped by a sweep that runs at most once per ttl.
+ */
+@Component
+public class BidDeduplicator {
+    static final String HIT_IN_FLIGHT = "in_flight";
+    static final String HIT_CACHED = "cached";
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final MetricsCollector metrics;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepNanos;
+
+    @Autowired
+    public BidDeduplicator(BidServiceProperties properties, MetricsCollector metrics) {
+        this(properties.getDedup(), metrics, System::nanoTime);
+    }
+
+    BidDeduplicator(BidServiceProperties.Dedup config, MetricsCollector metrics, LongSupplier nanoClock) {
+        this.enabled = config.isEnabled();
+        this.ttlNanos = Math.max(1, config.getTtlMs()) * 1_000_000L;
+        this.maxEntries = Math.max(1, config.getMaxEntries());
+        this.metrics = metrics;
+        this.nanoClock = nanoClock;
+        this.nextSweepNanos = new AtomicLong(nanoClock.getAsLong() + ttlNanos);
+    }
+
+    public Mono<BidResponse> execute(String requestId, String caller, Supplier<Mono<BidResponse>> auction) {
+        if (!enabled || requestId == null) {
+            return auction.get();
+        }
+        var now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        var key = new Key(requestId, caller == null ? "" : caller);
+        var existing = entries.get(key);
+        if (existing != null) {
+            if (!existing.expired(now)) {
+                metrics.recordDedupHit(existing.done ? HIT_CACHED : HIT_IN_FLIGHT);
+                return existing.result;
+            }
+            entries.remove(key, existing);
+        }
+        if (entries.size() >= maxEntries) {
+            return auction.get();
+        }
+        var entry = new Entry();
+        entry.result = Mono.defer(auction)
+                .doFinally(signal -> complete(key, entry, signal))
+                .cache();
+        var raced = entries.putIfAbsent(key, entry);
+        if (raced != null) {
+            metrics.recordDedupHit(raced.done ? HIT_CACHED : HIT_IN_FLIGHT);
+            return raced.result;
+        }
+        return entry.result;
+    }
+
+    // Number of keys currently held, in flight or completed.
+    int size() {
+        return entries.size();
+    }
+
+    private void complete(Key key, Entry entry, SignalType signal) {
+        if (signal == SignalType.ON_COMPLETE) {
+            entry.expiresAtNanos = nanoClock.getAsLong() + ttlNanos;
+            entry.done = true;
+        } else {
+            entries.remove(key, entry);
+        }
+    }
+
+    private void sweepIfDue(long nowNanos) {
+        var due = nextSweepNanos.get();
+        if (nowNanos - due >= 0 && nextSweepNanos.compareAndSet(due, nowNanos + ttlNanos)) {
+            entries.values().removeIf(entry -> entry.expired(nowNanos));
+        }
+    }
+
+    private record Key(String requestId, String caller) {
+    }
+
+    private static final class Entry {
+        private Mono<BidResponse> result;
+        private volatile long expiresAtNanos;
+        // Written after expiresAtNanos, so a reader that sees done also sees the expiry.
+        private volatile boolean done;
+
+        boolean expired(long nowNanos) {
+            return done && nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
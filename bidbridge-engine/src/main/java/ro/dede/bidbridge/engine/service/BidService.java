@@ -6,4 +6,12 @@ import ro.dede.bidbridge.engine.domain.openrtb.BidResponse;
 
 public interface BidService {
     Mono<BidResponse> bid(NormalizedBidRequest request);
+
+    /**
+     * True when bid() checks adapters, deadline and rules like {@link DefaultBidService}, so a rules rejection
+     * can be decided before the request reaches it.
+     */
+    default boolean appliesRules() {
+        return false;
+    }
 }
@@ -5,6 +5,10 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "bid")
 public class BidServiceProperties {
     private Integer globalTimeoutMs;
+    // Requests with less budget left than this (counted from arrival) are dropped before fan-out.
+    private int minRemainingMs = 10;
+    private EarlyCompletion earlyCompletion = new EarlyCompletion();
+    private Dedup dedup = new Dedup();
 
     public Integer getGlobalTimeoutMs() {
         return globalTimeoutMs;
@@ -13,4 +17,99 @@ public class BidServiceProperties {
     public void setGlobalTimeoutMs(Integer globalTimeoutMs) {
         this.globalTimeoutMs = globalTimeoutMs;
     }
+
+    public int getMinRemainingMs() {
+        return minRemainingMs;
+    }
+
+    public void setMinRemainingMs(int minRemainingMs) {
+        this.minRemainingMs = minRemainingMs;
+    }
+
+    public EarlyCompletion getEarlyCompletion() {
+        return earlyCompletion;
+    }
+
+    public void setEarlyCompletion(EarlyCompletion earlyCompletion) {
+        this.earlyCompletion = earlyCompletion;
+    }
+
+    public Dedup getDedup() {
+        return dedup;
+    }
+
+    public void setDedup(Dedup dedup) {
+        this.dedup = dedup;
+    }
+
+    // Ends the auction before all adapters answer once the current best bid cannot be beaten (or is good enough).
+    public static class EarlyCompletion {
+        private boolean enabled = false;
+        private Double priceThreshold;
+        private boolean useHistoricalMax = true;
+        private long minObservations = 100;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Double getPriceThreshold() {
+            return priceThreshold;
+        }
+
+        public void setPriceThreshold(Double priceThreshold) {
+            this.priceThreshold = priceThreshold;
+        }
+
+        public boolean isUseHistoricalMax() {
+            return useHistoricalMax;
+        }
+
+        public void setUseHistoricalMax(boolean useHistoricalMax) {
+            this.useHistoricalMax = useHistoricalMax;
+        }
+
+        public long getMinObservations() {
+            return minObservations;
+        }
+
+        public void setMinObservations(long minObservations) {
+            this.minObservations = minObservations;
+        }
+    }
+
+    // Coalesces repeated requests with the same id and caller; completed results are reused for ttlMs.
+    public static class Dedup {
+        private boolean enabled = false;
+        private long ttlMs = 1000;
+        private int maxEntries = 10000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getTtlMs() {
+            return ttlMs;
+        }
+
+        public void setTtlMs(long ttlMs) {
+            this.ttlMs = ttlMs;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
 }
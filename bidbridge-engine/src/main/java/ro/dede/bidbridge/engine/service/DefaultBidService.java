@@ -1,20 +1,38 @@
 package ro.dede.bidbridge.engine.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import ro.dede.bidbridge.engine.adapters.AdapterContext;
 import ro.dede.bidbridge.engine.adapters.AdapterRegistry;
 import ro.dede.bidbridge.engine.adapters.AdapterRegistry.AdapterEntry;
+import ro.dede.bidbridge.engine.adapters.AuctionPayloads;
+import ro.dede.bidbridge.engine.adapters.stats.AdapterLatencyTracker;
+import ro.dede.bidbridge.engine.adapters.stats.AdapterPriceTracker;
+import ro.dede.bidbridge.engine.adapters.throttle.TrafficShaper;
+import ro.dede.bidbridge.engine.currency.CurrencyConverter;
+import ro.dede.bidbridge.engine.currency.FxRates;
 import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
 import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
 import ro.dede.bidbridge.engine.domain.openrtb.BidResponse;
+import ro.dede.bidbridge.engine.eventlog.AuctionEventLog;
+import ro.dede.bidbridge.engine.merger.AuctionImps;
+import ro.dede.bidbridge.engine.merger.AuctionProgress;
+import ro.dede.bidbridge.engine.merger.AuctionStrategies;
+import ro.dede.bidbridge.engine.merger.EarlyCompletionPolicy;
 import ro.dede.bidbridge.engine.merger.ResponseMerger;
 import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.observability.RequestLoggingFilter;
+import ro.dede.bidbridge.engine.observability.RequestOutcome;
 import ro.dede.bidbridge.engine.rules.RulesEvaluator;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Executes enabled adapters within budget, selects the best bid, and builds the response.
@@ -27,31 +45,78 @@ public class DefaultBidService implements BidService {
     private final ResponseMerger responseMerger;
     private final MetricsCollector metrics;
     private final BidServiceProperties properties;
+    private final AdapterLatencyTracker latencyTracker;
+    private final AdapterPriceTracker priceTracker;
+    private final EarlyCompletionPolicy earlyCompletion;
+    private final TrafficShaper trafficShaper;
+    private final BidDeduplicator deduplicator;
+    private final AuctionEventLog eventLog;
+    private final boolean logAuctions;
+    private final CurrencyConverter converter;
+    private final AuctionStrategies strategies;
 
+    @Autowired
     public DefaultBidService(AdapterRegistry adapterRegistry,
                              RulesEvaluator rulesEvaluator,
                              ResponseMerger responseMerger,
                              MetricsCollector metrics,
-                             BidServiceProperties properties) {
+                             BidServiceProperties properties,
+                             AdapterLatencyTracker latencyTracker,
+                             AdapterPriceTracker priceTracker,
+                             TrafficShaper trafficShaper,
+                             BidDeduplicator deduplicator,
+                             AuctionEventLog eventLog,
+                             CurrencyConverter converter,
+                             AuctionStrategies strategies) {
         this.adapterRegistry = adapterRegistry;
         this.rulesEvaluator = rulesEvaluator;
         this.responseMerger = responseMerger;
         this.metrics = metrics;
         this.properties = properties;
+        this.latencyTracker = latencyTracker;
+        this.priceTracker = priceTracker;
+        this.earlyCompletion = new EarlyCompletionPolicy(properties.getEarlyCompletion(), priceTracker);
+        this.trafficShaper = trafficShaper;
+        this.deduplicator = deduplicator;
+        this.eventLog = eventLog;
+        this.logAuctions = eventLog.isEnabled();
+        this.converter = converter;
+        this.strategies = strategies;
+    }
+
+    @Override
+    public boolean appliesRules() {
+        return true;
     }
 
     /**
      * Runs all enabled adapters in parallel within the time budget.
+     * Retries of a request id from the same caller share one auction when deduplication is enabled.
      */
     @Override
     public Mono<BidResponse> bid(NormalizedBidRequest request) {
+        return Mono.deferContextual(context -> {
+            var deadline = RequestDeadline.from(context);
+            var callerValue = context.getOrDefault(RequestLoggingFilter.CALLER_ATTR, null);
+            var caller = callerValue instanceof String value ? value : null;
+            return deduplicator.execute(request.requestId(), caller, () -> bid(request, deadline, caller));
+        });
+    }
+
+    private Mono<BidResponse> bid(NormalizedBidRequest request, RequestDeadline deadline, String caller) {
+        var startNanos = System.nanoTime();
         var adapters = adapterRegistry.activeAdapters();
         if (adapters.isEmpty()) {
+            if (adapterRegistry.hasEnabledAdapters()) {
+                return Mono.error(new AdapterFailureException("All adapter circuits are open"));
+            }
             return Mono.error(new ConfigurationException("No adapters enabled"));
         }
 
-        var requestDeadlineMs = resolveDeadlineMs(request);
-        if (requestDeadlineMs <= 0) {
+        var requestDeadlineMs = resolveDeadlineMs(request, deadline);
+        // Shed requests that already spent their budget queueing instead of fanning out work nobody will wait for.
+        if (requestDeadlineMs <= 0 || requestDeadlineMs < properties.getMinRemainingMs()) {
+            metrics.recordDeadlineRejection();
             return Mono.error(new OverloadException(
                     "Request timed out",
                     OverloadException.Reason.REQUEST_DEADLINE_TIMEOUT
@@ -61,12 +126,52 @@ public class DefaultBidService implements BidService {
         // Keep some budget for merge/response building.
         var adapterBudgetMs = Math.max(0, requestDeadlineMs - MERGE_RESERVE_MS);
         var rulesResult = rulesEvaluator.apply(request, adapters);
+        // Shaping runs last so QPS tokens are only spent on adapters that will actually be called.
+        var selected = trafficShaper.select(rulesResult.request(), rulesResult.adapters());
+        if (selected.isEmpty() && !rulesResult.adapters().isEmpty()) {
+            return Mono.error(new FilteredRequestException("All adapters throttled"));
+        }
+        // Every adapter in this auction sees the same request, so encoded payloads can be shared.
+        var payloads = new AuctionPayloads();
+        var auctionRequest = rulesResult.request();
+        var strategy = strategies.resolve(caller, auctionRequest.inventoryType());
+        // Bids are valued as the merger values them (auction currency, imp floors) for price history and early exits.
+        var rates = converter.rates();
+        var imps = AuctionImps.of(auctionRequest.imps(), rates);
+        var progress = earlyCompletion.appliesTo(strategy)
+                ? new AuctionProgress(imps, selected.stream().map(AdapterEntry::name).toList())
+                : null;
+        // Results so far, for the event log when the deadline cuts the auction short; appended from adapter threads.
+        var arrived = logAuctions ? new ConcurrentLinkedQueue<AdapterResult>() : null;
 
-        return Flux.fromIterable(rulesResult.adapters())
-                .flatMap(entry -> executeAdapter(entry, rulesResult.request(), adapterBudgetMs))
+        var calls = Flux.fromIterable(selected)
+                .flatMap(entry -> executeAdapter(entry, auctionRequest, payloads, imps, adapterBudgetMs));
+        if (arrived != null) {
+            calls = calls.doOnNext(arrived::add);
+        }
+        if (progress != null) {
+            // Stop as soon as the policy allows; cancelling upstream aborts the outstanding bidder calls.
+            calls = calls.takeUntil(result -> completesEarly(progress, result));
+        }
+        return calls
                 .collectList()
-                .flatMap(results -> responseMerger.merge(rulesResult.request(), results))
+                .flatMap(results -> {
+                    var merged = responseMerger.merge(auctionRequest, results, strategy);
+                    if (!logAuctions) {
+                        return merged;
+                    }
+                    return merged
+                            .doOnSuccess(response -> logAuction(request, caller, deadline, startNanos, results, rates,
+                                    response, null))
+                            .doOnError(ex -> logAuction(request, caller, deadline, startNanos, results, rates, null,
+                                    ex));
+                })
                 .timeout(Duration.ofMillis(requestDeadlineMs))
+                .doOnError(TimeoutException.class, ex -> {
+                    if (logAuctions) {
+                        logAuction(request, caller, deadline, startNanos, List.copyOf(arrived), rates, null, ex);
+                    }
+                })
                 .onErrorMap(TimeoutException.class, ex -> new OverloadException(
                         "Request timed out",
                         OverloadException.Reason.REQUEST_DEADLINE_TIMEOUT
@@ -78,15 +183,18 @@ public class DefaultBidService implements BidService {
      */
     private Mono<AdapterResult> executeAdapter(AdapterEntry entry,
                                                NormalizedBidRequest request,
+                                               AuctionPayloads payloads,
+                                               AuctionImps imps,
                                                int budgetMs) {
-        var configTimeout = entry.config().getTimeoutMs();
-        var timeoutMs = configTimeout == null ? budgetMs : Math.min(configTimeout, budgetMs);
+        var timeoutMs = resolveTimeoutMs(entry, budgetMs);
         if (timeoutMs <= 0) {
             return Mono.just(AdapterResult.timeout(entry.name()));
         }
         // Measure adapter latency and map timeouts/errors into adapter-level results.
-        var context = new AdapterContext(entry.name(), entry.config());
+        var context = new AdapterContext(entry.name(), entry.config(), payloads, entry.endpointUri());
         var start = System.nanoTime();
+        // Each call is recorded once: when its result arrives, or when it is cancelled before answering.
+        var settled = new AtomicBoolean();
         return entry.adapter()
                 .bid(request, context)
                 .timeout(Duration.ofMillis(timeoutMs))
@@ -102,9 +210,104 @@ public class DefaultBidService implements BidService {
                     metrics.recordAdapterError(entry.name());
                     return Mono.just(AdapterResult.error(entry.name(), "adapter_error", messageOrDefault(ex, "Adapter error")));
                 })
+                .doOnNext(result -> {
+                    if (settled.compareAndSet(false, true)) {
+                        recordCall(entry, request, imps, result, timeoutMs, toMillis(start));
+                    }
+                })
+                // Early completion and the request deadline cancel outstanding calls. They count as timed out at the
+                // applied limit, so the latency percentile, circuit breaker and bid-rate statistics still see them.
+                .doOnCancel(() -> {
+                    if (settled.compareAndSet(false, true)) {
+                        recordCall(entry, request, imps, AdapterResult.timeout(entry.name()), timeoutMs, timeoutMs);
+                    }
+                })
                 .map(result -> result.withLatencyMs(toMillis(start)));
     }
 
+    private void recordCall(AdapterEntry entry,
+                            NormalizedBidRequest request,
+                            AuctionImps imps,
+                            AdapterResult result,
+                            int timeoutMs,
+                            long latencyMs) {
+        var status = result.status();
+        if (status == AdapterResultStatus.TIMEOUT) {
+            // Timeouts count at the applied limit so the tail stays visible to the percentile.
+            latencyTracker.record(entry.name(), timeoutMs);
+        } else if (status != AdapterResultStatus.ERROR) {
+            latencyTracker.record(entry.name(), latencyMs);
+            priceTracker.record(entry.name(), imps.bestPrice(result));
+        }
+        adapterRegistry.recordOutcome(entry, status);
+        trafficShaper.record(request, entry, result);
+    }
+
+    private boolean completesEarly(AuctionProgress progress, AdapterResult result) {
+        progress.accept(result);
+        var reason = earlyCompletion.check(progress);
+        if (reason == null) {
+            return false;
+        }
+        metrics.recordEarlyCompletion(reason);
+        return true;
+    }
+
+    /**
+     * Static timeout capped by the budget, tightened to the adaptive timeout when enabled and warmed up.
+     */
+    private int resolveTimeoutMs(AdapterEntry entry, int budgetMs) {
+        var timeoutMs = Math.min(entry.timeoutMs(), budgetMs);
+        var adaptiveMs = latencyTracker.adaptiveTimeoutMs(entry.name(), entry.config().getAdaptiveTimeout());
+        return adaptiveMs > 0 ? Math.min(timeoutMs, adaptiveMs) : timeoutMs;
+    }
+
+    // Hands the finished auction to the event log; the outcome mirrors what ApiErrorHandler reports for the request.
+    private void logAuction(NormalizedBidRequest request,
+                            String caller,
+                            RequestDeadline deadline,
+                            long startNanos,
+                            List<AdapterResult> results,
+                            FxRates rates,
+                            BidResponse response,
+                            Throwable error) {
+        var now = System.nanoTime();
+        var latencyMs = deadline == null ? toMillis(startNanos) : deadline.elapsedMs(now);
+        var outcome = RequestOutcome.NO_BID_NO_FILL;
+        var winningPrice = 0.0;
+        if (error instanceof TimeoutException) {
+            outcome = RequestOutcome.NO_BID_TIMEOUT_DEADLINE;
+        } else if (error instanceof OverloadException overload) {
+            outcome = overload.reason() == OverloadException.Reason.ALL_ADAPTERS_TIMED_OUT
+                    ? RequestOutcome.NO_BID_TIMEOUT_ADAPTERS
+                    : RequestOutcome.NO_BID_TIMEOUT_DEADLINE;
+        } else if (error instanceof AdapterFailureException) {
+            outcome = RequestOutcome.NO_BID_ADAPTER_FAILURE;
+        } else if (error != null) {
+            outcome = RequestOutcome.ERROR;
+        } else if (response != null) {
+            outcome = RequestOutcome.BID;
+            winningPrice = highestPrice(response);
+        }
+        eventLog.record(request.requestId(), caller, results, rates, latencyMs, winningPrice, outcome);
+    }
+
+    private static double highestPrice(BidResponse response) {
+        var highest = 0.0;
+        if (response.seatbid() == null) {
+            return highest;
+        }
+        for (var seatBid : response.seatbid()) {
+            if (seatBid.bid() == null) {
+                continue;
+            }
+            for (var bid : seatBid.bid()) {
+                highest = Math.max(highest, bid.price());
+            }
+        }
+        return highest;
+    }
+
     /**
      * Returns elapsed time in milliseconds.
      */
@@ -117,12 +320,13 @@ public class DefaultBidService implements BidService {
         return message == null || message.isBlank() ? fallback : message;
     }
 
-    private int resolveDeadlineMs(NormalizedBidRequest request) {
-        var requestTmax = request.tmaxMs();
-        var configured = properties.getGlobalTimeoutMs();
-        if (configured == null || configured <= 0) {
-            return requestTmax;
+    // Budget left for this request: tmax (capped by the global timeout) minus the time since arrival, if known.
+    private int resolveDeadlineMs(NormalizedBidRequest request, RequestDeadline deadline) {
+        var budgetMs = RequestDeadline.budgetMs(request.tmaxMs(), properties.getGlobalTimeoutMs());
+        if (deadline == null) {
+            return budgetMs;
         }
-        return Math.min(requestTmax, configured);
+        deadline.start(budgetMs);
+        return (int) Math.min(budgetMs, deadline.remainingMs(System.nanoTime()));
     }
 }
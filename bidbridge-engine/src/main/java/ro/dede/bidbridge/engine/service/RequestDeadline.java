@@ -0,0 +1,52 @@
+package ro.dede.bidbridge.engine.service;
+
+import reactor.util.context.ContextView;
+
+/**
+ * Arrival time of a bid request, carried in the Reactor context from the first WebFilter to later stages.
+ * The absolute deadline is fixed once the effective tmax is known; the first stage to fix it wins.
+ */
+public final class RequestDeadline {
+    public static final String CONTEXT_KEY = RequestDeadline.class.getName();
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final long arrivalNanos;
+    private volatile long deadlineNanos = UNSET;
+
+    public RequestDeadline(long arrivalNanos) {
+        this.arrivalNanos = arrivalNanos;
+    }
+
+    // Null when the caller did not pass through the deadline filter (e.g. direct service calls).
+    public static RequestDeadline from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    // Effective request budget: tmax capped by bid.globalTimeoutMs when that is set.
+    public static int budgetMs(int tmaxMs, Integer globalTimeoutMs) {
+        if (globalTimeoutMs != null && globalTimeoutMs > 0) {
+            return Math.min(tmaxMs, globalTimeoutMs);
+        }
+        return tmaxMs;
+    }
+
+    public long arrivalNanos() {
+        return arrivalNanos;
+    }
+
+    // Sets the deadline to arrival + budget unless an earlier stage already did.
+    public void start(long budgetMs) {
+        if (deadlineNanos == UNSET) {
+            deadlineNanos = arrivalNanos + budgetMs * 1_000_000L;
+        }
+    }
+
+    public long elapsedMs(long nowNanos) {
+        return (nowNanos - arrivalNanos) / 1_000_000L;
+    }
+
+    // Whole milliseconds left before the deadline; negative once it has passed.
+    public long remainingMs(long nowNanos) {
+        return Math.floorDiv(deadlineNanos - nowNanos, 1_000_000L);
+    }
+}
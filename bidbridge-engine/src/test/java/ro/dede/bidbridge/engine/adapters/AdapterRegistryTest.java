@@ -1,11 +1,18 @@
 package ro.dede.bidbridge.engine.adapters;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import ro.dede.bidbridge.engine.adapters.circuit.AdapterCircuitBreakers;
 import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
 
+import java.net.URI;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AdapterRegistryTest {
@@ -25,7 +32,8 @@ class AdapterRegistryTest {
                         "simulator", (request, context) -> reactor.core.publisher.Mono.just(AdapterResult.noBid("simulator", null)),
                         "other", (request, context) -> reactor.core.publisher.Mono.just(AdapterResult.noBid("other", null))
                 ),
-                properties
+                properties,
+                new AdapterCircuitBreakers(new MetricsCollector(new SimpleMeterRegistry()))
         );
 
         var active = registry.activeAdapters();
@@ -33,4 +41,55 @@ class AdapterRegistryTest {
         assertEquals(1, active.size());
         assertTrue(active.stream().anyMatch(entry -> entry.name().equals("simulator")));
     }
+
+    @Test
+    void skipsAdaptersWithOpenCircuit() {
+        var properties = new AdapterProperties();
+        var config = new AdapterProperties.AdapterConfig();
+        config.setEnabled(true);
+        config.getCircuitBreaker().setEnabled(true);
+        config.getCircuitBreaker().setMinCalls(1);
+        properties.getConfigs().put("simulator", config);
+        var breakers = new AdapterCircuitBreakers(new MetricsCollector(new SimpleMeterRegistry()));
+        var registry = new AdapterRegistry(
+                Map.of("simulator", (request, context) -> reactor.core.publisher.Mono.just(AdapterResult.noBid("simulator", null))),
+                properties,
+                breakers
+        );
+
+        var entry = registry.activeAdapters().getFirst();
+        registry.recordOutcome(entry, AdapterResultStatus.ERROR);
+
+        assertTrue(registry.activeAdapters().isEmpty());
+        assertTrue(registry.hasEnabledAdapters());
+        config.setEnabled(false);
+        registry.refresh();
+        assertFalse(registry.hasEnabledAdapters());
+    }
+
+    @Test
+    void servesPrecomputedSnapshotUntilRefreshed() {
+        var properties = new AdapterProperties();
+        var config = new AdapterProperties.AdapterConfig();
+        config.setEnabled(true);
+        config.setEndpoint("http://dsp.example/bid");
+        config.setTimeoutMs(80);
+        properties.getConfigs().put("simulator", config);
+        var registry = new AdapterRegistry(
+                Map.of("simulator", (request, context) -> reactor.core.publisher.Mono.just(AdapterResult.noBid("simulator", null))),
+                properties,
+                new AdapterCircuitBreakers(new MetricsCollector(new SimpleMeterRegistry()))
+        );
+
+        var first = registry.activeAdapters();
+        assertSame(first, registry.activeAdapters());
+        assertEquals(URI.create("http://dsp.example/bid"), first.getFirst().endpointUri());
+        assertEquals(80, first.getFirst().timeoutMs());
+
+        config.setTimeoutMs(null);
+        assertEquals(80, registry.activeAdapters().getFirst().timeoutMs());
+        registry.refresh();
+        assertEquals(Integer.MAX_VALUE, registry.activeAdapters().getFirst().timeoutMs());
+        assertEquals(1, first.size());
+    }
 }
@@ -0,0 +1,129 @@
+package ro.dede.bidbridge.engine.adapters.circuit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdapterCircuitBreakersTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdapterCircuitBreakers breakers = new AdapterCircuitBreakers(new MetricsCollector(registry), now::get);
+
+    @Test
+    void opensOnceFailureRateCrossesThreshold() {
+        var config = breakerConfig();
+
+        for (var i = 0; i < 5; i++) {
+            breakers.record("dsp", config, AdapterResultStatus.NO_BID);
+        }
+        for (var i = 0; i < 4; i++) {
+            breakers.record("dsp", config, AdapterResultStatus.TIMEOUT);
+        }
+        assertEquals(CircuitState.CLOSED, breakers.state("dsp"));
+
+        breakers.record("dsp", config, AdapterResultStatus.ERROR);
+
+        assertEquals(CircuitState.OPEN, breakers.state("dsp"));
+        assertFalse(breakers.allowRequest("dsp", config));
+        assertEquals(2.0, registry.get(MetricsCollector.METRIC_ADAPTER_CIRCUIT_STATE)
+                .tag(MetricsCollector.TAG_ADAPTER, "dsp").gauge().value());
+        assertEquals(1.0, registry.get(MetricsCollector.METRIC_ADAPTER_CIRCUIT_TRANSITIONS_TOTAL)
+                .tags(MetricsCollector.TAG_ADAPTER, "dsp", MetricsCollector.TAG_STATE, "open").counter().count());
+        assertEquals(1.0, registry.get(MetricsCollector.METRIC_ADAPTER_CIRCUIT_REJECTED_TOTAL)
+                .tag(MetricsCollector.TAG_ADAPTER, "dsp").counter().count());
+    }
+
+    @Test
+    void forgetsFailuresOutsideTheWindow() {
+        var config = breakerConfig();
+        for (var i = 0; i < 9; i++) {
+            breakers.record("dsp", config, AdapterResultStatus.TIMEOUT);
+        }
+
+        now.addAndGet(config.getCircuitBreaker().getWindowMs());
+        breakers.record("dsp", config, AdapterResultStatus.TIMEOUT);
+
+        assertEquals(CircuitState.CLOSED, breakers.state("dsp"));
+    }
+
+    @Test
+    void closesAfterSuccessfulProbes() {
+        var config = breakerConfig();
+        openCircuit(config);
+
+        now.addAndGet(config.getCircuitBreaker().getOpenMs());
+        assertTrue(breakers.allowRequest("dsp", config));
+        assertEquals(CircuitState.HALF_OPEN, breakers.state("dsp"));
+
+        breakers.record("dsp", config, AdapterResultStatus.BID);
+        assertEquals(CircuitState.HALF_OPEN, breakers.state("dsp"));
+        breakers.record("dsp", config, AdapterResultStatus.NO_BID);
+
+        assertEquals(CircuitState.CLOSED, breakers.state("dsp"));
+        // The window was reset, so a single failure does not re-open.
+        breakers.record("dsp", config, AdapterResultStatus.ERROR);
+        assertEquals(CircuitState.CLOSED, breakers.state("dsp"));
+    }
+
+    @Test
+    void failedProbeReopens() {
+        var config = breakerConfig();
+        openCircuit(config);
+        now.addAndGet(config.getCircuitBreaker().getOpenMs());
+        assertTrue(breakers.allowRequest("dsp", config));
+
+        breakers.record("dsp", config, AdapterResultStatus.TIMEOUT);
+
+        assertEquals(CircuitState.OPEN, breakers.state("dsp"));
+        assertFalse(breakers.allowRequest("dsp", config));
+    }
+
+    @Test
+    void halfOpenAdmitsOnlyTheProbeFraction() {
+        var config = breakerConfig();
+        config.getCircuitBreaker().setHalfOpenProbeFraction(0.0);
+        openCircuit(config);
+        now.addAndGet(config.getCircuitBreaker().getOpenMs());
+
+        assertFalse(breakers.allowRequest("dsp", config));
+        assertEquals(CircuitState.HALF_OPEN, breakers.state("dsp"));
+    }
+
+    @Test
+    void alwaysAllowsWhenDisabled() {
+        var config = new AdapterProperties.AdapterConfig();
+        for (var i = 0; i < 100; i++) {
+            breakers.record("dsp", config, AdapterResultStatus.ERROR);
+        }
+
+        assertTrue(breakers.allowRequest("dsp", config));
+        assertEquals(CircuitState.CLOSED, breakers.state("dsp"));
+    }
+
+    private void openCircuit(AdapterProperties.AdapterConfig config) {
+        for (var i = 0; i < 10; i++) {
+            breakers.record("dsp", config, AdapterResultStatus.ERROR);
+        }
+        assertEquals(CircuitState.OPEN, breakers.state("dsp"));
+    }
+
+    private static AdapterProperties.AdapterConfig breakerConfig() {
+        var config = new AdapterProperties.AdapterConfig();
+        var breaker = config.getCircuitBreaker();
+        breaker.setEnabled(true);
+        breaker.setMinCalls(10);
+        breaker.setFailureRateThreshold(0.5);
+        breaker.setWindowMs(10_000);
+        breaker.setOpenMs(5_000);
+        breaker.setHalfOpenProbeFraction(1.0);
+        breaker.setHalfOpenSuccesses(2);
+        return config;
+    }
+}
@@ -0,0 +1,175 @@
+package ro.dede.bidbridge.engine.adapters.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.config.RoutingConfigLoader;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.rules.RulesProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidderWebClientsTest {
+
+    @Test
+    void reusesClientPerAdapterUntilPoolSettingsChange() {
+        var clients = new BidderWebClients(WebClient.builder(), new MetricsCollector(new SimpleMeterRegistry()));
+        try {
+            var config = new AdapterProperties.AdapterConfig();
+
+            var first = clients.forAdapter("a", config);
+
+            assertSame(first, clients.forAdapter("a", config));
+            assertNotSame(first, clients.forAdapter("b", config));
+            assertNotSame(first, clients.shared());
+
+            // An explicit pool config equal to the defaults keeps the client.
+            config.setConnectionPool(new AdapterProperties.ConnectionPoolConfig());
+            assertSame(first, clients.forAdapter("a", config));
+
+            config.getConnectionPool().setMaxConnections(7);
+            assertNotSame(first, clients.forAdapter("a", config));
+        } finally {
+            clients.destroy();
+        }
+    }
+
+    @Test
+    void keepsClientAcrossReloadsOfAnUnchangedConfig() {
+        var loader = new RoutingConfigLoader(value -> value);
+        var yaml = """
+                adapters:
+                  configs:
+                    dsp:
+                      enabled: true
+                      endpoint: http://127.0.0.1:9/bid
+                      http2: true
+                      connectionPool:
+                        maxConnections: 50
+                        maxIdleTimeMs: 30000
+                """.getBytes(StandardCharsets.UTF_8);
+        var clients = new BidderWebClients(WebClient.builder(), new MetricsCollector(new SimpleMeterRegistry()));
+        try {
+            var before = loader.load("routing.yml", yaml, new RulesProperties(), new AdapterProperties());
+            var after = loader.load("routing.yml", yaml, new RulesProperties(), new AdapterProperties());
+            var beforeConfig = before.adapters().getConfigs().get("dsp");
+            var afterConfig = after.adapters().getConfigs().get("dsp");
+            assertNotSame(beforeConfig.getConnectionPool(), afterConfig.getConnectionPool());
+
+            var first = clients.forAdapter("dsp", beforeConfig);
+
+            assertSame(first, clients.forAdapter("dsp", afterConfig));
+        } finally {
+            clients.destroy();
+        }
+    }
+
+    @Test
+    void publishesPoolGaugesTaggedByAdapter() {
+        var server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> response.status(204).send())
+                .bindNow();
+        var registry = new SimpleMeterRegistry();
+        var clients = new BidderWebClients(WebClient.builder(), new MetricsCollector(registry));
+        try {
+            var config = new AdapterProperties.AdapterConfig();
+            config.getConnectionPool().setMaxConnections(7);
+            config.getConnectionPool().setMaxIdleTimeMs(1000);
+
+            clients.forAdapter("dsp", config).post()
+                    .uri("http://127.0.0.1:" + server.port() + "/bid")
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block();
+
+            var max = registry.find(MetricsCollector.METRIC_ADAPTER_POOL_CONNECTIONS)
+                    .tags(MetricsCollector.TAG_ADAPTER, "dsp", MetricsCollector.TAG_STATE, "max")
+                    .gauge();
+            assertNotNull(max);
+            assertEquals(7.0, max.value());
+            var pending = registry.find(MetricsCollector.METRIC_ADAPTER_POOL_CONNECTIONS)
+                    .tags(MetricsCollector.TAG_ADAPTER, "dsp", MetricsCollector.TAG_STATE, "pending")
+                    .gauge();
+            assertNotNull(pending);
+            assertEquals(0.0, pending.value());
+        } finally {
+            clients.destroy();
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void usesHttp2WhenAdapterOptsInAndServerSupportsIt() {
+        var versions = new CopyOnWriteArrayList<String>();
+        var server = versionRecordingServer(versions, HttpProtocol.H2C, HttpProtocol.HTTP11);
+        var clients = new BidderWebClients(WebClient.builder(), new MetricsCollector(new SimpleMeterRegistry()));
+        try {
+            var config = new AdapterProperties.AdapterConfig();
+            config.setHttp2(true);
+            config.setEndpoint("http://127.0.0.1:" + server.port() + "/bid");
+
+            post(clients.forAdapter("dsp", config), config.getEndpoint());
+            post(clients.forAdapter("dsp", config), config.getEndpoint());
+
+            assertEquals("HTTP/2.0", versions.getLast());
+        } finally {
+            clients.destroy();
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void fallsBackToHttp11WhenServerDoesNotSupportHttp2() {
+        var versions = new CopyOnWriteArrayList<String>();
+        var server = versionRecordingServer(versions, HttpProtocol.HTTP11);
+        var clients = new BidderWebClients(WebClient.builder(), new MetricsCollector(new SimpleMeterRegistry()));
+        try {
+            var config = new AdapterProperties.AdapterConfig();
+            config.setHttp2(true);
+            config.setEndpoint("http://127.0.0.1:" + server.port() + "/bid");
+
+            post(clients.forAdapter("dsp", config), config.getEndpoint());
+
+            assertEquals(List.of("HTTP/1.1"), versions);
+        } finally {
+            clients.destroy();
+            server.disposeNow();
+        }
+    }
+
+    private DisposableServer versionRecordingServer(List<String> versions, HttpProtocol... protocols) {
+        return HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(protocols)
+                // Allow the h2c upgrade request to carry a body, as the simulator does.
+                .httpRequestDecoder(spec -> spec.h2cMaxContentLength(64 * 1024))
+                .handle((request, response) -> request.receive().aggregate().then(Mono.defer(() -> {
+                    versions.add(request.version().text());
+                    return response.status(204).send().then();
+                })))
+                .bindNow();
+    }
+
+    private void post(WebClient client, String endpoint) {
+        client.post()
+                .uri(endpoint)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"id\":\"req-1\"}".getBytes(StandardCharsets.UTF_8))
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+}
@@ -4,17 +4,29 @@ import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 import ro.dede.bidbridge.engine.adapters.AdapterContext;
 import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.adapters.AuctionPayloads;
+import ro.dede.bidbridge.engine.api.codec.BidRequestDecoder;
 import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
 import ro.dede.bidbridge.engine.domain.normalized.*;
 import ro.dede.bidbridge.engine.domain.openrtb.Bid;
 import ro.dede.bidbridge.engine.domain.openrtb.BidResponse;
+import ro.dede.bidbridge.engine.domain.openrtb.RawExt;
 import ro.dede.bidbridge.engine.domain.openrtb.SeatBid;
+import ro.dede.bidbridge.engine.normalization.DefaultBidRequestNormalizer;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SimulatorHttpAdapterTest {
 
@@ -37,6 +49,28 @@ class SimulatorHttpAdapterTest {
         assertEquals(120, result.debug().responseSize());
     }
 
+    @Test
+    void keepsEveryPricedBidAcrossImps() {
+        var client = new StubClient(new HttpBidderResponse<>(200,
+                new BidResponse("req-1",
+                        List.of(new SeatBid(List.of(
+                                new Bid("b1", "1", 1.2, "<adm/>"),
+                                new Bid("b2", "2", 2.5, "<adm/>"),
+                                new Bid("b3", "2", 0.0, "<adm/>")))),
+                        "EUR"),
+                200));
+        var adapter = new SimulatorHttpAdapter(client);
+        var context = new AdapterContext("simulatorHttp", configWithEndpoint());
+
+        var result = adapter.bid(sampleRequest(), context).block();
+
+        assertNotNull(result);
+        assertEquals(AdapterResultStatus.BID, result.status());
+        assertEquals(List.of("b1", "b2"), result.bids().stream().map(bid -> bid.id()).toList());
+        assertEquals("b2", result.bid().id());
+        assertEquals("EUR", result.bid().currency());
+    }
+
     @Test
     void returnsNoBidOn204() {
         var client = new StubClient(new HttpBidderResponse<>(204, null, 0));
@@ -79,6 +113,53 @@ class SimulatorHttpAdapterTest {
         assertEquals("missing_endpoint", result.debug().errorCode());
     }
 
+    @Test
+    void forwardsDecodedExtVerbatimWithoutParsing() {
+        var json = """
+                {"id":"req-1","imp":[{"id":"1","banner":{},"ext":{"gpid":"/top"}}],"site":{"ext":{"amp": 1}},
+                 "device":{"os":"ios","ext":{"atts":3}},"ext":{"schain":{"ver":"1.0"}}}
+                """;
+        var decoded = new BidRequestDecoder().decode(json.getBytes(StandardCharsets.UTF_8));
+        var normalized = new DefaultBidRequestNormalizer().normalize(decoded).block();
+        assertNotNull(normalized);
+        var adapter = new SimulatorHttpAdapter(new StubClient(new HttpBidderResponse<>(204, null, 0)));
+
+        var outbound = JsonMapper.builder().build().writeValueAsString(adapter.buildRequest(normalized));
+
+        assertTrue(outbound.contains("\"ext\":{\"schain\":{\"ver\":\"1.0\"}}"));
+        assertTrue(outbound.contains("\"ext\":{\"gpid\":\"/top\"}"));
+        assertTrue(outbound.contains("\"ext\":{\"amp\": 1}"));
+        assertFalse(((RawExt) normalized.ext()).isExpanded());
+        assertFalse(((RawExt) normalized.device().ext()).isExpanded());
+    }
+
+    @Test
+    void sharesEncodedPayloadAcrossAdaptersInAuction() {
+        var mapper = JsonMapper.builder().build();
+        var encodes = new AtomicInteger();
+        var encoder = new OpenRtbPayloadEncoder(mapper) {
+            @Override
+            public byte[] encode(NormalizedBidRequest request) {
+                encodes.incrementAndGet();
+                return super.encode(request);
+            }
+        };
+        var client = new StubClient(new HttpBidderResponse<>(204, null, 0));
+        var first = new SimulatorHttpAdapter(client, encoder);
+        var second = new SimulatorHttpAdapter(client, encoder);
+        var payloads = new AuctionPayloads();
+        var request = sampleRequest();
+
+        first.bid(request, new AdapterContext("a", configWithEndpoint(), payloads)).block();
+        second.bid(request, new AdapterContext("b", configWithEndpoint(), payloads)).block();
+
+        assertEquals(1, encodes.get());
+        assertEquals(2, client.bodies().size());
+        var body = assertInstanceOf(byte[].class, client.bodies().getFirst());
+        assertSame(body, client.bodies().get(1));
+        assertEquals(mapper.writeValueAsString(first.buildRequest(request)), new String(body, StandardCharsets.UTF_8));
+    }
+
     private AdapterProperties.AdapterConfig configWithEndpoint() {
         var config = new AdapterProperties.AdapterConfig();
         config.setEnabled(true);
@@ -101,9 +182,15 @@ class SimulatorHttpAdapterTest {
         );
     }
 
-    private record StubClient(HttpBidderResponse<BidResponse> response) implements HttpBidderClient<BidResponse> {
+    private record StubClient(HttpBidderResponse<BidResponse> response,
+                              List<Object> bodies) implements HttpBidderClient<BidResponse> {
+        StubClient(HttpBidderResponse<BidResponse> response) {
+            this(response, new ArrayList<>());
+        }
+
         @Override
         public Mono<HttpBidderResponse<BidResponse>> postJson(String endpoint, Object body) {
+            bodies.add(body);
             return Mono.just(response);
         }
     }
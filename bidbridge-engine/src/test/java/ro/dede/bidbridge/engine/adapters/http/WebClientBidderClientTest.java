@@ -1,5 +1,6 @@
 package ro.dede.bidbridge.engine.adapters.http;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.Validation;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -7,13 +8,25 @@ import reactor.util.context.Context;
 import reactor.netty.DisposableServer;
 import reactor.netty.http.server.HttpServer;
 import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.adapters.AdapterContext;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.adapters.AuctionPayloads;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
 import ro.dede.bidbridge.engine.observability.RequestLoggingFilter;
 import ro.dede.bidbridge.engine.service.BadBidderResponseException;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class WebClientBidderClientTest {
@@ -22,7 +35,7 @@ class WebClientBidderClientTest {
     void throwsBadBidderResponseWhenJsonIsInvalid() {
         var server = startServer(200, "application/json", "not-json");
         try {
-            var client = new WebClientBidderClient(WebClient.builder(), validator());
+            var client = client();
             var endpoint = "http://127.0.0.1:" + server.port() + "/openrtb2/bid";
 
             assertThrows(BadBidderResponseException.class,
@@ -39,7 +52,7 @@ class WebClientBidderClientTest {
                 """;
         var server = startServer(200, "application/json", invalidResponse);
         try {
-            var client = new WebClientBidderClient(WebClient.builder(), validator());
+            var client = client();
             var endpoint = "http://127.0.0.1:" + server.port() + "/openrtb2/bid";
 
             assertThrows(BadBidderResponseException.class,
@@ -53,7 +66,7 @@ class WebClientBidderClientTest {
     void throwsBadBidderResponseWhenStatusIsError() {
         var server = startServer(500, "text/plain", "boom");
         try {
-            var client = new WebClientBidderClient(WebClient.builder(), validator());
+            var client = client();
             var endpoint = "http://127.0.0.1:" + server.port() + "/openrtb2/bid";
 
             assertThrows(BadBidderResponseException.class,
@@ -77,7 +90,7 @@ class WebClientBidderClientTest {
                 })
                 .bindNow();
         try {
-            var client = new WebClientBidderClient(WebClient.builder(), validator());
+            var client = client();
             var endpoint = "http://127.0.0.1:" + server.port() + "/openrtb2/bid";
             client.postJson(endpoint, Map.of("id", "req-1"))
                     .contextWrite(Context.of(
@@ -92,6 +105,95 @@ class WebClientBidderClientTest {
         }
     }
 
+    @Test
+    void gzipsPreEncodedBodiesAboveThresholdOnce() {
+        var encodings = new CopyOnWriteArrayList<String>();
+        var bodies = new CopyOnWriteArrayList<String>();
+        var server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> {
+                    encodings.add(String.valueOf(request.requestHeaders().get("Content-Encoding")));
+                    return request.receive().aggregate().asByteArray()
+                            .map(bytes -> bodies.add(gunzipIfNeeded(request.requestHeaders().get("Content-Encoding"), bytes)))
+                            .then(response.status(204).send());
+                })
+                .bindNow();
+        var registry = new SimpleMeterRegistry();
+        var metrics = new MetricsCollector(registry);
+        var clients = new BidderWebClients(WebClient.builder(), metrics);
+        try {
+            var client = new WebClientBidderClient(clients, validator(), metrics);
+            var endpoint = "http://127.0.0.1:" + server.port() + "/openrtb2/bid";
+            var config = new AdapterProperties.AdapterConfig();
+            config.getCompression().setEnabled(true);
+            config.getCompression().setMinSizeBytes(32);
+            var payloads = new AuctionPayloads();
+            var large = payloads.openRtb(() -> "{\"id\":\"req-1\",\"imp\":[{\"id\":\"1\",\"banner\":{}}]}"
+                    .getBytes(StandardCharsets.UTF_8));
+            var small = "{\"id\":\"req-1\"}".getBytes(StandardCharsets.UTF_8);
+
+            client.postJson(new AdapterContext("a", config, payloads), endpoint, large).block();
+            client.postJson(new AdapterContext("b", config, payloads), endpoint, large).block();
+            client.postJson(new AdapterContext("a", config, payloads), endpoint, small).block();
+
+            assertEquals(List.of("gzip", "gzip", "null"), encodings);
+            assertEquals(new String(large, StandardCharsets.UTF_8), bodies.getFirst());
+            assertEquals(new String(small, StandardCharsets.UTF_8), bodies.getLast());
+            assertEquals(1, registry.find(MetricsCollector.METRIC_ADAPTER_COMPRESSION_TIME).timers().stream()
+                    .mapToLong(timer -> timer.count()).sum());
+            assertEquals(large.length, registry.get(MetricsCollector.METRIC_ADAPTER_REQUEST_RAW_BYTES)
+                    .tag(MetricsCollector.TAG_ADAPTER, "b").counter().count());
+            assertEquals(small.length, registry.get(MetricsCollector.METRIC_ADAPTER_REQUEST_BYTES)
+                    .tags(MetricsCollector.TAG_ADAPTER, "a", MetricsCollector.TAG_ENCODING, "identity").counter().count());
+        } finally {
+            clients.destroy();
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void decompressesGzipResponsesWhenCompressionEnabled() {
+        var response = """
+                {"id":"req-1","seatbid":[{"bid":[{"id":"b1","impid":"1","price":1.5,"adm":"<vast/>"}]}],"cur":"USD"}
+                """;
+        var server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .compress(true)
+                .handle((request, res) -> res.status(200)
+                        .header("Content-Type", "application/json")
+                        .sendString(Mono.just(response)))
+                .bindNow();
+        var metrics = new MetricsCollector(new SimpleMeterRegistry());
+        var clients = new BidderWebClients(WebClient.builder(), metrics);
+        try {
+            var client = new WebClientBidderClient(clients, validator(), metrics);
+            var config = new AdapterProperties.AdapterConfig();
+            config.getCompression().setEnabled(true);
+            var endpoint = "http://127.0.0.1:" + server.port() + "/openrtb2/bid";
+
+            var result = client.postJson(new AdapterContext("a", config), endpoint, Map.of("id", "req-1")).block();
+
+            assertNotNull(result);
+            assertEquals(1.5, result.body().seatbid().getFirst().bid().getFirst().price());
+        } finally {
+            clients.destroy();
+            server.disposeNow();
+        }
+    }
+
+    private static String gunzipIfNeeded(String encoding, byte[] bytes) {
+        if (!"gzip".equals(encoding)) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
     private DisposableServer startServer(int status, String contentType, String body) {
         return HttpServer.create()
                 .host("127.0.0.1")
@@ -102,6 +204,11 @@ class WebClientBidderClientTest {
                 .bindNow();
     }
 
+    private WebClientBidderClient client() {
+        var metrics = new MetricsCollector(new SimpleMeterRegistry());
+        return new WebClientBidderClient(new BidderWebClients(WebClient.builder(), metrics), validator(), metrics);
+    }
+
     private jakarta.validation.Validator validator() {
         return Validation.buildDefaultValidatorFactory().getValidator();
     }
@@ -0,0 +1,70 @@
+package ro.dede.bidbridge.engine.adapters.stats;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdapterLatencyTrackerTest {
+
+    @Test
+    void returnsPercentilePlusMarginOnceWarmedUp() {
+        var now = new AtomicLong();
+        var registry = new SimpleMeterRegistry();
+        var tracker = new AdapterLatencyTracker(new MetricsCollector(registry), now::get);
+        var config = adaptiveConfig();
+
+        for (var i = 1; i <= 9; i++) {
+            tracker.record("dsp", 40);
+        }
+        assertEquals(-1, tracker.adaptiveTimeoutMs("dsp", config));
+
+        tracker.record("dsp", 40);
+        now.addAndGet(AdapterLatencyTracker.REFRESH_MS);
+        assertEquals(45, tracker.adaptiveTimeoutMs("dsp", config));
+        assertEquals(45.0, registry.get(MetricsCollector.METRIC_ADAPTER_ADAPTIVE_TIMEOUT)
+                .tag(MetricsCollector.TAG_ADAPTER, "dsp").gauge().value());
+    }
+
+    @Test
+    void appliesFloorAndRefreshesPeriodically() {
+        var now = new AtomicLong();
+        var tracker = new AdapterLatencyTracker(new MetricsCollector(new SimpleMeterRegistry()), now::get);
+        var config = adaptiveConfig();
+        for (var i = 0; i < 10; i++) {
+            tracker.record("dsp", 1);
+        }
+        assertEquals(20, tracker.adaptiveTimeoutMs("dsp", config));
+
+        for (var i = 0; i < 100; i++) {
+            tracker.record("dsp", 90);
+        }
+        assertEquals(20, tracker.adaptiveTimeoutMs("dsp", config));
+        now.addAndGet(AdapterLatencyTracker.REFRESH_MS);
+        assertEquals(95, tracker.adaptiveTimeoutMs("dsp", config));
+    }
+
+    @Test
+    void staysOffWhenDisabled() {
+        var tracker = new AdapterLatencyTracker(new MetricsCollector(new SimpleMeterRegistry()), () -> 0L);
+        for (var i = 0; i < 100; i++) {
+            tracker.record("dsp", 5);
+        }
+
+        assertEquals(-1, tracker.adaptiveTimeoutMs("dsp", new AdapterProperties.AdaptiveTimeoutConfig()));
+    }
+
+    private AdapterProperties.AdaptiveTimeoutConfig adaptiveConfig() {
+        var config = new AdapterProperties.AdaptiveTimeoutConfig();
+        config.setEnabled(true);
+        config.setPercentile(0.95);
+        config.setMarginMs(5);
+        config.setMinTimeoutMs(20);
+        config.setMinSamples(10);
+        return config;
+    }
+}
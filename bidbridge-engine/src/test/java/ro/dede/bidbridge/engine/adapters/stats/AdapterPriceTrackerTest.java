@@ -0,0 +1,38 @@
+package ro.dede.bidbridge.engine.adapters.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdapterPriceTrackerTest {
+
+    @Test
+    void tracksMaxPriceOnceEnoughObservations() {
+        var tracker = new AdapterPriceTracker(() -> 0L);
+        tracker.record("dsp", 1.5);
+        tracker.record("dsp", 0.0);
+
+        assertTrue(Double.isNaN(tracker.maxPrice("dsp", 3)));
+        assertTrue(Double.isNaN(tracker.maxPrice("other", 1)));
+
+        tracker.record("dsp", 0.7);
+        assertEquals(1.5, tracker.maxPrice("dsp", 3));
+    }
+
+    @Test
+    void forgetsPricesOutsideTheWindow() {
+        var now = new AtomicLong();
+        var tracker = new AdapterPriceTracker(now::get);
+        tracker.record("dsp", 4.0);
+        now.set(AdapterPriceTracker.WINDOW_MS / 2);
+        tracker.record("dsp", 1.0);
+
+        assertEquals(4.0, tracker.maxPrice("dsp", 1));
+
+        now.set(AdapterPriceTracker.WINDOW_MS + 1);
+        assertEquals(1.0, tracker.maxPrice("dsp", 1));
+    }
+}
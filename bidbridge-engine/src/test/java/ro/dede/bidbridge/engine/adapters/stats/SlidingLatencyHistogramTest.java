@@ -0,0 +1,55 @@
+package ro.dede.bidbridge.engine.adapters.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlidingLatencyHistogramTest {
+
+    @Test
+    void reportsPercentilesFromBuckets() {
+        var histogram = new SlidingLatencyHistogram(60_000, 6, () -> 0L);
+        for (var i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(100, histogram.count());
+        assertEquals(50, histogram.percentile(0.5));
+        assertEquals(95, histogram.percentile(0.95));
+        assertEquals(100, histogram.percentile(1.0));
+    }
+
+    @Test
+    void usesCoarserBucketsForSlowCalls() {
+        var histogram = new SlidingLatencyHistogram(60_000, 6, () -> 0L);
+        histogram.record(130);
+        histogram.record(600);
+        histogram.record(5_000);
+
+        assertEquals(131, histogram.percentile(0.3));
+        assertEquals(607, histogram.percentile(0.6));
+        assertEquals(2048, histogram.percentile(1.0));
+    }
+
+    @Test
+    void dropsSamplesOlderThanTheWindow() {
+        var now = new AtomicLong();
+        var histogram = new SlidingLatencyHistogram(60_000, 6, now::get);
+        histogram.record(200);
+        now.set(30_000);
+        histogram.record(10);
+
+        assertEquals(2, histogram.count());
+        assertEquals(203, histogram.percentile(0.99));
+
+        now.set(65_000);
+        assertEquals(1, histogram.count());
+        assertEquals(10, histogram.percentile(0.99));
+
+        now.set(200_000);
+        assertEquals(0, histogram.count());
+        assertEquals(-1, histogram.percentile(0.99));
+    }
+}
@@ -0,0 +1,146 @@
+package ro.dede.bidbridge.engine.adapters.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.currency.CurrencyConverter;
+import ro.dede.bidbridge.engine.currency.CurrencyProperties;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.adapter.SelectedBid;
+import ro.dede.bidbridge.engine.domain.normalized.ImpType;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedDevice;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedImp;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidRateThrottlerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private double draw = 0.5;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BidRateThrottler throttler =
+            new BidRateThrottler(new MetricsCollector(registry), converter(), now::get, () -> draw);
+
+    @Test
+    void callsEverythingUntilEnoughSamples() {
+        var config = throttled();
+        var cell = BidRateThrottler.cellOf(request("news.example", "iOS"));
+        recordOutcomes(config, cell, 9, 0);
+
+        assertTrue(throttler.admit("dsp", config, cell));
+    }
+
+    @Test
+    void samplesLowFillTrafficDownToTheExplorationFloor() {
+        var config = throttled();
+        var cell = BidRateThrottler.cellOf(request("news.example", "iOS"));
+        // 2% bid rate against a 20% target -> 10% call probability.
+        recordOutcomes(config, cell, 98, 2);
+
+        draw = 0.09;
+        assertTrue(throttler.admit("dsp", config, cell));
+        draw = 0.11;
+        assertFalse(throttler.admit("dsp", config, cell));
+
+        recordOutcomes(config, cell, 100, 0);
+        draw = 0.049;
+        assertTrue(throttler.admit("dsp", config, cell));
+
+        assertEquals(1.0, registry.get(MetricsCollector.METRIC_ADAPTER_THROTTLED_TOTAL)
+                .tags(MetricsCollector.TAG_ADAPTER, "dsp", MetricsCollector.TAG_REASON, MetricsCollector.REASON_SAMPLED)
+                .counter().count());
+        // 2% bid rate at a 2.0 CPM average -> 0.04 CPM per call.
+        assertEquals(0.00004, registry.get(MetricsCollector.METRIC_ADAPTER_THROTTLE_LOST_REVENUE_TOTAL)
+                .tag(MetricsCollector.TAG_ADAPTER, "dsp").counter().count(), 1e-9);
+    }
+
+    @Test
+    void estimatesLostRevenueInTheAuctionCurrency() {
+        var config = throttled();
+        var cell = BidRateThrottler.cellOf(request("news.example", "iOS"));
+        recordOutcomes(config, cell, 98, 0);
+        // 2.0 EUR at 1.5 USD per EUR -> 3.0 CPM; the unknown currency cannot win and counts as a no-bid.
+        throttler.record("dsp", config, cell, AdapterResult.bid("dsp",
+                new SelectedBid("eur", "1", 2.0, "<ad/>", "EUR"), null));
+        throttler.record("dsp", config, cell, AdapterResult.bid("dsp",
+                new SelectedBid("xyz", "1", 50.0, "<ad/>", "XYZ"), null));
+
+        draw = 0.99;
+        assertFalse(throttler.admit("dsp", config, cell));
+        // 1% bid rate at a 3.0 CPM average -> 0.03 CPM per call.
+        assertEquals(0.00003, registry.get(MetricsCollector.METRIC_ADAPTER_THROTTLE_LOST_REVENUE_TOTAL)
+                .tag(MetricsCollector.TAG_ADAPTER, "dsp").counter().count(), 1e-9);
+    }
+
+    @Test
+    void keepsCallingHighFillTraffic() {
+        var config = throttled();
+        var cell = BidRateThrottler.cellOf(request("news.example", "iOS"));
+        recordOutcomes(config, cell, 70, 30);
+
+        draw = 0.99;
+        assertTrue(throttler.admit("dsp", config, cell));
+    }
+
+    @Test
+    void forgetsOutcomesAfterTwoWindows() {
+        var config = throttled();
+        var cell = BidRateThrottler.cellOf(request("news.example", "iOS"));
+        recordOutcomes(config, cell, 100, 0);
+        draw = 0.99;
+        assertFalse(throttler.admit("dsp", config, cell));
+
+        now.addAndGet(config.getThrottling().getWindowMs());
+        assertFalse(throttler.admit("dsp", config, cell));
+
+        now.addAndGet(config.getThrottling().getWindowMs());
+        assertTrue(throttler.admit("dsp", config, cell));
+    }
+
+    @Test
+    void separatesTrafficByFeatures() {
+        var ios = BidRateThrottler.cellOf(request("news.example", "iOS"));
+
+        assertEquals(ios, BidRateThrottler.cellOf(request("news.example", "iOS")));
+        assertNotEquals(ios, BidRateThrottler.cellOf(request("news.example", "Android")));
+    }
+
+    private void recordOutcomes(AdapterProperties.AdapterConfig config, int cell, int noBids, int bids) {
+        for (var i = 0; i < noBids; i++) {
+            throttler.record("dsp", config, cell, AdapterResult.noBid("dsp", null));
+        }
+        for (var i = 0; i < bids; i++) {
+            var bid = new SelectedBid("b" + i, "1", 2.0, "<ad/>", "USD");
+            throttler.record("dsp", config, cell, AdapterResult.bid("dsp", bid, null));
+        }
+    }
+
+    private static CurrencyConverter converter() {
+        var properties = new CurrencyProperties();
+        properties.setRates(Map.of("EUR", 1.5));
+        return new CurrencyConverter(properties);
+    }
+
+    private AdapterProperties.AdapterConfig throttled() {
+        var config = new AdapterProperties.AdapterConfig();
+        config.getThrottling().setEnabled(true);
+        config.getThrottling().setMinSamples(10);
+        return config;
+    }
+
+    private NormalizedBidRequest request(String domain, String os) {
+        return new NormalizedBidRequest("req-1",
+                List.of(new NormalizedImp("1", ImpType.BANNER, 0.0, Map.of())),
+                InventoryType.SITE, 100,
+                new NormalizedDevice(null, null, os, null, Map.of()),
+                Map.of(), Map.of(), Map.of(), Map.of(), Map.of(),
+                domain, null);
+    }
+}
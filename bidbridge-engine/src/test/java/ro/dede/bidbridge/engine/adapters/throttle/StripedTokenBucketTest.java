@@ -0,0 +1,52 @@
+package ro.dede.bidbridge.engine.adapters.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedTokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void admitsTheConfiguredRateFromFewerThreadsThanStripes() throws Exception {
+        var start = -3 * SECOND;
+        var bucket = new StripedTokenBucket(1600, start);
+        assertEquals(16, bucket.stripes());
+
+        // Offered load is twice the cap: 3200 calls spread evenly over one second per thread.
+        var first = new AtomicInteger();
+        var second = new AtomicInteger();
+        offer(bucket, start, first);
+        var thread = Thread.ofPlatform().start(() -> offer(bucket, start + SECOND, second));
+        thread.join();
+
+        // Each second admits the rate, plus the initial burst of 10 tokens per stripe in the first one.
+        assertTrue(first.get() >= 1600 && first.get() <= 1600 + 16 * 10, "first second: " + first.get());
+        assertTrue(second.get() >= 1580 && second.get() <= 1620, "second second: " + second.get());
+    }
+
+    @Test
+    void singleStripeRejectsOnceEmpty() {
+        var bucket = new StripedTokenBucket(50, 0);
+        assertEquals(1, bucket.stripes());
+
+        // 50 QPS -> 20ms per token, 100ms of burst.
+        for (var i = 0; i < 5; i++) {
+            assertTrue(bucket.tryAcquire(0));
+        }
+        assertFalse(bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(20_000_000L));
+    }
+
+    private static void offer(StripedTokenBucket bucket, long from, AtomicInteger admitted) {
+        var calls = 3200;
+        for (var i = 0; i < calls; i++) {
+            if (bucket.tryAcquire(from + i * SECOND / calls)) {
+                admitted.incrementAndGet();
+            }
+        }
+    }
+}
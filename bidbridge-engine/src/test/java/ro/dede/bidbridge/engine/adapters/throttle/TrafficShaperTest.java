@@ -0,0 +1,92 @@
+package ro.dede.bidbridge.engine.adapters.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.adapters.AdapterRegistry.AdapterEntry;
+import ro.dede.bidbridge.engine.currency.CurrencyConverter;
+import ro.dede.bidbridge.engine.currency.CurrencyProperties;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficShaperTest {
+
+    private final AtomicLong nanos = new AtomicLong(-5_000_000_000L);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdapterRateLimiter limiter = new AdapterRateLimiter(nanos::get);
+    private final MetricsCollector metrics = new MetricsCollector(registry);
+    private final TrafficShaper shaper = new TrafficShaper(limiter,
+            new BidRateThrottler(metrics, new CurrencyConverter(new CurrencyProperties())), metrics);
+
+    @Test
+    void allowsBurstThenRefillsAtConfiguredRate() {
+        var config = capped(100);
+
+        // 100 QPS -> 10ms per token, 100ms of burst.
+        assertEquals(10, drain("dsp", config));
+
+        nanos.addAndGet(10_000_000L);
+        assertTrue(limiter.tryAcquire("dsp", config));
+        assertFalse(limiter.tryAcquire("dsp", config));
+    }
+
+    @Test
+    void drainsEveryStripeBeforeRejecting() {
+        var bucket = new StripedTokenBucket(1600, 0);
+
+        assertEquals(16, bucket.stripes());
+        var granted = 0;
+        while (bucket.tryAcquire(0)) {
+            granted++;
+        }
+        // The whole burst: 16 stripes, 10 tokens each.
+        assertEquals(160, granted);
+    }
+
+    @Test
+    void skipsAdaptersOverTheirCap() {
+        var capped = new AdapterEntry("capped", null, capped(10));
+        var open = new AdapterEntry("open", null, new AdapterProperties.AdapterConfig());
+        var adapters = List.of(capped, open);
+
+        assertSame(adapters, shaper.select(null, adapters));
+        assertEquals(List.of(open), shaper.select(null, adapters));
+        assertEquals(1.0, registry.get(MetricsCollector.METRIC_ADAPTER_THROTTLED_TOTAL)
+                .tags(MetricsCollector.TAG_ADAPTER, "capped", MetricsCollector.TAG_REASON, MetricsCollector.REASON_QPS_CAP)
+                .counter().count());
+    }
+
+    @Test
+    void rebuildsBucketWhenCapChanges() {
+        var config = capped(10);
+        drain("dsp", config);
+
+        config.setMaxQps(100);
+        assertEquals(10, drain("dsp", config));
+
+        config.setMaxQps(0);
+        assertEquals(1000, drain("dsp", config, 1000));
+    }
+
+    private AdapterProperties.AdapterConfig capped(int qps) {
+        var config = new AdapterProperties.AdapterConfig();
+        config.setMaxQps(qps);
+        return config;
+    }
+
+    private int drain(String adapter, AdapterProperties.AdapterConfig config) {
+        return drain(adapter, config, Integer.MAX_VALUE);
+    }
+
+    private int drain(String adapter, AdapterProperties.AdapterConfig config, int limit) {
+        var granted = 0;
+        while (granted < limit && limiter.tryAcquire(adapter, config)) {
+            granted++;
+        }
+        return granted;
+    }
+}
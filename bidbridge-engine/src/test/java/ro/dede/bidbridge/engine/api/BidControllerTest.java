@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @WebFluxTest(controllers = BidController.class)
@@ -187,6 +188,7 @@ class BidControllerTest {
         var captured = bidRequestNormalizer.lastRequest.get();
         assertEquals(120, captured.tmax());
         assertNotNull(captured.ext());
+        assertInstanceOf(RawExt.class, captured.ext());
         assertEquals("ssp", captured.ext().get("source"));
     }
 
@@ -0,0 +1,103 @@
+package ro.dede.bidbridge.engine.api.codec;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import ro.dede.bidbridge.engine.domain.openrtb.BidRequest;
+import ro.dede.bidbridge.engine.domain.openrtb.RawExt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidRequestDecoderTest {
+
+    private final BidRequestDecoder decoder = new BidRequestDecoder();
+
+    @Test
+    void decodesModeledFields() {
+        var json = """
+                {"id":"req-1","tmax":120,
+                 "imp":[{"id":"1","banner":{"w":300,"h":250},"bidfloor":0.5},{"id":"2","video":{"mimes":["video/mp4"]}}],
+                 "site":{"domain":"example.com"},
+                 "device":{"ua":"agent","ip":"10.0.0.1","os":"ios","devicetype":4,"geo":{"country":"ROU"}}}
+                """;
+
+        var request = decode(json);
+
+        assertEquals("req-1", request.id());
+        assertEquals(120, request.tmax());
+        assertEquals(2, request.imp().size());
+        assertNotNull(request.imp().getFirst().banner());
+        assertEquals(0.5, request.imp().getFirst().bidfloor());
+        assertNotNull(request.imp().get(1).video());
+        assertNull(request.imp().get(1).bidfloor());
+        assertEquals("example.com", request.site().domain());
+        assertNull(request.app());
+        assertEquals("ios", request.device().os());
+        assertEquals(4, request.device().devicetype());
+    }
+
+    @Test
+    void keepsExtAsLazyRawSlice() {
+        var json = """
+                {"id":"req-1","imp":[{"id":"1","banner":{},"ext":{"slot":"top"}}],"app":{"bundle":"com.example","ext":{"a":1}},
+                 "ext":{"source":"ssp","nested":{"a":[1,2]}}}
+                """;
+
+        var request = decode(json);
+
+        var ext = assertInstanceOf(RawExt.class, request.ext());
+        assertFalse(ext.isExpanded());
+        assertEquals("{\"source\":\"ssp\",\"nested\":{\"a\":[1,2]}}", ext.toString());
+        assertEquals("ssp", ext.get("source"));
+        assertTrue(ext.isExpanded());
+        assertEquals(Map.of("slot", "top"), request.imp().getFirst().ext());
+        assertEquals(Map.of("a", 1), request.app().ext());
+        assertEquals("com.example", request.app().bundle());
+    }
+
+    @Test
+    void acceptsNullsAndMissingOptionalFields() {
+        var request = decode("{\"id\":\"req-1\",\"imp\":[{\"id\":\"1\",\"banner\":null}],\"site\":{},\"ext\":null}");
+
+        assertNull(request.imp().getFirst().banner());
+        assertNull(request.ext());
+        assertNull(request.tmax());
+        assertNull(request.device());
+    }
+
+    @Test
+    void rejectsInvalidJson() {
+        assertThrows(DecodingException.class, () -> decode("{\"id\":\"req-1\",\"imp\":["));
+    }
+
+    @Test
+    void rejectsWrongFieldTypes() {
+        assertThrows(DecodingException.class, () -> decode("{\"id\":\"req-1\",\"imp\":{\"id\":\"1\"}}"));
+        assertThrows(DecodingException.class, () -> decode("{\"id\":\"req-1\",\"tmax\":\"fast\"}"));
+        assertThrows(DecodingException.class, () -> decode("{\"id\":\"req-1\",\"ext\":[1]}"));
+    }
+
+    @Test
+    void decodesFromDataBuffers() {
+        var factory = DefaultDataBufferFactory.sharedInstance;
+        var first = factory.wrap("{\"id\":\"req-1\",\"imp\":[{\"id\":".getBytes(StandardCharsets.UTF_8));
+        var second = factory.wrap("\"1\",\"audio\":{}}],\"site\":{}}".getBytes(StandardCharsets.UTF_8));
+
+        var request = decoder.decodeToMono(Flux.just(first, second),
+                ResolvableType.forClass(BidRequest.class), MediaType.APPLICATION_JSON, Map.of()).block();
+
+        assertNotNull(request);
+        assertEquals("1", request.imp().getFirst().id());
+        assertNotNull(request.imp().getFirst().audio());
+    }
+
+    private BidRequest decode(String json) {
+        return decoder.decode(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,83 @@
+package ro.dede.bidbridge.engine.api.codec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestDecompressionCustomizerTest {
+
+    @Test
+    void inflatesGzipRequestBodiesAndCountsThem() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        var customizer = new RequestDecompressionCustomizer(new MetricsCollector(registry), 64 * 1024);
+        var server = customizer.apply(HttpServer.create().host("127.0.0.1").port(0))
+                .handle((request, response) -> response.send(request.receive().retain()))
+                .bindNow();
+        try {
+            var json = "{\"id\":\"req-1\",\"imp\":[{\"id\":\"1\",\"banner\":{}}],\"site\":{}}";
+            var client = HttpClient.create().baseUrl("http://127.0.0.1:" + server.port());
+
+            var gzipped = client.headers(headers -> headers.set("Content-Encoding", "gzip"))
+                    .post().uri("/openrtb2/bid")
+                    .send(Mono.just(Unpooled.wrappedBuffer(gzip(json))))
+                    .responseContent().aggregate().asString().block();
+            var plain = client.post().uri("/openrtb2/bid")
+                    .send(Mono.just(Unpooled.wrappedBuffer(json.getBytes(StandardCharsets.UTF_8))))
+                    .responseContent().aggregate().asString().block();
+
+            assertEquals(json, gzipped);
+            assertEquals(json, plain);
+            assertEquals(1.0, registry.get(MetricsCollector.METRIC_INBOUND_DECOMPRESSED_TOTAL)
+                    .tag(MetricsCollector.TAG_ENCODING, "gzip").counter().count());
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void rejectsBodiesThatInflatePastTheLimit() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        var customizer = new RequestDecompressionCustomizer(new MetricsCollector(registry), 64 * 1024);
+        var server = customizer.apply(HttpServer.create().host("127.0.0.1").port(0))
+                // Like WebFlux, reads the whole body before answering.
+                .handle((request, response) -> response.send(request.receive().aggregate().retain()))
+                .bindNow();
+        try {
+            // About 4MB of spaces compresses to a few KB.
+            var bomb = gzip(" ".repeat(4 * 1024 * 1024));
+            assertTrue(bomb.length < 64 * 1024);
+
+            var status = HttpClient.create().baseUrl("http://127.0.0.1:" + server.port())
+                    .headers(headers -> headers.set("Content-Encoding", "gzip"))
+                    .post().uri("/openrtb2/bid")
+                    .send(Mono.just(Unpooled.wrappedBuffer(bomb)))
+                    .responseSingle((response, body) -> Mono.just(response.status().code()))
+                    .block();
+
+            assertEquals(413, status);
+            assertEquals(1.0, registry.get(MetricsCollector.METRIC_ENGINE_REJECTED_TOTAL)
+                    .tag(MetricsCollector.TAG_REASON, MetricsCollector.REASON_PAYLOAD_TOO_LARGE).counter().count());
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    private static byte[] gzip(String value) throws Exception {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
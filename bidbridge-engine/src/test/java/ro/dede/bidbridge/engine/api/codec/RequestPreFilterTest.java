@@ -0,0 +1,148 @@
+package ro.dede.bidbridge.engine.api.codec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.adapters.AdapterRegistry;
+import ro.dede.bidbridge.engine.adapters.BidderAdapter;
+import ro.dede.bidbridge.engine.adapters.circuit.AdapterCircuitBreakers;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
+import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
+import ro.dede.bidbridge.engine.domain.openrtb.*;
+import ro.dede.bidbridge.engine.normalization.DefaultBidRequestNormalizer;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.rules.DefaultRulesEvaluator;
+import ro.dede.bidbridge.engine.rules.RulesProperties;
+import ro.dede.bidbridge.engine.service.BidService;
+import ro.dede.bidbridge.engine.service.BidServiceProperties;
+import ro.dede.bidbridge.engine.service.FilteredRequestException;
+import ro.dede.bidbridge.engine.service.RequestDeadline;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestPreFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsDeniedInventoryBeforeNormalization() {
+        var rules = new RulesProperties();
+        rules.setDenyInventory(List.of(InventoryType.APP));
+        var preFilter = preFilter(rules, true);
+
+        var error = assertThrows(FilteredRequestException.class,
+                () -> preFilter.check(request("req-1", null, new App(Map.of()), imp("1", 1.0)), null));
+
+        assertEquals("Inventory denied", error.getMessage());
+        assertEquals(1.0, prefiltered("denyInventory"));
+    }
+
+    @Test
+    void rejectsWhenEveryImpIsBelowTheFloor() {
+        var rules = new RulesProperties();
+        rules.setMinBidfloor(1.0);
+        var preFilter = preFilter(rules, true);
+
+        var error = assertThrows(FilteredRequestException.class,
+                () -> preFilter.check(request("req-1", new Site(Map.of()), null, imp("1", 0.5), imp("2", null)), null));
+
+        assertEquals("All imps filtered by rules", error.getMessage());
+        assertEquals(1.0, prefiltered("minBidfloor"));
+        // One imp at the floor keeps the request on the regular path.
+        assertDoesNotThrow(() -> preFilter.check(
+                request("req-2", new Site(Map.of()), null, imp("1", 0.5), imp("2", 1.0)), null));
+    }
+
+    @Test
+    void leavesInvalidRequestsToValidationAndNormalization() {
+        var rules = new RulesProperties();
+        rules.setDenyInventory(List.of(InventoryType.SITE, InventoryType.APP));
+        var preFilter = preFilter(rules, true);
+
+        assertDoesNotThrow(() -> preFilter.check(request(" ", new Site(Map.of()), null, imp("1", 1.0)), null));
+        assertDoesNotThrow(() -> preFilter.check(
+                request("req-1", new Site(Map.of()), new App(Map.of()), imp("1", 1.0)), null));
+        assertDoesNotThrow(() -> preFilter.check(request("req-1", new Site(Map.of()), null,
+                new Imp("1", null, null, null, null, 1.0, Map.of())), null));
+        assertNull(registry.find(MetricsCollector.METRIC_ENGINE_PREFILTERED_TOTAL).counter());
+    }
+
+    @Test
+    void leavesRequestsToTheServiceWhenItWouldFailEarlier() {
+        var rules = new RulesProperties();
+        rules.setDenyInventory(List.of(InventoryType.SITE));
+
+        // No enabled adapters: the service answers with its configuration error.
+        assertDoesNotThrow(() -> preFilter(rules, false)
+                .check(request("req-1", new Site(Map.of()), null, imp("1", 1.0)), null));
+
+        // Budget already spent: the service sheds the request on its deadline.
+        var late = new RequestDeadline(System.nanoTime() - 1_000_000_000L);
+        assertDoesNotThrow(() -> preFilter(rules, true)
+                .check(request("req-1", new Site(Map.of()), null, imp("1", 1.0)), late));
+        assertNull(registry.find(MetricsCollector.METRIC_ENGINE_PREFILTERED_TOTAL).counter());
+    }
+
+    @Test
+    void staysInactiveWhenTheBidServiceIsReplaced() {
+        var rules = new RulesProperties();
+        rules.setDenyInventory(List.of(InventoryType.SITE));
+        var base = preFilter(rules, true);
+        BidService custom = request -> Mono.empty();
+        var metrics = new MetricsCollector(registry);
+        var preFilter = new RequestPreFilter(registry(true, metrics), new DefaultRulesEvaluator(rules),
+                new BidServiceProperties(), metrics, new DefaultBidRequestNormalizer(), custom);
+
+        assertThrows(FilteredRequestException.class,
+                () -> base.check(request("req-1", new Site(Map.of()), null, imp("1", 1.0)), null));
+        assertDoesNotThrow(() -> preFilter.check(request("req-1", new Site(Map.of()), null, imp("1", 1.0)), null));
+    }
+
+    private RequestPreFilter preFilter(RulesProperties rules, boolean adapterEnabled) {
+        // Stands in for DefaultBidService: the pre-filter only needs to know the service applies the rules.
+        var bidService = new BidService() {
+            @Override
+            public Mono<BidResponse> bid(NormalizedBidRequest request) {
+                return Mono.empty();
+            }
+
+            @Override
+            public boolean appliesRules() {
+                return true;
+            }
+        };
+        var metrics = new MetricsCollector(registry);
+        return new RequestPreFilter(registry(adapterEnabled, metrics), new DefaultRulesEvaluator(rules),
+                new BidServiceProperties(), metrics, new DefaultBidRequestNormalizer(),
+                bidService);
+    }
+
+    private static AdapterRegistry registry(boolean adapterEnabled, MetricsCollector metrics) {
+        var properties = new AdapterProperties();
+        var config = new AdapterProperties.AdapterConfig();
+        config.setEnabled(adapterEnabled);
+        properties.getConfigs().put("a", config);
+        BidderAdapter adapter = (request, context) -> Mono.just(AdapterResult.noBid("a", null));
+        return new AdapterRegistry(Map.of("a", adapter), properties, new AdapterCircuitBreakers(metrics));
+    }
+
+    private double prefiltered(String reason) {
+        var counter = registry.find(MetricsCollector.METRIC_ENGINE_PREFILTERED_TOTAL)
+                .tags(MetricsCollector.TAG_REASON, reason)
+                .counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private static BidRequest request(String id, Site site, App app, Imp... imps) {
+        return new BidRequest(id, List.of(imps), site, app, null, null, null, 100, Map.of());
+    }
+
+    private static Imp imp(String id, Double bidfloor) {
+        return new Imp(id, new Banner(Map.of()), null, null, null, bidfloor, Map.of());
+    }
+}
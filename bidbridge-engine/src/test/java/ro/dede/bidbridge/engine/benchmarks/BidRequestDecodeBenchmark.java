@@ -0,0 +1,64 @@
+package ro.dede.bidbridge.engine.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ro.dede.bidbridge.engine.api.codec.BidRequestDecoder;
+import ro.dede.bidbridge.engine.domain.openrtb.BidRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming BidRequest decoder with generic Jackson databind.
+ * Run with -prof gc to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BidRequestDecodeBenchmark {
+    private static final String REQUEST = """
+            {"id":"bench-1","tmax":120,"cur":["USD"],
+             "imp":[{"id":"1","banner":{"w":300,"h":250,"format":[{"w":300,"h":250},{"w":320,"h":50}]},"bidfloor":0.5,
+                     "ext":{"prebid":{"bidder":{"a":{"placementId":123},"b":{"zone":"top"}}},"gpid":"/home/top"}},
+                    {"id":"2","video":{"mimes":["video/mp4"],"minduration":5,"maxduration":30},"bidfloor":1.2,
+                     "ext":{"gpid":"/home/video"}}],
+             "site":{"domain":"example.com","page":"https://example.com/home","ext":{"amp":0}},
+             "device":{"ua":"Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X)","ip":"10.1.2.3","os":"iOS",
+                       "devicetype":4,"geo":{"country":"ROU","city":"Bucharest"},"ext":{"atts":3,"ifv":"abc-123"}},
+             "user":{"id":"u-1","ext":{"consent":"CPXxRfAPXxRfAAfKABENB-CgAAAAAAAAAAYgAAAAAAAA","eids":[{"source":"id5","uids":[{"id":"ID5*x"}]}]}},
+             "regs":{"ext":{"gdpr":1,"us_privacy":"1YNN"}},
+             "ext":{"prebid":{"channel":{"name":"web"},"targeting":{"includewinners":true}},"schain":{"ver":"1.0","complete":1}}}
+            """;
+
+    private final BidRequestDecoder decoder = new BidRequestDecoder();
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        payload = REQUEST.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public BidRequest databind() {
+        return mapper.readValue(payload, BidRequest.class);
+    }
+
+    @Benchmark
+    public BidRequest streaming() {
+        return decoder.decode(payload);
+    }
+
+    // Streaming decode followed by a read of the top-level ext (worst case for lazy ext).
+    @Benchmark
+    public Object streamingWithExtRead() {
+        return decoder.decode(payload).ext().get("schain");
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{BidRequestDecodeBenchmark.class.getSimpleName()});
+    }
+}
@@ -0,0 +1,116 @@
+package ro.dede.bidbridge.engine.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.adapters.AdapterRegistry.AdapterEntry;
+import ro.dede.bidbridge.engine.adapters.BidderAdapter;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.normalized.*;
+import ro.dede.bidbridge.engine.rules.DefaultRulesEvaluator;
+import ro.dede.bidbridge.engine.rules.RulesProperties;
+import ro.dede.bidbridge.engine.rules.RulesResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rules evaluation per request with a typical config (inventory, floor and adapter lists) where nothing is
+ * filtered, with one imp below the floor, and with 60 targeted adapters (~600 targeting values). Logging is raised to WARN so the log line does not dominate. Run with -prof gc to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RulesEvaluatorBenchmark {
+    private DefaultRulesEvaluator evaluator;
+    private DefaultRulesEvaluator targetingEvaluator;
+    private List<AdapterEntry> adapters;
+    private List<AdapterEntry> targetedAdapters;
+    private NormalizedBidRequest unfiltered;
+    private NormalizedBidRequest floorFiltered;
+
+    @Setup
+    public void setUp() {
+        // Measure evaluation, not the per-request "Rules applied" log line.
+        ((Logger) LoggerFactory.getLogger(DefaultRulesEvaluator.class)).setLevel(Level.WARN);
+        var properties = new RulesProperties();
+        properties.setDenyInventory(List.of(InventoryType.APP));
+        properties.setMinBidfloor(0.1);
+        properties.setAllowAdapters(List.of("a", "b", "c", "d", "e", "f"));
+        properties.setDenyAdapters(List.of("z"));
+        evaluator = new DefaultRulesEvaluator(properties);
+
+        BidderAdapter adapter = (request, context) -> Mono.just(AdapterResult.noBid(context.bidder(), null));
+        var config = new AdapterProperties.AdapterConfig();
+        config.setEnabled(true);
+        adapters = new ArrayList<>();
+        for (var name : List.of("a", "b", "c", "d", "e", "f")) {
+            adapters.add(new AdapterEntry(name, adapter, config));
+        }
+        adapters = List.copyOf(adapters);
+        var targeting = new RulesProperties();
+        var targeted = new ArrayList<AdapterEntry>();
+        for (var i = 0; i < 60; i++) {
+            var name = "dsp-" + i;
+            var rule = new RulesProperties.Targeting();
+            rule.setOs(List.of(i % 2 == 0 ? "iOS" : "Android"));
+            rule.setDeviceTypes(List.of(1 + i % 7));
+            rule.setImpTypes(List.of(ImpType.values()[i % ImpType.values().length]));
+            var domains = new ArrayList<String>();
+            for (var d = 0; d < 8; d++) {
+                domains.add("site-" + (i + d) % 40 + ".example");
+            }
+            rule.setDomains(domains);
+            targeting.getTargeting().put(name, rule);
+            targeted.add(new AdapterEntry(name, adapter, config));
+        }
+        targetingEvaluator = new DefaultRulesEvaluator(targeting);
+        targetedAdapters = List.copyOf(targeted);
+        unfiltered = request(0.5, 1.0, 2.0);
+        floorFiltered = request(0.05, 1.0, 2.0);
+    }
+
+    @Benchmark
+    public RulesResult nothingFiltered() {
+        return evaluator.apply(unfiltered, adapters);
+    }
+
+    @Benchmark
+    public RulesResult impBelowFloor() {
+        return evaluator.apply(floorFiltered, adapters);
+    }
+
+    @Benchmark
+    public RulesResult targeting() {
+        return targetingEvaluator.apply(unfiltered, targetedAdapters);
+    }
+
+    private static NormalizedBidRequest request(double... floors) {
+        var imps = new ArrayList<NormalizedImp>();
+        for (var i = 0; i < floors.length; i++) {
+            imps.add(new NormalizedImp(String.valueOf(i + 1), ImpType.BANNER, floors[i], Map.of()));
+        }
+        return new NormalizedBidRequest(
+                "bench-1",
+                List.copyOf(imps),
+                InventoryType.SITE,
+                120,
+                new NormalizedDevice("ua", "10.1.2.3", "iOS", 4, Map.of()),
+                Map.of(),
+                Map.of(),
+                null,
+                null,
+                null,
+                "site-3.example",
+                null
+        );
+    }
+}
@@ -0,0 +1,187 @@
+package ro.dede.bidbridge.engine.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.env.StandardEnvironment;
+import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.adapters.AdapterProperties;
+import ro.dede.bidbridge.engine.adapters.AdapterRegistry;
+import ro.dede.bidbridge.engine.adapters.BidderAdapter;
+import ro.dede.bidbridge.engine.adapters.circuit.AdapterCircuitBreakers;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.normalized.*;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.rules.DefaultRulesEvaluator;
+import ro.dede.bidbridge.engine.rules.RulesProperties;
+import ro.dede.bidbridge.engine.service.FilteredRequestException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutingConfigStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdapterProperties applicationAdapters = new AdapterProperties();
+    private final RulesProperties applicationRules = new RulesProperties();
+    private final DefaultRulesEvaluator evaluator = new DefaultRulesEvaluator(applicationRules);
+    private AdapterRegistry adapterRegistry;
+
+    @Test
+    void publishesRulesAndAdaptersFromFile() throws Exception {
+        var file = write("""
+                rules:
+                  denyInventory: [ APP ]
+                adapters:
+                  configs:
+                    b:
+                      enabled: true
+                      timeoutMs: 40
+                """);
+        var store = store(file);
+
+        var result = store.reload();
+
+        assertTrue(result.success());
+        assertEquals(1, store.snapshot().version());
+        assertEquals(List.of("b"), activeNames());
+        assertEquals(40, adapterRegistry.activeAdapters().getFirst().timeoutMs());
+        assertThrows(FilteredRequestException.class,
+                () -> evaluator.apply(request(InventoryType.APP), adapterRegistry.activeAdapters()));
+        assertEquals(1.0, registry.get(MetricsCollector.METRIC_CONFIG_VERSION).gauge().value());
+        assertEquals(1.0, registry.get(MetricsCollector.METRIC_CONFIG_RELOAD_TOTAL)
+                .tag(MetricsCollector.TAG_RESULT, "success").counter().count());
+
+        var unchanged = store.reload();
+        assertTrue(unchanged.success());
+        assertFalse(unchanged.changed());
+        assertEquals(1, store.snapshot().version());
+    }
+
+    @Test
+    void keepsLastKnownGoodConfigOnInvalidFile() throws Exception {
+        var file = write("""
+                adapters:
+                  configs:
+                    b:
+                      enabled: true
+                """);
+        var store = store(file);
+        store.reload();
+
+        Files.writeString(file, """
+                adapters:
+                  configs:
+                    a:
+                      enabled: true
+                      endpoint: "not a url"
+                """);
+        var result = store.reload();
+
+        assertFalse(result.success());
+        assertEquals(1, result.version());
+        assertEquals(List.of("b"), activeNames());
+        assertEquals(1.0, registry.get(MetricsCollector.METRIC_CONFIG_RELOAD_TOTAL)
+                .tag(MetricsCollector.TAG_RESULT, "failure").counter().count());
+    }
+
+    @Test
+    void fallsBackToApplicationConfigForMissingSections() throws Exception {
+        var file = write("""
+                rules:
+                  denyAdapters: [ a ]
+                """);
+        var store = store(file);
+
+        store.reload();
+
+        assertEquals(List.of("a", "b"), activeNames());
+        var result = evaluator.apply(request(InventoryType.SITE), adapterRegistry.activeAdapters());
+        assertEquals(List.of("b"), result.adapters().stream().map(AdapterRegistry.AdapterEntry::name).toList());
+    }
+
+    @Test
+    void watcherReloadsWhenFileChanges() throws Exception {
+        var file = write("""
+                adapters:
+                  configs:
+                    a:
+                      enabled: true
+                """);
+        var store = store(file);
+        store.reload();
+        var properties = new EngineReloadProperties();
+        properties.setFile(file.toString());
+        properties.setDebounceMs(20);
+        var watcher = new RoutingConfigWatcher(store, properties);
+        watcher.start();
+        try {
+            Files.writeString(file, """
+                    adapters:
+                      configs:
+                        b:
+                          enabled: true
+                    """);
+
+            var deadline = System.currentTimeMillis() + 10_000;
+            while (store.snapshot().version() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(2, store.snapshot().version());
+            assertEquals(List.of("b"), activeNames());
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    private RoutingConfigStore store(Path file) {
+        var a = new AdapterProperties.AdapterConfig();
+        a.setEnabled(true);
+        var b = new AdapterProperties.AdapterConfig();
+        b.setEnabled(true);
+        applicationAdapters.getConfigs().put("a", a);
+        applicationAdapters.getConfigs().put("b", b);
+        BidderAdapter adapter = (request, context) -> Mono.just(AdapterResult.noBid(context.bidder(), null));
+        var adapters = new java.util.LinkedHashMap<String, BidderAdapter>();
+        adapters.put("a", adapter);
+        adapters.put("b", adapter);
+        var metrics = new MetricsCollector(registry);
+        adapterRegistry = new AdapterRegistry(adapters, applicationAdapters, new AdapterCircuitBreakers(metrics));
+        var properties = new EngineReloadProperties();
+        properties.setFile(file.toString());
+        return new RoutingConfigStore(properties, applicationRules, applicationAdapters, evaluator, adapterRegistry,
+                metrics, new StandardEnvironment());
+    }
+
+    private Path write(String content) throws Exception {
+        var file = dir.resolve("routing.yml");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private List<String> activeNames() {
+        return adapterRegistry.activeAdapters().stream().map(AdapterRegistry.AdapterEntry::name).toList();
+    }
+
+    private NormalizedBidRequest request(InventoryType inventoryType) {
+        return new NormalizedBidRequest(
+                "req-1",
+                List.of(new NormalizedImp("1", ImpType.BANNER, 1.0, Map.of())),
+                inventoryType,
+                100,
+                null,
+                Map.of(),
+                Map.of(),
+                null,
+                null,
+                null
+        );
+    }
+}
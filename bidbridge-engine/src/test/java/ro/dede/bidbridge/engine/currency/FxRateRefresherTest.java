@@ -0,0 +1,38 @@
+package ro.dede.bidbridge.engine.currency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FxRateRefresherTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void installsFileRatesAndKeepsThemWhenTheFileBreaks() throws Exception {
+        var file = directory.resolve("fx.properties");
+        Files.writeString(file, "EUR=1.10\nRON=0.25\n");
+        var properties = new CurrencyProperties();
+        properties.setRatesFile(file.toString());
+        var converter = new CurrencyConverter(properties);
+        var registry = new SimpleMeterRegistry();
+        var refresher = new FxRateRefresher(properties, converter, new MetricsCollector(registry));
+
+        assertTrue(Double.isNaN(converter.rates().toAuction(1.0, "EUR")));
+        assertTrue(refresher.refresh());
+        assertEquals(1.10, converter.rates().toAuction(1.0, "EUR"), 1e-9);
+
+        Files.writeString(file, "EUR=-1\n");
+        assertFalse(refresher.refresh());
+        assertEquals(1.10, converter.rates().toAuction(1.0, "EUR"), 1e-9);
+        assertEquals(1.0, registry.counter(MetricsCollector.METRIC_FX_REFRESH_TOTAL,
+                MetricsCollector.TAG_RESULT, FxRateRefresher.RESULT_FAILURE).count());
+    }
+}
@@ -0,0 +1,42 @@
+package ro.dede.bidbridge.engine.currency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FxRatesTest {
+
+    @Test
+    void convertsIntoAuctionCurrency() {
+        var rates = FxRates.of("eur", Map.of("USD", 0.9, "RON", 0.2));
+
+        assertEquals("EUR", rates.auctionCurrency());
+        assertEquals(3, rates.size());
+        assertEquals(2.0, rates.toAuction(2.0, "EUR"));
+        assertEquals(0.9, rates.toAuction(1.0, "usd"), 1e-9);
+        assertEquals(1.0, rates.toAuction(5.0, "RON"), 1e-9);
+        // Missing currency defaults to USD.
+        assertEquals(0.9, rates.toAuction(1.0, null), 1e-9);
+    }
+
+    @Test
+    void unknownOrMalformedCodesDoNotConvert() {
+        var rates = FxRates.of("USD", Map.of("EUR", 1.08));
+
+        assertTrue(Double.isNaN(rates.toAuction(1.0, "GBP")));
+        assertTrue(Double.isNaN(rates.toAuction(1.0, "EURO")));
+        assertTrue(Double.isNaN(rates.toAuction(1.0, "E1R")));
+        assertTrue(Double.isNaN(rates.toAuction(1.0, "")));
+    }
+
+    @Test
+    void rejectsInvalidTables() {
+        assertThrows(IllegalArgumentException.class, () -> FxRates.of("USD", Map.of("EUR", 0.0)));
+        assertThrows(IllegalArgumentException.class, () -> FxRates.of("USD", Map.of("EURO", 1.0)));
+        assertThrows(IllegalArgumentException.class, () -> FxRates.of("DOLLAR", Map.of()));
+        // Floors and bids without a currency are in USD, so another auction currency needs a USD rate.
+        assertThrows(IllegalArgumentException.class, () -> FxRates.of("EUR", Map.of("RON", 0.2)));
+    }
+}
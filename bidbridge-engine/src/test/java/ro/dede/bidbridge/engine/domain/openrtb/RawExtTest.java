@@ -0,0 +1,107 @@
+package ro.dede.bidbridge.engine.domain.openrtb;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RawExtTest {
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    @Test
+    void serializesSliceVerbatimWithoutParsing() {
+        var source = "xx{\"b\": 2, \"a\":{\"k\" : [1,2]}}yy".getBytes(StandardCharsets.UTF_8);
+        var ext = new RawExt(source, 2, source.length - 4);
+
+        var json = mapper.writeValueAsString(new Regs(ext));
+
+        assertEquals("{\"ext\":{\"b\": 2, \"a\":{\"k\" : [1,2]}}}", json);
+        assertFalse(ext.isExpanded());
+    }
+
+    @Test
+    void expandsOnFirstReadAndStaysVerbatim() {
+        var ext = RawExt.of("{\"gdpr\":1}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(1, ext.get("gdpr"));
+        assertEquals(Map.of("gdpr", 1), ext);
+        assertTrue(ext.isExpanded());
+        assertEquals("{\"ext\":{\"gdpr\":1}}", mapper.writeValueAsString(new User(ext)));
+    }
+
+    @Test
+    void writesRawBytesToStream() throws Exception {
+        var ext = RawExt.of("{\"a\":\"é\"}".getBytes(StandardCharsets.UTF_8));
+        var out = new ByteArrayOutputStream();
+
+        ext.writeTo(out);
+
+        assertEquals("{\"a\":\"é\"}", out.toString(StandardCharsets.UTF_8));
+        assertEquals("{\"ext\":{\"a\":\"é\"}}", mapper.writeValueAsString(new Site(ext)));
+    }
+
+    @Test
+    void quotedFormsEscapeTheSliceAsAJsonString() throws Exception {
+        var source = "xx{\"a\":\"é\"}yy".getBytes(StandardCharsets.UTF_8);
+        var raw = new RawExt(source, 2, source.length - 4).rawValue();
+        var expected = "{\\\"a\\\":\\\"é\\\"}";
+        var expectedBytes = expected.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(expected, new String(raw.asQuotedChars()));
+        assertArrayEquals(expectedBytes, raw.asQuotedUTF8());
+
+        var chars = new char[32];
+        assertEquals(expected.length(), raw.appendQuoted(chars, 1));
+        assertEquals(expected, new String(chars, 1, expected.length()));
+        assertEquals(-1, raw.appendQuoted(new char[4], 0));
+
+        var bytes = new byte[32];
+        assertEquals(expectedBytes.length, raw.appendQuotedUTF8(bytes, 2));
+        assertArrayEquals(expectedBytes, Arrays.copyOfRange(bytes, 2, 2 + expectedBytes.length));
+        assertEquals(-1, raw.appendQuotedUTF8(new byte[4], 0));
+
+        var out = new ByteArrayOutputStream();
+        assertEquals(expectedBytes.length, raw.writeQuotedUTF8(out));
+        assertArrayEquals(expectedBytes, out.toByteArray());
+
+        var buffer = ByteBuffer.allocate(32);
+        assertEquals(expectedBytes.length, raw.putQuotedUTF8(buffer));
+        assertArrayEquals(expectedBytes, Arrays.copyOf(buffer.array(), buffer.position()));
+        assertEquals(-1, raw.putQuotedUTF8(ByteBuffer.allocate(4)));
+    }
+
+    @Test
+    void writesAsAStringValueThroughCharAndByteGenerators() {
+        var raw = RawExt.of("{\"k\":\"v\"}".getBytes(StandardCharsets.UTF_8)).rawValue();
+        var expected = "{\"ext\":\"{\\\"k\\\":\\\"v\\\"}\"}";
+
+        var chars = new StringWriter();
+        try (var gen = mapper.createGenerator(chars)) {
+            writeAsString(gen, raw);
+        }
+        var bytes = new ByteArrayOutputStream();
+        try (var gen = mapper.createGenerator(bytes)) {
+            writeAsString(gen, raw);
+        }
+
+        assertEquals(expected, chars.toString());
+        assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    private static void writeAsString(JsonGenerator gen, SerializableString value) {
+        gen.writeStartObject();
+        gen.writeName("ext");
+        gen.writeString(value);
+        gen.writeEndObject();
+    }
+}
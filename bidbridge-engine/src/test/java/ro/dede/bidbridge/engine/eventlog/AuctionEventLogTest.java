@@ -0,0 +1,226 @@
+package ro.dede.bidbridge.engine.eventlog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ro.dede.bidbridge.engine.currency.FxRates;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
+import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
+import ro.dede.bidbridge.engine.domain.adapter.SelectedBid;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.observability.RequestOutcome;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionEventLogTest {
+
+    private static final FxRates RATES = FxRates.of("USD", Map.of("EUR", 1.5));
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesRecordsThatTheReaderDumpsAsJsonLines() throws Exception {
+        var log = eventLog(64L * 1024 * 1024, 16);
+        log.start();
+        log.record("req-1", "ssp-a", List.of(
+                AdapterResult.bid("simulator", new SelectedBid("b1", "1", 1.25, "<a/>", "USD"), null)
+                        .withLatencyMs(12),
+                AdapterResult.timeout("slow")), RATES, 40, 1.25, RequestOutcome.BID);
+        log.record("req-2", null, List.of(), RATES, 5, 0.0, RequestOutcome.NO_BID_NO_FILL);
+        log.stop();
+
+        var records = readAll();
+        assertEquals(2, records.size());
+        var first = records.getFirst();
+        assertEquals("req-1", first.get("requestId").asString());
+        assertEquals("ssp-a", first.get("caller").asString());
+        assertEquals("bid", first.get("outcome").asString());
+        assertEquals(40, first.get("latencyMs").asInt());
+        assertEquals(1.25, first.get("winningPrice").asDouble());
+        assertEquals(2, first.get("adapters").size());
+        assertEquals("simulator", first.get("adapters").get(0).get("adapter").asString());
+        assertEquals("BID", first.get("adapters").get(0).get("status").asString());
+        assertEquals(12, first.get("adapters").get(0).get("latencyMs").asInt());
+        assertEquals("TIMEOUT", first.get("adapters").get(1).get("status").asString());
+        assertEquals(-1, first.get("adapters").get(1).get("latencyMs").asInt());
+
+        var second = records.get(1);
+        assertEquals("req-2", second.get("requestId").asString());
+        assertEquals("", second.get("caller").asString());
+        assertEquals("nobid_no_fill", second.get("outcome").asString());
+        assertEquals(2.0, registry.get(MetricsCollector.METRIC_AUCTION_LOG_RECORDS_TOTAL)
+                .tag(MetricsCollector.TAG_RESULT, "written").functionCounter().count());
+    }
+
+    @Test
+    void logsAdapterPricesInTheAuctionCurrency() throws Exception {
+        var log = eventLog(64L * 1024 * 1024, 16);
+        log.start();
+        log.record("req-1", "ssp", List.of(
+                AdapterResult.bid("eur", new SelectedBid("b1", "1", 2.0, "<a/>", "EUR"), null),
+                AdapterResult.bid("xyz", new SelectedBid("b2", "1", 9.0, "<a/>", "XYZ"), null),
+                AdapterResult.noBid("none", null)), RATES, 10, 3.0, RequestOutcome.BID);
+        log.stop();
+
+        var adapters = readAll().getFirst().get("adapters");
+        assertEquals(3.0, adapters.get(0).get("price").asDouble());
+        assertEquals(-1.0, adapters.get(1).get("price").asDouble());
+        assertEquals(0.0, adapters.get(2).get("price").asDouble());
+    }
+
+    @Test
+    void dropsRecordsItCannotEncodeWithoutStallingTheWriter() throws Exception {
+        var log = eventLog(64L * 1024 * 1024, 16);
+        log.start();
+        log.record("req-1", "ssp", List.of(), RATES, 1, 0.0, null);
+        log.record("req-2", "ssp", List.of(new AdapterResult("a", null, null, null, null)), RATES, 1, 0.0,
+                RequestOutcome.NO_BID_NO_FILL);
+        log.record("req-3", "ssp", List.of(new AdapterResult("a", AdapterResultStatus.NO_BID, null, null, null)),
+                RATES, 1, 0.0, RequestOutcome.NO_BID_NO_FILL);
+        log.stop();
+
+        var records = readAll();
+        assertEquals(1, records.size());
+        assertEquals("req-3", records.getFirst().get("requestId").asString());
+        assertEquals(2.0, registry.get(MetricsCollector.METRIC_AUCTION_LOG_RECORDS_TOTAL)
+                .tag(MetricsCollector.TAG_RESULT, "dropped").functionCounter().count());
+    }
+
+    @Test
+    void countsRecordsAsDroppedOnceTheWriterHasFailed() throws Exception {
+        // A regular file where the segment directory should be: the first append fails and the writer dies.
+        var properties = properties(64L * 1024 * 1024, 16);
+        properties.setDirectory(Files.createFile(directory.resolve("not-a-directory")).toString());
+        var log = new AuctionEventLog(properties, new MetricsCollector(registry));
+        log.start();
+        log.record("req-1", "ssp", List.of(), RATES, 1, 0.0, RequestOutcome.BID);
+        log.stop();
+        log.record("req-2", "ssp", List.of(), RATES, 1, 0.0, RequestOutcome.BID);
+        log.record("req-3", "ssp", List.of(), RATES, 1, 0.0, RequestOutcome.BID);
+
+        assertEquals(0.0, registry.get(MetricsCollector.METRIC_AUCTION_LOG_RECORDS_TOTAL)
+                .tag(MetricsCollector.TAG_RESULT, "written").functionCounter().count());
+        assertEquals(3.0, registry.get(MetricsCollector.METRIC_AUCTION_LOG_RECORDS_TOTAL)
+                .tag(MetricsCollector.TAG_RESULT, "dropped").functionCounter().count());
+    }
+
+    @Test
+    void stopsRecordingSilentlyAfterShutdown() throws Exception {
+        var log = eventLog(64L * 1024 * 1024, 16);
+        log.start();
+        log.stop();
+        log.record("req-1", "ssp", List.of(), RATES, 1, 0.0, RequestOutcome.BID);
+
+        assertTrue(readAll().isEmpty());
+        assertEquals(0.0, registry.get(MetricsCollector.METRIC_AUCTION_LOG_RECORDS_TOTAL)
+                .tag(MetricsCollector.TAG_RESULT, "dropped").functionCounter().count());
+    }
+
+    @Test
+    void rotatesSegmentsAndDeletesTheOldest() throws Exception {
+        // Header plus two records per segment; ten records need five segments, of which three are kept.
+        var log = eventLog(AuctionRecordLayout.HEADER_SIZE + 2L * AuctionRecordLayout.RECORD_SIZE, 3);
+        log.start();
+        for (var i = 0; i < 10; i++) {
+            log.record("req-" + i, "ssp", List.of(), RATES, 1, 0.0, RequestOutcome.NO_BID_NO_FILL);
+        }
+        log.stop();
+
+        assertEquals(3, SegmentWriter.segments(directory).size());
+        var records = readAll();
+        assertEquals(6, records.size());
+        assertEquals("req-4", records.getFirst().get("requestId").asString());
+        assertEquals("req-9", records.getLast().get("requestId").asString());
+    }
+
+    @Test
+    void truncatesFieldsThatDoNotFitTheLayout() throws Exception {
+        var log = eventLog(64L * 1024 * 1024, 16);
+        log.start();
+        var longId = "x".repeat(100);
+        log.record(longId, "caller-é", List.of(), RATES, 1, 0.0, RequestOutcome.ERROR);
+        log.stop();
+
+        var record = readAll().getFirst();
+        assertTrue(longId.startsWith(record.get("requestId").asString()));
+        assertTrue(record.get("requestId").asString().length() < longId.length());
+        assertEquals("caller-?", record.get("caller").asString());
+        assertEquals("error", record.get("outcome").asString());
+    }
+
+    @Test
+    void readerReportsUnknownOrdinalsAsTheyAre() throws Exception {
+        var log = eventLog(64L * 1024 * 1024, 16);
+        log.start();
+        log.record("req-1", "ssp", List.of(AdapterResult.timeout("slow")), RATES, 1, 0.0, RequestOutcome.BID);
+        log.stop();
+        var segment = SegmentWriter.segments(directory).getFirst();
+        try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            var base = AuctionRecordLayout.HEADER_SIZE;
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 200}), base + AuctionRecordLayout.OUTCOME);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 7}),
+                    base + AuctionRecordLayout.ADAPTERS + AuctionRecordLayout.ADAPTER_STATUS);
+        }
+
+        var record = readAll().getFirst();
+        assertEquals("unknown(200)", record.get("outcome").asString());
+        assertEquals("unknown(7)", record.get("adapters").get(0).get("status").asString());
+    }
+
+    @Test
+    void disabledLogIgnoresRecords() throws Exception {
+        var properties = new AuctionLogProperties();
+        properties.setDirectory(directory.toString());
+        var log = new AuctionEventLog(properties, new MetricsCollector(registry));
+        log.start();
+        log.record("req-1", "ssp", List.of(), RATES, 1, 0.0, RequestOutcome.BID);
+        log.stop();
+
+        assertFalse(log.isEnabled());
+        assertTrue(SegmentWriter.segments(directory).isEmpty());
+    }
+
+    private AuctionEventLog eventLog(long segmentBytes, int maxSegments) {
+        return new AuctionEventLog(properties(segmentBytes, maxSegments), new MetricsCollector(registry));
+    }
+
+    private AuctionLogProperties properties(long segmentBytes, int maxSegments) {
+        var properties = new AuctionLogProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setSegmentBytes(segmentBytes);
+        properties.setMaxSegments(maxSegments);
+        properties.setRingSize(16);
+        return properties;
+    }
+
+    private List<JsonNode> readAll() throws Exception {
+        var out = new StringWriter();
+        for (var segment : SegmentWriter.segments(directory)) {
+            AuctionLogReader.dump(segment, out);
+        }
+        var records = new ArrayList<JsonNode>();
+        for (var line : out.toString().split("\n")) {
+            if (!line.isBlank()) {
+                records.add(mapper.readTree(line));
+            }
+        }
+        return records;
+    }
+}
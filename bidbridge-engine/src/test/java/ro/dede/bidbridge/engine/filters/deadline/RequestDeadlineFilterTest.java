@@ -0,0 +1,57 @@
+package ro.dede.bidbridge.engine.filters.deadline;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.service.RequestDeadline;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestDeadlineFilterTest {
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter();
+
+    @Test
+    void carriesArrivalTimeInReactorContext() {
+        var before = System.nanoTime();
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/openrtb2/bid").build());
+        var seen = new AtomicReference<RequestDeadline>();
+
+        filter.filter(exchange, ex -> Mono.deferContextual(context -> {
+            seen.set(RequestDeadline.from(context));
+            return Mono.<Void>empty();
+        })).block();
+
+        assertNotNull(seen.get());
+        assertSame(seen.get(), exchange.getAttribute(RequestDeadlineFilter.ATTR_REQUEST_DEADLINE));
+        assertTrue(seen.get().arrivalNanos() >= before);
+    }
+
+    @Test
+    void fixesDeadlineOnceFromArrival() {
+        var deadline = new RequestDeadline(0);
+
+        deadline.start(100);
+        deadline.start(500);
+
+        assertEquals(100, deadline.remainingMs(0));
+        assertEquals(40, deadline.remainingMs(60_000_000L));
+        assertEquals(-1, deadline.remainingMs(100_500_000L));
+    }
+
+    @Test
+    void skipsNonOpenRtbPaths() {
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health").build());
+        var seen = new AtomicReference<RequestDeadline>();
+
+        filter.filter(exchange, ex -> Mono.deferContextual(context -> {
+            seen.set(RequestDeadline.from(context));
+            return Mono.<Void>empty();
+        })).block();
+
+        assertNull(seen.get());
+    }
+}
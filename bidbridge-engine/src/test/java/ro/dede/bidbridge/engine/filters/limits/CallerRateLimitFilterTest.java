@@ -0,0 +1,97 @@
+package ro.dede.bidbridge.engine.filters.limits;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import ro.dede.bidbridge.engine.config.EngineLimitsProperties;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallerRateLimitFilterTest {
+
+    private final AtomicLong nanos = new AtomicLong(-1_000_000_000L);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsCallerOverItsLimitWithRetryAfter() {
+        var properties = rateLimited();
+        properties.getRateLimit().getCallers().put("ssp-a", 2);
+        var filter = new CallerRateLimitFilter(properties, new MetricsCollector(registry), nanos::get);
+
+        // 2 QPS with 1s of burst: two requests pass, the third waits half a second.
+        assertNull(send(filter, "ssp-a").getResponse().getStatusCode());
+        assertNull(send(filter, "ssp-a").getResponse().getStatusCode());
+        var rejected = send(filter, "ssp-a");
+
+        assertEquals(429, rejected.getResponse().getStatusCode().value());
+        assertEquals("1", rejected.getResponse().getHeaders().getFirst("Retry-After"));
+        assertEquals(1.0, registry.get(MetricsCollector.METRIC_ENGINE_RATE_LIMITED_TOTAL)
+                .tag(MetricsCollector.TAG_CALLER, "ssp-a").counter().count());
+        assertEquals(1.0, registry.get(MetricsCollector.METRIC_ENGINE_REJECTED_TOTAL)
+                .tag(MetricsCollector.TAG_REASON, MetricsCollector.REASON_RATE_LIMIT).counter().count());
+
+        nanos.addAndGet(500_000_000L);
+        assertNull(send(filter, "ssp-a").getResponse().getStatusCode());
+    }
+
+    @Test
+    void leavesCallersWithoutLimitUntracked() {
+        var properties = rateLimited();
+        properties.getRateLimit().getCallers().put("ssp-a", 1);
+        var filter = new CallerRateLimitFilter(properties, new MetricsCollector(registry), nanos::get);
+
+        for (var i = 0; i < 100; i++) {
+            assertNull(send(filter, "ssp-b").getResponse().getStatusCode());
+        }
+    }
+
+    @Test
+    void evictsIdleCallersAndCapsTrackedCallers() {
+        var config = rateLimited().getRateLimit();
+        config.setDefaultQps(10);
+        config.setMaxCallers(2);
+        config.setIdleEvictMs(1_000);
+        var limiter = new CallerRateLimiter(config, nanos.get());
+
+        assertEquals(0, limiter.tryAcquire("a", nanos.get()));
+        assertEquals(0, limiter.tryAcquire("b", nanos.get()));
+        // Third caller lands in the shared bucket instead of growing the map.
+        assertEquals(0, limiter.tryAcquire("c", nanos.get()));
+        assertEquals(3, limiter.trackedCallers());
+        assertEquals(0, limiter.tryAcquire("d", nanos.get()));
+        assertEquals(3, limiter.trackedCallers());
+
+        nanos.addAndGet(2_000_000_000L);
+        assertEquals(0, limiter.tryAcquire("a", nanos.get()));
+        assertEquals(1, limiter.trackedCallers());
+    }
+
+    @Test
+    void passesEverythingWhenDisabled() {
+        var properties = new EngineLimitsProperties();
+        properties.getRateLimit().getCallers().put("ssp-a", 1);
+        var filter = new CallerRateLimitFilter(properties, new MetricsCollector(registry), nanos::get);
+
+        for (var i = 0; i < 10; i++) {
+            assertNull(send(filter, "ssp-a").getResponse().getStatusCode());
+        }
+    }
+
+    private MockServerWebExchange send(CallerRateLimitFilter filter, String caller) {
+        var exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/openrtb2/bid").header("X-Caller", caller).build());
+        filter.filter(exchange, ex -> Mono.empty()).block();
+        return exchange;
+    }
+
+    private EngineLimitsProperties rateLimited() {
+        var properties = new EngineLimitsProperties();
+        properties.getRateLimit().setEnabled(true);
+        return properties;
+    }
+}
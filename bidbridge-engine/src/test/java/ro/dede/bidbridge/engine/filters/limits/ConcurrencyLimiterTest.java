@@ -0,0 +1,115 @@
+package ro.dede.bidbridge.engine.filters.limits;
+
+import org.junit.jupiter.api.Test;
+import ro.dede.bidbridge.engine.config.EngineLimitsProperties;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void staticModeBehavesLikeAFixedCap() {
+        var properties = new EngineLimitsProperties();
+        properties.setMaxInFlight(2);
+        var limiter = new ConcurrencyLimiter(properties, nanos::get);
+
+        var first = limiter.tryAcquire();
+        assertNotEquals(ConcurrencyLimiter.REJECTED, first);
+        assertNotEquals(ConcurrencyLimiter.REJECTED, limiter.tryAcquire());
+        assertEquals(ConcurrencyLimiter.REJECTED, limiter.tryAcquire());
+
+        limiter.release(first, true);
+        assertEquals(1, limiter.inFlight());
+        assertNotEquals(ConcurrencyLimiter.REJECTED, limiter.tryAcquire());
+        assertEquals(2, limiter.limit());
+    }
+
+    @Test
+    void negativeClockReadingsAreValidPermits() {
+        nanos.set(-5_000_000_000L);
+        var properties = adaptive();
+        properties.setMaxInFlight(1);
+        properties.getAdaptive().setMinLimit(1);
+        properties.getAdaptive().setInitialLimit(1);
+        var limiter = new ConcurrencyLimiter(properties, nanos::get);
+
+        var permit = limiter.tryAcquire();
+        assertEquals(-5_000_000_000L, permit);
+        assertEquals(ConcurrencyLimiter.REJECTED, limiter.tryAcquire());
+
+        limiter.release(permit, true);
+        assertEquals(0, limiter.inFlight());
+        assertNotEquals(ConcurrencyLimiter.REJECTED, limiter.tryAcquire());
+    }
+
+    @Test
+    void growsWhileLatencyIsUnderTargetAndLimitIsUsed() {
+        var limiter = new ConcurrencyLimiter(adaptive(), nanos::get);
+        assertEquals(100, limiter.limit());
+
+        runWindow(limiter, 60, 20);
+
+        assertEquals(110, limiter.limit());
+    }
+
+    @Test
+    void holdsWhenLimitIsNotUsed() {
+        var limiter = new ConcurrencyLimiter(adaptive(), nanos::get);
+
+        runWindow(limiter, 10, 20);
+
+        assertEquals(100, limiter.limit());
+    }
+
+    @Test
+    void shrinksInProportionToLatencyOverTarget() {
+        var limiter = new ConcurrencyLimiter(adaptive(), nanos::get);
+
+        runWindow(limiter, 60, 125);
+        assertEquals(80, limiter.limit());
+
+        runWindow(limiter, 60, 1_000);
+        assertEquals(40, limiter.limit());
+
+        // Halving at most per window, and never below minLimit.
+        runWindow(limiter, 30, 5_000);
+        assertEquals(20, limiter.limit());
+        runWindow(limiter, 20, 5_000);
+        assertEquals(20, limiter.limit());
+    }
+
+    @Test
+    void neverExceedsMaxInFlight() {
+        var properties = adaptive();
+        properties.setMaxInFlight(105);
+        var limiter = new ConcurrencyLimiter(properties, nanos::get);
+
+        runWindow(limiter, 60, 20);
+
+        assertEquals(105, limiter.limit());
+    }
+
+    // Holds `concurrent` permits at once and releases them with `latencyMs`; the last release closes the window.
+    private void runWindow(ConcurrencyLimiter limiter, int concurrent, long latencyMs) {
+        for (var i = 0; i < concurrent; i++) {
+            assertNotEquals(ConcurrencyLimiter.REJECTED, limiter.tryAcquire());
+        }
+        for (var i = 0; i < concurrent; i++) {
+            if (i == concurrent - 1) {
+                nanos.addAndGet(250_000_000L);
+            }
+            limiter.release(nanos.get() - latencyMs * 1_000_000L, true);
+        }
+    }
+
+    private EngineLimitsProperties adaptive() {
+        var properties = new EngineLimitsProperties();
+        properties.setMaxInFlight(500);
+        properties.getAdaptive().setEnabled(true);
+        return properties;
+    }
+}
@@ -10,6 +10,7 @@ import reactor.core.publisher.Mono;
 import ro.dede.bidbridge.engine.config.EngineLimitsProperties;
 import ro.dede.bidbridge.engine.observability.MetricsCollector;
 
+import java.util.ArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -85,6 +86,70 @@ class InFlightLimitFilterTest {
         }
     }
 
+    @Test
+    void shedsLowPriorityCallersBeforePremiumOnes() {
+        var properties = new EngineLimitsProperties();
+        properties.setMaxInFlight(4);
+        var priority = properties.getPriority();
+        priority.setEnabled(true);
+        priority.getCallers().put("premium-ssp", "premium");
+        priority.getCallers().put("bursty-ssp", "low");
+        priority.getClasses().put("low", 0.5);
+        var registry = new SimpleMeterRegistry();
+        var filter = new InFlightLimitFilter(properties, new MetricsCollector(registry));
+
+        var held = new ArrayList<Disposable>();
+        try {
+            // Low priority may only fill half of the limit.
+            for (var i = 0; i < 2; i++) {
+                held.add(filter.filter(bidExchange("bursty-ssp"), exchange -> Mono.never()).subscribe());
+            }
+            var rejected = bidExchange("bursty-ssp");
+            filter.filter(rejected, exchange -> Mono.empty()).block();
+            assertEquals(429, rejected.getResponse().getStatusCode().value());
+
+            var premiumCalled = new AtomicBoolean(false);
+            filter.filter(bidExchange("premium-ssp"), exchange -> {
+                premiumCalled.set(true);
+                return Mono.empty();
+            }).block();
+            assertTrue(premiumCalled.get());
+
+            assertEquals(1.0, registry.get(MetricsCollector.METRIC_ENGINE_ADMISSION_TOTAL)
+                    .tags(MetricsCollector.TAG_CALLER, "bursty-ssp", MetricsCollector.TAG_PRIORITY, "low",
+                            MetricsCollector.TAG_RESULT, "rejected")
+                    .counter().count());
+            assertEquals(1.0, registry.get(MetricsCollector.METRIC_ENGINE_ADMISSION_TOTAL)
+                    .tags(MetricsCollector.TAG_CALLER, "premium-ssp", MetricsCollector.TAG_PRIORITY, "premium",
+                            MetricsCollector.TAG_RESULT, "admitted")
+                    .counter().count());
+        } finally {
+            held.forEach(Disposable::dispose);
+        }
+    }
+
+    @Test
+    void unknownCallersUseTheDefaultClass() {
+        var properties = new EngineLimitsProperties();
+        properties.setMaxInFlight(10);
+        properties.getPriority().setEnabled(true);
+        var registry = new SimpleMeterRegistry();
+        var filter = new InFlightLimitFilter(properties, new MetricsCollector(registry));
+
+        filter.filter(bidExchange("someone"), exchange -> Mono.empty()).block();
+
+        assertEquals(1.0, registry.get(MetricsCollector.METRIC_ENGINE_ADMISSION_TOTAL)
+                .tags(MetricsCollector.TAG_CALLER, "other", MetricsCollector.TAG_PRIORITY, "standard",
+                        MetricsCollector.TAG_RESULT, "admitted")
+                .counter().count());
+    }
+
+    private MockServerWebExchange bidExchange(String caller) {
+        return MockServerWebExchange.from(
+                MockServerHttpRequest.post("/openrtb2/bid").header("X-Caller", caller).build()
+        );
+    }
+
     @Test
     void skipsNonOpenRtbPaths() {
         var properties = new EngineLimitsProperties();
@@ -0,0 +1,55 @@
+package ro.dede.bidbridge.engine.merger;
+
+import org.junit.jupiter.api.Test;
+import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionStrategiesTest {
+
+    @Test
+    void resolvesCallerBeforeInventoryBeforeDefault() {
+        var properties = new AuctionProperties();
+        properties.getCallers().put("publisher-a", strategy(AuctionProperties.Type.SECOND_PRICE, 0.05, 0.0));
+        properties.getInventory().put(InventoryType.APP, strategy(AuctionProperties.Type.SOFT_FLOOR, 0.01, 2.0));
+        var strategies = new AuctionStrategies(properties);
+
+        assertEquals(new AuctionStrategy.SecondPrice(0.05), strategies.resolve("publisher-a", InventoryType.APP));
+        assertEquals(new AuctionStrategy.SoftFloor(2.0, 0.01), strategies.resolve("publisher-b", InventoryType.APP));
+        assertSame(AuctionStrategy.FIRST_PRICE, strategies.resolve(null, InventoryType.SITE));
+    }
+
+    @Test
+    void rejectsNegativeIncrement() {
+        var properties = new AuctionProperties();
+        properties.setDefaultStrategy(strategy(AuctionProperties.Type.SECOND_PRICE, -0.01, 0.0));
+
+        assertThrows(IllegalStateException.class, () -> new AuctionStrategies(properties));
+    }
+
+    @Test
+    void pricesWinnerFromTopTwoBids() {
+        var secondPrice = new AuctionStrategy.SecondPrice(0.01);
+        assertEquals(2.01, secondPrice.clearingPrice(3.0, 2.0, 0.5), 1e-9);
+        // Floor above the runner-up, and no runner-up at all.
+        assertEquals(2.51, secondPrice.clearingPrice(3.0, 2.0, 2.5), 1e-9);
+        assertEquals(0.01, secondPrice.clearingPrice(3.0, 0.0, 0.0), 1e-9);
+        // Never above the winning bid.
+        assertEquals(3.0, secondPrice.clearingPrice(3.0, 3.0, 0.0), 1e-9);
+
+        var softFloor = new AuctionStrategy.SoftFloor(2.0, 0.01);
+        assertEquals(1.5, softFloor.clearingPrice(1.5, 1.0, 0.5), 1e-9);
+        assertEquals(2.01, softFloor.clearingPrice(4.0, 1.0, 0.5), 1e-9);
+        assertEquals(3.01, softFloor.clearingPrice(4.0, 3.0, 0.5), 1e-9);
+    }
+
+    private static AuctionProperties.StrategyConfig strategy(AuctionProperties.Type type,
+                                                             double increment,
+                                                             double softFloor) {
+        var config = new AuctionProperties.StrategyConfig();
+        config.setType(type);
+        config.setIncrement(increment);
+        config.setSoftFloor(softFloor);
+        return config;
+    }
+}
@@ -1,6 +1,9 @@
 package ro.dede.bidbridge.engine.merger;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import ro.dede.bidbridge.engine.currency.CurrencyConverter;
+import ro.dede.bidbridge.engine.currency.CurrencyProperties;
 import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
 import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
 import ro.dede.bidbridge.engine.domain.adapter.SelectedBid;
@@ -9,9 +12,12 @@ import ro.dede.bidbridge.engine.domain.normalized.InventoryType;
 import ro.dede.bidbridge.engine.domain.normalized.NormalizedBidRequest;
 import ro.dede.bidbridge.engine.domain.normalized.NormalizedDevice;
 import ro.dede.bidbridge.engine.domain.normalized.NormalizedImp;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.observability.RequestLoggingFilter;
 import ro.dede.bidbridge.engine.service.AdapterFailureException;
 import ro.dede.bidbridge.engine.service.OverloadException;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -21,7 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DefaultResponseMergerTest {
 
-    private final DefaultResponseMerger merger = new DefaultResponseMerger();
+    private final DefaultResponseMerger merger = merger(new CurrencyProperties(), new AuctionProperties());
 
     @Test
     void selectsHighestBid() {
@@ -36,6 +42,109 @@ class DefaultResponseMergerTest {
         assertEquals("b2", response.seatbid().getFirst().bid().getFirst().id());
     }
 
+    @Test
+    void selectsWinnerPerImpAndGroupsBySeat() {
+        var results = List.of(
+                AdapterResult.bids("a", List.of(
+                        new SelectedBid("a1", "1", 1.0, "<a1/>", "USD"),
+                        new SelectedBid("a2", "2", 3.0, "<a2/>", "USD"),
+                        new SelectedBid("a3", "3", 0.5, "<a3/>", "USD")), null),
+                AdapterResult.bids("b", List.of(
+                        new SelectedBid("b1", "1", 2.0, "<b1/>", "USD"),
+                        new SelectedBid("b3", "3", 0.5, "<b3/>", "USD"),
+                        new SelectedBid("bx", "unknown", 9.0, "<bx/>", "USD")), null)
+        );
+
+        var response = merger.merge(multiImpRequest("1", "2", "3"), results).block();
+
+        assertNotNull(response);
+        // Seats follow the order of the first imp they win.
+        assertEquals(2, response.seatbid().size());
+        var seatB = response.seatbid().get(0);
+        assertEquals("b", seatB.seat());
+        assertEquals(List.of("b1"), seatB.bid().stream().map(bid -> bid.id()).toList());
+        var seatA = response.seatbid().get(1);
+        assertEquals("a", seatA.seat());
+        // Ties keep the first adapter's bid.
+        assertEquals(List.of("a2", "a3"), seatA.bid().stream().map(bid -> bid.id()).toList());
+    }
+
+    @Test
+    void comparesBidsInAuctionCurrencyAndDropsBidsUnderFloor() {
+        var properties = new CurrencyProperties();
+        properties.getRates().put("EUR", 1.1);
+        properties.getRates().put("RON", 0.2);
+        var registry = new SimpleMeterRegistry();
+        var converting = new DefaultResponseMerger(new CurrencyConverter(properties), new MetricsCollector(registry),
+                new AuctionStrategies(new AuctionProperties()));
+        var results = List.of(
+                AdapterResult.bid("a", new SelectedBid("a1", "1", 2.0, "<a/>", "USD"), null),
+                AdapterResult.bid("b", new SelectedBid("b1", "1", 2.0, "<b/>", "EUR"), null),
+                // 4 RON is 0.8 USD, under the 1.0 floor.
+                AdapterResult.bid("c", new SelectedBid("c1", "1", 4.0, "<c/>", "RON"), null),
+                AdapterResult.bid("d", new SelectedBid("d1", "1", 9.0, "<d/>", "XYZ"), null)
+        );
+
+        var response = converting.merge(sampleRequest(), results).block();
+
+        assertNotNull(response);
+        assertEquals("USD", response.cur());
+        var bid = response.seatbid().getFirst().bid().getFirst();
+        assertEquals("b1", bid.id());
+        assertEquals(2.2, bid.price(), 1e-9);
+        assertEquals(1.0, registry.counter(MetricsCollector.METRIC_AUCTION_BIDS_DROPPED_TOTAL,
+                MetricsCollector.TAG_ADAPTER, "c", MetricsCollector.TAG_REASON, MetricsCollector.REASON_BELOW_FLOOR).count());
+        assertEquals(1.0, registry.counter(MetricsCollector.METRIC_AUCTION_BIDS_DROPPED_TOTAL,
+                MetricsCollector.TAG_ADAPTER, "d", MetricsCollector.TAG_REASON, MetricsCollector.REASON_UNKNOWN_CURRENCY).count());
+    }
+
+    @Test
+    void chargesSecondPricePerCaller() {
+        var properties = new AuctionProperties();
+        var secondPrice = new AuctionProperties.StrategyConfig();
+        secondPrice.setType(AuctionProperties.Type.SECOND_PRICE);
+        properties.getCallers().put("publisher-a", secondPrice);
+        var pricing = merger(new CurrencyProperties(), properties);
+        var results = List.of(
+                AdapterResult.bid("a", new SelectedBid("a1", "1", 3.0, "<a/>", "USD"), null),
+                AdapterResult.bid("b", new SelectedBid("b1", "1", 2.0, "<b/>", "USD"), null)
+        );
+
+        var secondPriced = pricing.merge(sampleRequest(), results)
+                .contextWrite(context -> context.put(RequestLoggingFilter.CALLER_ATTR, "publisher-a"))
+                .block();
+        var firstPriced = pricing.merge(sampleRequest(), results).block();
+
+        assertNotNull(secondPriced);
+        assertEquals("a1", secondPriced.seatbid().getFirst().bid().getFirst().id());
+        assertEquals(2.01, secondPriced.seatbid().getFirst().bid().getFirst().price(), 1e-9);
+        assertNotNull(firstPriced);
+        assertEquals(3.0, firstPriced.seatbid().getFirst().bid().getFirst().price());
+    }
+
+    @Test
+    void takesTheSecondPriceFromAnotherSeat() {
+        var properties = new AuctionProperties();
+        var secondPrice = new AuctionProperties.StrategyConfig();
+        secondPrice.setType(AuctionProperties.Type.SECOND_PRICE);
+        properties.setDefaultStrategy(secondPrice);
+        var pricing = merger(new CurrencyProperties(), properties);
+        // Seat a bids twice on the imp; its own 2.9 must not set the price it pays.
+        var results = List.of(
+                AdapterResult.bids("a", List.of(
+                        new SelectedBid("a1", "1", 2.9, "<a1/>", "USD"),
+                        new SelectedBid("a2", "1", 3.0, "<a2/>", "USD")), null),
+                AdapterResult.bid("b", new SelectedBid("b1", "1", 1.5, "<b/>", "USD"), null)
+        );
+
+        var response = pricing.merge(sampleRequest(), results).block();
+
+        assertNotNull(response);
+        var bid = response.seatbid().getFirst().bid().getFirst();
+        assertEquals("a2", bid.id());
+        assertEquals(1.51, bid.price(), 1e-9);
+    }
+
     @Test
     void returnsNoBidWhenNoBids() {
         var results = List.of(
@@ -80,6 +189,28 @@ class DefaultResponseMergerTest {
         assertThrows(AdapterFailureException.class, () -> merger.merge(sampleRequest(), results).block());
     }
 
+    private static DefaultResponseMerger merger(CurrencyProperties currency, AuctionProperties auction) {
+        return new DefaultResponseMerger(new CurrencyConverter(currency), new MetricsCollector(new SimpleMeterRegistry()),
+                new AuctionStrategies(auction));
+    }
+
+    private NormalizedBidRequest multiImpRequest(String... impIds) {
+        return new NormalizedBidRequest(
+                "req-1",
+                Arrays.stream(impIds)
+                        .map(id -> new NormalizedImp(id, ImpType.BANNER, 0.0, Map.of()))
+                        .toList(),
+                InventoryType.SITE,
+                100,
+                new NormalizedDevice("ua", "ip", "os", 1, Map.of()),
+                Map.of(),
+                Map.of(),
+                null,
+                null,
+                null
+        );
+    }
+
     private NormalizedBidRequest sampleRequest() {
         return new NormalizedBidRequest(
                 "req-1",
@@ -6,11 +6,14 @@ import ro.dede.bidbridge.engine.adapters.AdapterRegistry;
 import ro.dede.bidbridge.engine.adapters.BidderAdapter;
 import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
 import ro.dede.bidbridge.engine.domain.normalized.*;
+import ro.dede.bidbridge.engine.service.FilteredRequestException;
 
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultRulesEvaluatorTest {
@@ -82,6 +85,149 @@ class DefaultRulesEvaluatorTest {
         assertTrue(result.appliedRules().contains("denyAdapters"));
     }
 
+    @Test
+    void returnsSameInstancesWhenNothingIsFiltered() {
+        var props = new RulesProperties();
+        props.setMinBidfloor(0.5);
+        props.setDenyAdapters(List.of("z"));
+        var evaluator = new DefaultRulesEvaluator(props);
+        var request = sampleRequest(InventoryType.SITE);
+        var adapters = sampleAdapters("a", "b");
+
+        var result = evaluator.apply(request, adapters);
+
+        assertSame(request, result.request());
+        assertSame(adapters, result.adapters());
+        assertEquals(List.of("denyAdapters"), result.appliedRules());
+    }
+
+    @Test
+    void appliesRecompiledRulesAfterRefresh() {
+        var props = new RulesProperties();
+        var evaluator = new DefaultRulesEvaluator(props);
+        props.setDenyInventory(List.of(InventoryType.APP));
+
+        assertEquals(1, evaluator.apply(sampleRequest(InventoryType.APP), sampleAdapters("a")).adapters().size());
+
+        evaluator.refresh();
+        var ex = assertThrows(FilteredRequestException.class,
+                () -> evaluator.apply(sampleRequest(InventoryType.APP), sampleAdapters("a")));
+        assertEquals("Inventory denied", ex.getMessage());
+    }
+
+    @Test
+    void filtersAdaptersByTargeting() {
+        var props = new RulesProperties();
+        props.getTargeting().put("ios", targeting(t -> t.setOs(List.of("iOS"))));
+        props.getTargeting().put("phones", targeting(t -> t.setDeviceTypes(List.of(4))));
+        props.getTargeting().put("video", targeting(t -> t.setImpTypes(List.of(ImpType.VIDEO))));
+        props.getTargeting().put("news", targeting(t -> t.setDomains(List.of("news.example"))));
+        props.getTargeting().put("games", targeting(t -> t.setBundles(List.of("com.example.game"))));
+        var evaluator = new DefaultRulesEvaluator(props);
+        var adapters = sampleAdapters("ios", "phones", "video", "news", "games", "open");
+
+        // Banner imp on news.example from an iOS phone.
+        var site = new NormalizedBidRequest(
+                "req-1",
+                List.of(new NormalizedImp("1", ImpType.BANNER, 1.0, Map.of())),
+                InventoryType.SITE,
+                100,
+                new NormalizedDevice("ua", "ip", "ios", 4, Map.of()),
+                Map.of(), Map.of(), null, null, null,
+                "News.Example", null
+        );
+        var result = evaluator.apply(site, adapters);
+
+        // A bundle allow-list keeps the adapter on app inventory only.
+        assertEquals(List.of("ios", "phones", "news", "open"),
+                result.adapters().stream().map(AdapterRegistry.AdapterEntry::name).toList());
+        assertEquals(List.of("targeting"), result.appliedRules());
+
+        // App request without a bundle: neither the domain-only nor the bundle-only adapter matches.
+        var app = evaluator.apply(sampleRequest(InventoryType.APP), adapters);
+        assertEquals(List.of("open"), app.adapters().stream().map(AdapterRegistry.AdapterEntry::name).toList());
+    }
+
+    @Test
+    void appliesDomainAndBundleListsToTheirOwnInventoryType() {
+        var props = new RulesProperties();
+        props.getTargeting().put("both", targeting(t -> {
+            t.setDomains(List.of("news.example"));
+            t.setBundles(List.of("com.example.game"));
+        }));
+        props.getTargeting().put("games", targeting(t -> t.setBundles(List.of("com.example.game"))));
+        var evaluator = new DefaultRulesEvaluator(props);
+        var adapters = sampleAdapters("both", "games");
+
+        var app = new NormalizedBidRequest(
+                "req-1",
+                List.of(new NormalizedImp("1", ImpType.BANNER, 1.0, Map.of())),
+                InventoryType.APP,
+                100,
+                new NormalizedDevice("ua", "ip", "android", 4, Map.of()),
+                Map.of(), Map.of(), null, null, null,
+                null, "com.example.game"
+        );
+        var site = new NormalizedBidRequest(
+                "req-2",
+                List.of(new NormalizedImp("1", ImpType.BANNER, 1.0, Map.of())),
+                InventoryType.SITE,
+                100,
+                new NormalizedDevice("ua", "ip", "android", 4, Map.of()),
+                Map.of(), Map.of(), null, null, null,
+                "news.example", null
+        );
+
+        assertEquals(List.of("both", "games"),
+                evaluator.apply(app, adapters).adapters().stream().map(AdapterRegistry.AdapterEntry::name).toList());
+        assertEquals(List.of("both"),
+                evaluator.apply(site, adapters).adapters().stream().map(AdapterRegistry.AdapterEntry::name).toList());
+    }
+
+    @Test
+    void supportsMoreAdaptersThanOneMaskWord() {
+        var props = new RulesProperties();
+        var names = new java.util.ArrayList<String>();
+        for (var i = 0; i < 150; i++) {
+            var name = "dsp-" + i;
+            names.add(name);
+            // Every third adapter only bids on iOS.
+            if (i % 3 == 0) {
+                props.getTargeting().put(name, targeting(t -> t.setOs(List.of("ios"))));
+            }
+        }
+        props.setDenyAdapters(List.of("dsp-149"));
+        var evaluator = new DefaultRulesEvaluator(props);
+        var adapters = sampleAdapters(names.toArray(String[]::new));
+
+        var result = evaluator.apply(sampleRequest(InventoryType.SITE), adapters);
+
+        var expected = names.stream()
+                .filter(name -> Integer.parseInt(name.substring(4)) % 3 != 0 && !name.equals("dsp-149"))
+                .toList();
+        assertEquals(expected, result.adapters().stream().map(AdapterRegistry.AdapterEntry::name).toList());
+        assertEquals(List.of("denyAdapters", "targeting"), result.appliedRules());
+    }
+
+    @Test
+    void keepsAdapterListWhenTargetingMatchesEveryone() {
+        var props = new RulesProperties();
+        props.getTargeting().put("a", targeting(t -> t.setImpTypes(List.of(ImpType.BANNER, ImpType.VIDEO))));
+        var evaluator = new DefaultRulesEvaluator(props);
+        var adapters = sampleAdapters("a", "b");
+
+        var result = evaluator.apply(sampleRequest(InventoryType.SITE), adapters);
+
+        assertSame(adapters, result.adapters());
+        assertTrue(result.appliedRules().isEmpty());
+    }
+
+    private RulesProperties.Targeting targeting(java.util.function.Consumer<RulesProperties.Targeting> customizer) {
+        var targeting = new RulesProperties.Targeting();
+        customizer.accept(targeting);
+        return targeting;
+    }
+
     private List<AdapterRegistry.AdapterEntry> sampleAdapters(String... names) {
         BidderAdapter adapter = (request, context) -> reactor.core.publisher.Mono.just(AdapterResult.noBid(context.bidder(), null));
         var config = new AdapterProperties.AdapterConfig();
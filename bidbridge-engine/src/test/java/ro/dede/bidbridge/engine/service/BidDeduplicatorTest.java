@@ -0,0 +1,123 @@
+package ro.dede.bidbridge.engine.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import ro.dede.bidbridge.engine.domain.openrtb.BidResponse;
+import ro.dede.bidbridge.engine.observability.MetricsCollector;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidDeduplicatorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void concurrentDuplicatesShareOneAuction() {
+        var deduplicator = deduplicator(true);
+        var sink = Sinks.<BidResponse>one();
+        var auctions = new AtomicInteger();
+
+        var first = deduplicator.execute("req-1", "ssp", () -> {
+            auctions.incrementAndGet();
+            return sink.asMono();
+        });
+        var second = deduplicator.execute("req-1", "ssp", () -> {
+            auctions.incrementAndGet();
+            return sink.asMono();
+        });
+        var firstResult = first.toFuture();
+        var secondResult = second.toFuture();
+        sink.tryEmitValue(response("req-1"));
+
+        assertEquals(1, auctions.get());
+        assertSame(firstResult.join(), secondResult.join());
+        assertEquals(1.0, hits(BidDeduplicator.HIT_IN_FLIGHT));
+    }
+
+    @Test
+    void reusesCompletedResultUntilTtlExpires() {
+        var deduplicator = deduplicator(true);
+        var auctions = new AtomicInteger();
+
+        run(deduplicator, "req-1", "ssp", auctions);
+        // No-bid results are reused as well.
+        assertNull(deduplicator.execute("req-2", "ssp", () -> {
+            auctions.incrementAndGet();
+            return Mono.empty();
+        }).block());
+        clock.addAndGet(999_000_000L);
+        run(deduplicator, "req-1", "ssp", auctions);
+        deduplicator.execute("req-2", "ssp", () -> {
+            auctions.incrementAndGet();
+            return Mono.empty();
+        }).block();
+
+        assertEquals(2, auctions.get());
+        assertEquals(2.0, hits(BidDeduplicator.HIT_CACHED));
+
+        clock.addAndGet(1_000_000L);
+        run(deduplicator, "req-1", "ssp", auctions);
+        assertEquals(3, auctions.get());
+    }
+
+    @Test
+    void keysByCallerAndDoesNotKeepFailures() {
+        var deduplicator = deduplicator(true);
+        var auctions = new AtomicInteger();
+
+        run(deduplicator, "req-1", "ssp-a", auctions);
+        run(deduplicator, "req-1", "ssp-b", auctions);
+        assertEquals(2, auctions.get());
+
+        assertThrows(FilteredRequestException.class, () -> deduplicator.execute("req-2", "ssp-a", () -> {
+            auctions.incrementAndGet();
+            return Mono.error(new FilteredRequestException("filtered"));
+        }).block());
+        run(deduplicator, "req-2", "ssp-a", auctions);
+        assertEquals(4, auctions.get());
+    }
+
+    @Test
+    void passesThroughWhenDisabled() {
+        var deduplicator = deduplicator(false);
+        var auctions = new AtomicInteger();
+
+        run(deduplicator, "req-1", "ssp", auctions);
+        run(deduplicator, "req-1", "ssp", auctions);
+
+        assertEquals(2, auctions.get());
+        assertEquals(0, deduplicator.size());
+    }
+
+    private void run(BidDeduplicator deduplicator, String requestId, String caller, AtomicInteger auctions) {
+        deduplicator.execute(requestId, caller, () -> {
+            auctions.incrementAndGet();
+            return Mono.just(response(requestId));
+        }).block();
+    }
+
+    private BidDeduplicator deduplicator(boolean enabled) {
+        var config = new BidServiceProperties.Dedup();
+        config.setEnabled(enabled);
+        config.setTtlMs(1000);
+        return new BidDeduplicator(config, new MetricsCollector(registry), clock::get);
+    }
+
+    private double hits(String type) {
+        var counter = registry.find(MetricsCollector.METRIC_BID_DEDUP_HITS_TOTAL)
+                .tags(MetricsCollector.TAG_TYPE, type)
+                .counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private static BidResponse response(String requestId) {
+        return new BidResponse(requestId, List.of(), "USD");
+    }
+}
@@ -1,22 +1,44 @@
 package ro.dede.bidbridge.engine.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 import ro.dede.bidbridge.engine.adapters.AdapterProperties;
 import ro.dede.bidbridge.engine.adapters.AdapterRegistry;
+import ro.dede.bidbridge.engine.adapters.AuctionPayloads;
+import ro.dede.bidbridge.engine.adapters.stats.AdapterLatencyTracker;
+import ro.dede.bidbridge.engine.adapters.stats.AdapterPriceTracker;
 import ro.dede.bidbridge.engine.adapters.BidderAdapter;
+import ro.dede.bidbridge.engine.adapters.circuit.AdapterCircuitBreakers;
+import ro.dede.bidbridge.engine.adapters.throttle.AdapterRateLimiter;
+import ro.dede.bidbridge.engine.adapters.throttle.BidRateThrottler;
+import ro.dede.bidbridge.engine.adapters.throttle.TrafficShaper;
+import ro.dede.bidbridge.engine.currency.CurrencyConverter;
+import ro.dede.bidbridge.engine.currency.CurrencyProperties;
+import ro.dede.bidbridge.engine.currency.FxRates;
 import ro.dede.bidbridge.engine.domain.adapter.AdapterResult;
 import ro.dede.bidbridge.engine.domain.adapter.AdapterResultStatus;
 import ro.dede.bidbridge.engine.domain.adapter.SelectedBid;
 import ro.dede.bidbridge.engine.domain.normalized.*;
+import ro.dede.bidbridge.engine.eventlog.AuctionEventLog;
+import ro.dede.bidbridge.engine.eventlog.AuctionLogProperties;
 import ro.dede.bidbridge.engine.rules.DefaultRulesEvaluator;
+import ro.dede.bidbridge.engine.rules.RulesEvaluator;
 import ro.dede.bidbridge.engine.rules.RulesProperties;
+import ro.dede.bidbridge.engine.merger.AuctionProperties;
+import ro.dede.bidbridge.engine.merger.AuctionStrategies;
 import ro.dede.bidbridge.engine.merger.DefaultResponseMerger;
+import ro.dede.bidbridge.engine.merger.EarlyCompletionPolicy;
 import ro.dede.bidbridge.engine.merger.ResponseMerger;
 import ro.dede.bidbridge.engine.observability.MetricsCollector;
+import ro.dede.bidbridge.engine.observability.RequestOutcome;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.TimeoutException;
 
@@ -35,8 +57,8 @@ class DefaultBidServiceTest {
         BidderAdapter adapterB = (request, context) -> Mono.just(AdapterResult.bid("b",
                 new SelectedBid("bid-b", "1", 2.0, "<b/>", "USD"), null));
 
-        var registry = new AdapterRegistry(Map.of("a", adapterA, "b", adapterB), properties);
-        var service = new DefaultBidService(registry, rulesEvaluator(), new DefaultResponseMerger(), metricsCollector(), serviceProperties());
+        var registry = adapterRegistry(Map.of("a", adapterA, "b", adapterB), properties);
+        var service = service(registry, rulesEvaluator(), merger(), metricsCollector(), serviceProperties());
 
         var response = service.bid(sampleRequest()).block();
 
@@ -54,8 +76,8 @@ class DefaultBidServiceTest {
         BidderAdapter adapterA = (request, context) -> Mono.just(AdapterResult.noBid("a", null));
         BidderAdapter adapterB = (request, context) -> Mono.error(new TimeoutException("timeout"));
 
-        var registry = new AdapterRegistry(Map.of("a", adapterA, "b", adapterB), properties);
-        var service = new DefaultBidService(registry, rulesEvaluator(), new DefaultResponseMerger(), metricsCollector(), serviceProperties());
+        var registry = adapterRegistry(Map.of("a", adapterA, "b", adapterB), properties);
+        var service = service(registry, rulesEvaluator(), merger(), metricsCollector(), serviceProperties());
 
         var result = service.bid(sampleRequest()).blockOptional();
 
@@ -71,8 +93,8 @@ class DefaultBidServiceTest {
         BidderAdapter adapterA = (request, context) -> Mono.error(new TimeoutException("timeout"));
         BidderAdapter adapterB = (request, context) -> Mono.error(new TimeoutException("timeout"));
 
-        var registry = new AdapterRegistry(Map.of("a", adapterA, "b", adapterB), properties);
-        var service = new DefaultBidService(registry, rulesEvaluator(), new DefaultResponseMerger(), metricsCollector(), serviceProperties());
+        var registry = adapterRegistry(Map.of("a", adapterA, "b", adapterB), properties);
+        var service = service(registry, rulesEvaluator(), merger(), metricsCollector(), serviceProperties());
 
         assertThrows(OverloadException.class, () -> service.bid(sampleRequest()).block());
     }
@@ -86,8 +108,8 @@ class DefaultBidServiceTest {
         BidderAdapter adapterA = (request, context) -> Mono.error(new RuntimeException("boom"));
         BidderAdapter adapterB = (request, context) -> Mono.error(new RuntimeException("boom"));
 
-        var registry = new AdapterRegistry(Map.of("a", adapterA, "b", adapterB), properties);
-        var service = new DefaultBidService(registry, rulesEvaluator(), new DefaultResponseMerger(), metricsCollector(), serviceProperties());
+        var registry = adapterRegistry(Map.of("a", adapterA, "b", adapterB), properties);
+        var service = service(registry, rulesEvaluator(), merger(), metricsCollector(), serviceProperties());
 
         assertThrows(AdapterFailureException.class, () -> service.bid(sampleRequest()).block());
     }
@@ -99,9 +121,9 @@ class DefaultBidServiceTest {
 
         BidderAdapter adapterA = (request, context) -> Mono.error(new BadBidderResponseException("bad response"));
 
-        var registry = new AdapterRegistry(Map.of("a", adapterA), properties);
+        var registry = adapterRegistry(Map.of("a", adapterA), properties);
         var recorder = new RecordingResponseMerger();
-        var service = new DefaultBidService(registry, rulesEvaluator(), recorder, metricsCollector(), serviceProperties());
+        var service = service(registry, rulesEvaluator(), recorder, metricsCollector(), serviceProperties());
 
         var result = service.bid(sampleRequest()).blockOptional();
 
@@ -118,8 +140,8 @@ class DefaultBidServiceTest {
     @Test
     void throwsConfigurationWhenNoAdaptersEnabled() {
         var properties = new AdapterProperties();
-        var registry = new AdapterRegistry(Map.of(), properties);
-        var service = new DefaultBidService(registry, rulesEvaluator(), new DefaultResponseMerger(), metricsCollector(), serviceProperties());
+        var registry = adapterRegistry(Map.of(), properties);
+        var service = service(registry, rulesEvaluator(), merger(), metricsCollector(), serviceProperties());
 
         assertThrows(ConfigurationException.class, () -> service.bid(sampleRequest()).block());
     }
@@ -132,10 +154,10 @@ class DefaultBidServiceTest {
         BidderAdapter adapterA = (request, context) -> Mono.just(AdapterResult.bid("a",
                 new SelectedBid("bid-a", "1", 1.0, "<a/>", "USD"), null));
 
-        var registry = new AdapterRegistry(Map.of("a", adapterA), properties);
+        var registry = adapterRegistry(Map.of("a", adapterA), properties);
         var rules = new RulesProperties();
         rules.setDenyAdapters(List.of("a"));
-        var service = new DefaultBidService(registry, new DefaultRulesEvaluator(rules), new DefaultResponseMerger(), metricsCollector(), serviceProperties());
+        var service = service(registry, new DefaultRulesEvaluator(rules), merger(), metricsCollector(), serviceProperties());
 
         assertThrows(FilteredRequestException.class, () -> service.bid(sampleRequest()).block());
     }
@@ -148,14 +170,346 @@ class DefaultBidServiceTest {
         BidderAdapter adapterA = (request, context) -> Mono.just(AdapterResult.bid("a",
                 new SelectedBid("bid-a", "1", 1.0, "<a/>", "USD"), null));
 
-        var registry = new AdapterRegistry(Map.of("a", adapterA), properties);
+        var registry = adapterRegistry(Map.of("a", adapterA), properties);
         var rules = new RulesProperties();
         rules.setMinBidfloor(10.0);
-        var service = new DefaultBidService(registry, new DefaultRulesEvaluator(rules), new DefaultResponseMerger(), metricsCollector(), serviceProperties());
+        var service = service(registry, new DefaultRulesEvaluator(rules), merger(), metricsCollector(), serviceProperties());
 
         assertThrows(FilteredRequestException.class, () -> service.bid(sampleRequest()).block());
     }
 
+    @Test
+    void passesSamePayloadsToAllAdaptersOfAnAuction() {
+        var properties = new AdapterProperties();
+        properties.getConfigs().put("a", enabledConfig());
+        properties.getConfigs().put("b", enabledConfig());
+        var seen = new CopyOnWriteArrayList<AuctionPayloads>();
+
+        BidderAdapter adapterA = (request, context) -> {
+            seen.add(context.payloads());
+            return Mono.just(AdapterResult.noBid("a", null));
+        };
+        BidderAdapter adapterB = (request, context) -> {
+            seen.add(context.payloads());
+            return Mono.just(AdapterResult.noBid("b", null));
+        };
+
+        var registry = adapterRegistry(Map.of("a", adapterA, "b", adapterB), properties);
+        var service = service(registry, rulesEvaluator(), merger(), metricsCollector(), serviceProperties());
+
+        service.bid(sampleRequest()).blockOptional();
+        service.bid(sampleRequest()).blockOptional();
+
+        assertEquals(4, seen.size());
+        assertSame(seen.get(0), seen.get(1));
+        assertSame(seen.get(2), seen.get(3));
+        assertNotSame(seen.get(0), seen.get(2));
+    }
+
+    @Test
+    void tightensTimeoutToObservedLatencyWhenAdaptive() {
+        var properties = new AdapterProperties();
+        var config = enabledConfig();
+        config.getAdaptiveTimeout().setEnabled(true);
+        config.getAdaptiveTimeout().setMarginMs(5);
+        config.getAdaptiveTimeout().setMinTimeoutMs(10);
+        config.getAdaptiveTimeout().setMinSamples(20);
+        properties.getConfigs().put("slow", config);
+        var metrics = metricsCollector();
+        var tracker = new AdapterLatencyTracker(metrics);
+        for (var i = 0; i < 20; i++) {
+            tracker.record("slow", 3);
+        }
+
+        BidderAdapter slow = (request, context) -> Mono.just(AdapterResult.bid("slow",
+                new SelectedBid("bid-s", "1", 1.0, "<s/>", "USD"), null)).delayElement(Duration.ofMillis(35));
+        var merger = new RecordingResponseMerger();
+        var registry = adapterRegistry(Map.of("slow", slow), properties);
+        var service = service(registry, rulesEvaluator(), merger, metrics, serviceProperties(),
+                tracker, new AdapterPriceTracker());
+
+        service.bid(sampleRequest()).blockOptional();
+
+        assertEquals(AdapterResultStatus.TIMEOUT, merger.results.get().getFirst().status());
+    }
+
+    @Test
+    void completesEarlyWhenBestBidReachesPriceThreshold() {
+        var properties = new AdapterProperties();
+        properties.getConfigs().put("fast", enabledConfig());
+        properties.getConfigs().put("slow", enabledConfig());
+        var slowDelivered = new AtomicBoolean();
+
+        BidderAdapter fast = (request, context) -> Mono.just(AdapterResult.bid("fast",
+                new SelectedBid("bid-f", "1", 5.0, "<f/>", "USD"), null));
+        BidderAdapter slow = (request, context) -> Mono.just(AdapterResult.bid("slow",
+                        new SelectedBid("bid-s", "1", 9.0, "<s/>", "USD"), null))
+                .delayElement(Duration.ofMillis(40))
+                .doOnNext(result -> slowDelivered.set(true));
+        var serviceProperties = serviceProperties();
+        serviceProperties.getEarlyCompletion().setEnabled(true);
+        serviceProperties.getEarlyCompletion().setPriceThreshold(4.0);
+        var registry = adapterRegistry(Map.of("fast", fast, "slow", slow), properties);
+        var meterRegistry = new SimpleMeterRegistry();
+        var service = service(registry, rulesEvaluator(), merger(),
+                new MetricsCollector(meterRegistry), serviceProperties);
+
+        var response = service.bid(sampleRequest()).block();
+
+        assertNotNull(response);
+        assertEquals(5.0, response.seatbid().getFirst().bid().getFirst().price());
+        // The outstanding call is cancelled rather than left running in the background.
+        Mono.delay(Duration.ofMillis(60)).block();
+        assertFalse(slowDelivered.get());
+        assertEquals(1.0, meterRegistry.get(MetricsCollector.METRIC_AUCTION_EARLY_COMPLETIONS_TOTAL)
+                .tag(MetricsCollector.TAG_REASON, EarlyCompletionPolicy.REASON_PRICE_THRESHOLD).counter().count());
+    }
+
+    @Test
+    void completesEarlyWhenRemainingAdaptersCannotBeatBestBid() {
+        var properties = new AdapterProperties();
+        properties.getConfigs().put("fast", enabledConfig());
+        properties.getConfigs().put("slow", enabledConfig());
+        var priceTracker = new AdapterPriceTracker();
+        priceTracker.record("slow", 1.0);
+
+        BidderAdapter fast = (request, context) -> Mono.just(AdapterResult.bid("fast",
+                new SelectedBid("bid-f", "1", 2.0, "<f/>", "USD"), null));
+        BidderAdapter slow = (request, context) -> Mono.just(AdapterResult.bid("slow",
+                new SelectedBid("bid-s", "1", 3.0, "<s/>", "USD"), null)).delayElement(Duration.ofMillis(40));
+        var serviceProperties = serviceProperties();
+        serviceProperties.getEarlyCompletion().setEnabled(true);
+        serviceProperties.getEarlyCompletion().setMinObservations(1);
+        var registry = adapterRegistry(Map.of("fast", fast, "slow", slow), properties);
+        var metrics = metricsCollector();
+        var service = service(registry, rulesEvaluator(), merger(), metrics,
+                serviceProperties, new AdapterLatencyTracker(metrics), priceTracker);
+
+        var response = service.bid(sampleRequest()).block();
+
+        assertNotNull(response);
+        assertEquals(2.0, response.seatbid().getFirst().bid().getFirst().price());
+    }
+
+    @Test
+    void recordsCallsCancelledByEarlyCompletionAtTheirTimeout() {
+        var properties = new AdapterProperties();
+        properties.getConfigs().put("fast", enabledConfig());
+        var slowConfig = enabledConfig();
+        slowConfig.getAdaptiveTimeout().setEnabled(true);
+        slowConfig.getAdaptiveTimeout().setMinSamples(1);
+        properties.getConfigs().put("slow", slowConfig);
+
+        // Both calls are in flight before the fast bid ends the auction.
+        BidderAdapter fast = (request, context) -> Mono.just(AdapterResult.bid("fast",
+                new SelectedBid("bid-f", "1", 5.0, "<f/>", "USD"), null)).delayElement(Duration.ofMillis(5));
+        BidderAdapter slow = (request, context) -> Mono.just(AdapterResult.bid("slow",
+                new SelectedBid("bid-s", "1", 9.0, "<s/>", "USD"), null)).delayElement(Duration.ofMillis(40));
+        var serviceProperties = serviceProperties();
+        serviceProperties.getEarlyCompletion().setEnabled(true);
+        serviceProperties.getEarlyCompletion().setPriceThreshold(4.0);
+        var registry = adapterRegistry(Map.of("fast", fast, "slow", slow), properties);
+        var metrics = metricsCollector();
+        var samples = new CopyOnWriteArrayList<String>();
+        var tracker = new AdapterLatencyTracker(metrics) {
+            @Override
+            public void record(String adapter, long latencyMs) {
+                samples.add(adapter + "=" + latencyMs);
+                super.record(adapter, latencyMs);
+            }
+        };
+        var service = service(registry, rulesEvaluator(), merger(), metrics, serviceProperties, tracker,
+                new AdapterPriceTracker());
+
+        for (var i = 0; i < 2; i++) {
+            assertEquals("bid-f", service.bid(sampleRequest()).block().seatbid().getFirst().bid().getFirst().id());
+        }
+
+        // The cancelled slow call counts once per auction, at its 50ms timeout rather than not at all.
+        assertEquals(List.of("slow=50", "slow=50"), samples.stream().filter(sample -> sample.startsWith("slow")).toList());
+        assertEquals(2, samples.stream().filter(sample -> sample.startsWith("fast")).count());
+    }
+
+    @Test
+    void waitsForAllAdaptersWhenEarlyCompletionDisabled() {
+        var properties = new AdapterProperties();
+        properties.getConfigs().put("fast", enabledConfig());
+        properties.getConfigs().put("slow", enabledConfig());
+
+        BidderAdapter fast = (request, context) -> Mono.just(AdapterResult.bid("fast",
+                new SelectedBid("bid-f", "1", 5.0, "<f/>", "USD"), null));
+        BidderAdapter slow = (request, context) -> Mono.just(AdapterResult.bid("slow",
+                new SelectedBid("bid-s", "1", 9.0, "<s/>", "USD"), null)).delayElement(Duration.ofMillis(20));
+        var registry = adapterRegistry(Map.of("fast", fast, "slow", slow), properties);
+        var service = service(registry, rulesEvaluator(), merger(), metricsCollector(), serviceProperties());
+
+        var response = service.bid(sampleRequest()).block();
+
+        assertNotNull(response);
+        assertEquals(9.0, response.seatbid().getFirst().bid().getFirst().price());
+    }
+
+    @Test
+    void waitsForEveryImpBeforeCompletingEarly() {
+        var properties = new AdapterProperties();
+        properties.getConfigs().put("fast", enabledConfig());
+        properties.getConfigs().put("slow", enabledConfig());
+
+        BidderAdapter fast = (request, context) -> Mono.just(AdapterResult.bid("fast",
+                new SelectedBid("bid-f", "1", 5.0, "<f/>", "USD"), null));
+        BidderAdapter slow = (request, context) -> Mono.just(AdapterResult.bid("slow",
+                new SelectedBid("bid-s", "2", 1.0, "<s/>", "USD"), null)).delayElement(Duration.ofMillis(20));
+        var serviceProperties = serviceProperties();
+        serviceProperties.getEarlyCompletion().setEnabled(true);
+        serviceProperties.getEarlyCompletion().setPriceThreshold(4.0);
+        var registry = adapterRegistry(Map.of("fast", fast, "slow", slow), properties);
+        var service = earlyCompletionService(registry, serviceProperties, new CurrencyProperties(),
+                new AuctionProperties());
+
+        var response = service.bid(request("1", "2")).block();
+
+        assertNotNull(response);
+        assertEquals(List.of("bid-f", "bid-s"), response.seatbid().stream()
+                .flatMap(seatBid -> seatBid.bid().stream())
+                .map(bid -> bid.id())
+                .toList());
+    }
+
+    @Test
+    void comparesConvertedPricesWithThePriceThreshold() {
+        var properties = new AdapterProperties();
+        properties.getConfigs().put("fast", enabledConfig());
+        properties.getConfigs().put("slow", enabledConfig());
+
+        // 5 RON is 1.0 USD, under the 4.0 threshold.
+        BidderAdapter fast = (request, context) -> Mono.just(AdapterResult.bid("fast",
+                new SelectedBid("bid-f", "1", 5.0, "<f/>", "RON"), null));
+        BidderAdapter slow = (request, context) -> Mono.just(AdapterResult.bid("slow",
+                new SelectedBid("bid-s", "1", 2.0, "<s/>", "USD"), null)).delayElement(Duration.ofMillis(20));
+        var serviceProperties = serviceProperties();
+        serviceProperties.getEarlyCompletion().setEnabled(true);
+        serviceProperties.getEarlyCompletion().setPriceThreshold(4.0);
+        var currency = new CurrencyProperties();
+        currency.getRates().put("RON", 0.2);
+        var registry = adapterRegistry(Map.of("fast", fast, "slow", slow), properties);
+        var service = earlyCompletionService(registry, serviceProperties, currency, new AuctionProperties());
+
+        var response = service.bid(sampleRequest()).block();
+
+        assertNotNull(response);
+        assertEquals("bid-s", response.seatbid().getFirst().bid().getFirst().id());
+    }
+
+    @Test
+    void waitsForTheRunnerUpUnderSecondPrice() {
+        var properties = new AdapterProperties();
+        properties.getConfigs().put("fast", enabledConfig());
+        properties.getConfigs().put("slow", enabledConfig());
+
+        BidderAdapter fast = (request, context) -> Mono.just(AdapterResult.bid("fast",
+                new SelectedBid("bid-f", "1", 5.0, "<f/>", "USD"), null));
+        BidderAdapter slow = (request, context) -> Mono.just(AdapterResult.bid("slow",
+                new SelectedBid("bid-s", "1", 3.0, "<s/>", "USD"), null)).delayElement(Duration.ofMillis(20));
+        var serviceProperties = serviceProperties();
+        serviceProperties.getEarlyCompletion().setEnabled(true);
+        serviceProperties.getEarlyCompletion().setPriceThreshold(4.0);
+        var auction = new AuctionProperties();
+        var secondPrice = new AuctionProperties.StrategyConfig();
+        secondPrice.setType(AuctionProperties.Type.SECOND_PRICE);
+        auction.setDefaultStrategy(secondPrice);
+        var registry = adapterRegistry(Map.of("fast", fast, "slow", slow), properties);
+        var service = earlyCompletionService(registry, serviceProperties, new CurrencyProperties(), auction);
+
+        var response = service.bid(sampleRequest()).block();
+
+        assertNotNull(response);
+        var bid = response.seatbid().getFirst().bid().getFirst();
+        assertEquals("bid-f", bid.id());
+        assertEquals(3.01, bid.price(), 1e-9);
+    }
+
+    @Test
+    void logsTheResultsThatArrivedWhenTheDeadlineExpires() {
+        var properties = new AdapterProperties();
+        properties.getConfigs().put("a", enabledConfig());
+        BidderAdapter adapterA = (request, context) -> Mono.just(AdapterResult.bid("a",
+                new SelectedBid("bid-a", "1", 2.0, "<a/>", "USD"), null));
+        var registry = adapterRegistry(Map.of("a", adapterA), properties);
+        var logged = new AtomicReference<List<AdapterResult>>();
+        var outcome = new AtomicReference<RequestOutcome>();
+        var logProperties = new AuctionLogProperties();
+        logProperties.setEnabled(true);
+        logProperties.setRingSize(2);
+        var metrics = metricsCollector();
+        var eventLog = new AuctionEventLog(logProperties, metrics) {
+            @Override
+            public void record(String requestId, String caller, List<AdapterResult> results, FxRates rates,
+                               long latencyMs, double winningPrice, RequestOutcome requestOutcome) {
+                logged.set(results);
+                outcome.set(requestOutcome);
+            }
+        };
+        // The merge never finishes, so the request deadline fires after every adapter answered.
+        ResponseMerger stuck = (request, results) -> Mono.never();
+        var converter = new CurrencyConverter(new CurrencyProperties());
+        var service = new DefaultBidService(registry, rulesEvaluator(), stuck, metrics, serviceProperties(),
+                new AdapterLatencyTracker(metrics), new AdapterPriceTracker(), trafficShaper(metrics, converter),
+                new BidDeduplicator(serviceProperties(), metrics), eventLog, converter,
+                new AuctionStrategies(new AuctionProperties()));
+
+        assertThrows(OverloadException.class, () -> service.bid(sampleRequest()).block());
+
+        assertEquals(RequestOutcome.NO_BID_TIMEOUT_DEADLINE, outcome.get());
+        assertEquals(1, logged.get().size());
+        assertEquals("bid-a", logged.get().getFirst().bid().id());
+    }
+
+    @Test
+    void dropsRequestThatSpentItsBudgetBeforeReachingTheService() {
+        var properties = new AdapterProperties();
+        properties.getConfigs().put("a", enabledConfig());
+        var called = new AtomicBoolean(false);
+        BidderAdapter adapterA = (request, context) -> {
+            called.set(true);
+            return Mono.just(AdapterResult.noBid("a", null));
+        };
+        var meterRegistry = new SimpleMeterRegistry();
+        var registry = adapterRegistry(Map.of("a", adapterA), properties);
+        var service = service(registry, rulesEvaluator(), merger(),
+                new MetricsCollector(meterRegistry), serviceProperties());
+        // Arrived 95ms ago with tmax 100: 5ms left is under the 10ms minimum.
+        var deadline = new RequestDeadline(System.nanoTime() - 95_000_000L);
+
+        var error = assertThrows(OverloadException.class, () -> service.bid(sampleRequest())
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, deadline))
+                .block());
+
+        assertEquals(OverloadException.Reason.REQUEST_DEADLINE_TIMEOUT, error.reason());
+        assertFalse(called.get());
+        assertEquals(1.0, meterRegistry.get(MetricsCollector.METRIC_ENGINE_REJECTED_TOTAL)
+                .tag(MetricsCollector.TAG_REASON, MetricsCollector.REASON_DEADLINE).counter().count());
+    }
+
+    @Test
+    void boundsAuctionByTimeLeftSinceArrival() {
+        var properties = new AdapterProperties();
+        var config = enabledConfig();
+        config.setTimeoutMs(1_000);
+        properties.getConfigs().put("slow", config);
+        BidderAdapter slow = (request, context) -> Mono.just(AdapterResult.bid("slow",
+                new SelectedBid("bid-s", "1", 9.0, "<s/>", "USD"), null)).delayElement(Duration.ofMillis(70));
+        var registry = adapterRegistry(Map.of("slow", slow), properties);
+        var service = service(registry, rulesEvaluator(), merger(), metricsCollector(), serviceProperties());
+        // 50ms of the 100ms tmax already spent upstream, so a 70ms bidder no longer fits.
+        var deadline = new RequestDeadline(System.nanoTime() - 50_000_000L);
+
+        var error = assertThrows(OverloadException.class, () -> service.bid(sampleRequest())
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, deadline))
+                .block());
+
+        assertEquals(OverloadException.Reason.ALL_ADAPTERS_TIMED_OUT, error.reason());
+    }
+
     private AdapterProperties.AdapterConfig enabledConfig() {
         var config = new AdapterProperties.AdapterConfig();
         config.setEnabled(true);
@@ -163,6 +517,70 @@ class DefaultBidServiceTest {
         return config;
     }
 
+    private DefaultBidService earlyCompletionService(AdapterRegistry registry,
+                                                     BidServiceProperties serviceProperties,
+                                                     CurrencyProperties currency,
+                                                     AuctionProperties auction) {
+        var metrics = metricsCollector();
+        var converter = new CurrencyConverter(currency);
+        var strategies = new AuctionStrategies(auction);
+        return new DefaultBidService(registry, rulesEvaluator(),
+                new DefaultResponseMerger(converter, metrics, strategies), metrics, serviceProperties,
+                new AdapterLatencyTracker(metrics), new AdapterPriceTracker(), trafficShaper(metrics, converter),
+                new BidDeduplicator(serviceProperties, metrics), new AuctionEventLog(new AuctionLogProperties(), metrics),
+                converter, strategies);
+    }
+
+    private DefaultBidService service(AdapterRegistry registry,
+                                      RulesEvaluator rulesEvaluator,
+                                      ResponseMerger merger,
+                                      MetricsCollector metrics,
+                                      BidServiceProperties serviceProperties) {
+        return service(registry, rulesEvaluator, merger, metrics, serviceProperties,
+                new AdapterLatencyTracker(metrics), new AdapterPriceTracker());
+    }
+
+    // Real collaborators with their defaults: no shaping, deduplication or event log unless configured.
+    private DefaultBidService service(AdapterRegistry registry,
+                                      RulesEvaluator rulesEvaluator,
+                                      ResponseMerger merger,
+                                      MetricsCollector metrics,
+                                      BidServiceProperties serviceProperties,
+                                      AdapterLatencyTracker latencyTracker,
+                                      AdapterPriceTracker priceTracker) {
+        var converter = new CurrencyConverter(new CurrencyProperties());
+        return new DefaultBidService(registry, rulesEvaluator, merger, metrics, serviceProperties, latencyTracker,
+                priceTracker, trafficShaper(metrics, converter), new BidDeduplicator(serviceProperties, metrics),
+                new AuctionEventLog(new AuctionLogProperties(), metrics), converter,
+                new AuctionStrategies(new AuctionProperties()));
+    }
+
+    private static TrafficShaper trafficShaper(MetricsCollector metrics, CurrencyConverter converter) {
+        return new TrafficShaper(new AdapterRateLimiter(), new BidRateThrottler(metrics, converter), metrics);
+    }
+
+    private DefaultResponseMerger merger() {
+        return new DefaultResponseMerger(new CurrencyConverter(new CurrencyProperties()), metricsCollector(),
+                new AuctionStrategies(new AuctionProperties()));
+    }
+
+    private NormalizedBidRequest request(String... impIds) {
+        return new NormalizedBidRequest(
+                "req-1",
+                Arrays.stream(impIds)
+                        .map(id -> new NormalizedImp(id, ImpType.BANNER, 0.0, Map.of()))
+                        .toList(),
+                InventoryType.SITE,
+                100,
+                new NormalizedDevice("ua", "ip", "os", 1, Map.of()),
+                Map.of(),
+                Map.of(),
+                null,
+                null,
+                null
+        );
+    }
+
     private NormalizedBidRequest sampleRequest() {
         return new NormalizedBidRequest(
                 "req-1",
@@ -178,6 +596,10 @@ class DefaultBidServiceTest {
         );
     }
 
+    private AdapterRegistry adapterRegistry(Map<String, BidderAdapter> adapters, AdapterProperties properties) {
+        return new AdapterRegistry(adapters, properties, new AdapterCircuitBreakers(metricsCollector()));
+    }
+
     private DefaultRulesEvaluator rulesEvaluator() {
         return new DefaultRulesEvaluator(new RulesProperties());
     }